@@ -27,9 +27,10 @@
 import static org.fusesource.jansi.Ansi.*;
 
 import java.awt.Desktop;
-import java.io.IOException;
+import java.io.*;
 import java.net.URI;
 import java.nio.file.*;
+import java.time.Duration;
 import java.util.*;
 
 import org.apache.catalina.*;
@@ -48,6 +49,7 @@
 import dev.guise.catalina.webresources.SiteRoot;
 import dev.guise.mummy.*;
 import dev.guise.mummy.mummify.Mummifier;
+import picocli.CommandLine;
 import picocli.CommandLine.*;
 
 /// Command-line interface for Guise tasks.
@@ -63,21 +65,123 @@ public class GuiseCli extends BaseCliApplication {
 	/// The default server port used by the `serve` command.
 	private final static int DEFAULT_SERVER_PORT = 4040;
 
+	/// The path of the Unix domain socket of the build daemon, relative to the user home directory.
+	private static final Path DAEMON_SOCKET_RELATIVE_PATH = Paths.get(".guise", "daemon.sock");
+
+	/// The names of the commands that are forwarded to a running build daemon. Other commands, such as those that run until interrupted, are always executed
+	/// in-process.
+	private static final Set<String> DAEMON_COMMAND_NAMES = Set.of("validate", "clean", "plan", "mummify", "prepare-deploy", "deploy");
+
+	/// The path of the class data sharing archive recorded by the `warmup` command, relative to the user home directory.
+	private static final Path WARMUP_ARCHIVE_RELATIVE_PATH = Paths.get(".guise", "guise.jsa");
+
+	/// The resource path of the sample site mummified by the `warmup` command, relative to this class.
+	private static final String WARMUP_SITE_RESOURCE_PATH = "warmup/site/";
+
+	/// The source files of the sample site mummified by the `warmup` command, relative to [#WARMUP_SITE_RESOURCE_PATH].
+	private static final List<String> WARMUP_SITE_RESOURCE_NAMES = List.of(".template.xhtml", "index.md", "about.md", "products/widget.xhtml",
+			"_assets/css/site.css");
+
+	/// The environment variable from which the `java` launcher reads additional JVM options.
+	private static final String JDK_JAVA_OPTIONS_ENV_VAR = "JDK_JAVA_OPTIONS";
+
+	/// The working directory against which a relative project directory is resolved, or `null` if the working directory of this process is to be used.
+	@Nullable
+	private final Path workingDirectory;
+
+	/// The status with which the application exited when executing on behalf of another process.
+	private volatile int exitStatus = 0;
+
+	/// Returns the status with which the application exited when executing on behalf of another process such as a [GuiseDaemonClient].
+	/// @return The exit status, or `0` if the application has not exited with another status.
+	int getExitStatus() {
+		return exitStatus;
+	}
+
 	/// Constructor.
 	/// @param args The command line arguments.
 	public GuiseCli(@NonNull final String[] args) {
+		this(args, null);
+	}
+
+	/// Working directory constructor, for executing commands on behalf of another process such as a [GuiseDaemonClient].
+	/// @param args The command line arguments.
+	/// @param workingDirectory The working directory against which a relative project directory is resolved, or `null` if the working directory of this process
+	///          is to be used.
+	GuiseCli(@NonNull final String[] args, @Nullable final Path workingDirectory) {
 		super(args, Level.INFO);
+		this.workingDirectory = workingDirectory;
 		//bridge JUL to SLF4J for Tomcat logging
 		SLF4JBridgeHandler.removeHandlersForRootLogger();
 		SLF4JBridgeHandler.install();
 	}
 
 	/// Main program entry method.
+	/// @implSpec If the arguments specify a command that can be executed by a build daemon, and a daemon is running, the command is forwarded to the daemon
+	///           and the program exits with the exit code of the command. Otherwise the command is executed in-process.
+	/// @implNote The daemon socket file is checked before the arguments are parsed, so that no application is created for parsing in the common case of no
+	///           daemon.
 	/// @param args Program arguments.
+	/// @see #isDaemonCommand(String[])
 	public static void main(@NonNull final String[] args) {
+		if(Files.exists(getDaemonSocketPath()) && isDaemonCommand(args)) {
+			final OptionalInt daemonExitCode;
+			try {
+				daemonExitCode = new GuiseDaemonClient(getDaemonSocketPath()).execute(getWorkingDirectory(), args, System.out, System.err);
+			} catch(final IOException ioException) {
+				System.err.println("Error communicating with Guise daemon: " + ioException.getMessage()); //TODO i18n
+				System.exit(1);
+				return;
+			}
+			if(daemonExitCode.isPresent()) {
+				System.exit(daemonExitCode.getAsInt());
+			}
+		}
 		Application.start(new GuiseCli(args));
 	}
 
+	/// Determines whether the given arguments specify a command that may be forwarded to a build daemon.
+	/// @implSpec Arguments that cannot be parsed are not forwarded, so that the error is reported in-process as usual. Only commands in
+	///           [#DAEMON_COMMAND_NAMES] are forwarded, and `mummify` only if not watching.
+	/// @param args Program arguments.
+	/// @return `true` if the command may be executed by a daemon.
+	static boolean isDaemonCommand(@NonNull final String[] args) {
+		final ParseResult parseResult;
+		try {
+			parseResult = new CommandLine(new GuiseCli(args)).parseArgs(args);
+		} catch(final ParameterException parameterException) {
+			return false;
+		}
+		final ParseResult commandParseResult = parseResult.subcommand();
+		return commandParseResult != null && DAEMON_COMMAND_NAMES.contains(commandParseResult.commandSpec().name())
+				&& !commandParseResult.hasMatchedOption("--watch");
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec When executing on behalf of another process such as a [GuiseDaemonClient], this implementation records the status to be returned by
+	///           [#getExitStatus()] instead of exiting the JVM, which is shared with other commands.
+	@Override
+	public void exit(final int status) {
+		if(workingDirectory == null) {
+			super.exit(status);
+			return;
+		}
+		exitStatus = status;
+	}
+
+	/// @return The path of the Unix domain socket at which the build daemon listens.
+	static Path getDaemonSocketPath() {
+		return Paths.get(System.getProperty("user.home")).resolve(DAEMON_SOCKET_RELATIVE_PATH);
+	}
+
+	/// Determines the project directory from the command-line argument, if any.
+	/// @param argProjectDirectory The project directory given on the command line, which may be relative to the working directory; or `null` if none was given.
+	/// @return The absolute project directory, which defaults to the working directory.
+	protected Path resolveProjectDirectory(@Nullable final Path argProjectDirectory) {
+		final Path baseDirectory = workingDirectory != null ? workingDirectory : getWorkingDirectory();
+		return (argProjectDirectory != null ? baseDirectory.resolve(argProjectDirectory) : baseDirectory).toAbsolutePath();
+	}
+
 	/// Logs information about the current Guise project.
 	/// @param project The Guise project.
 	/// @see #getLogger()
@@ -99,7 +203,7 @@ protected void logProjectInfo(@NonNull final GuiseProject project) {
 	/// @throws IOException if an I/O error occurs.
 	@Command(description = "Validates a Guise project before mummification.", mixinStandardHelpOptions = true)
 	public void validate(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-source-dir", description = "The source root directory of the site to mummify.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory into which the site will be generated; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory into which the site description will be generated; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory)
@@ -107,10 +211,10 @@ public void validate(
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final GuiseMummy mummifier = new GuiseMummy();
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), argSiteSourceDirectory, argSiteTargetDirectory,
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
 				argSiteDescriptionTargetDirectory);
 
 		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Validate...").reset());
@@ -128,16 +232,16 @@ public void validate(
 	/// @throws IOException if an I/O error occurs.
 	@Command(description = "Cleans a site by removing the site target directory.", mixinStandardHelpOptions = true)
 	public void clean(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory of the site to be removed; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory of the site description to be removed; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory)
 			throws IOException {
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), null, argSiteTargetDirectory, argSiteDescriptionTargetDirectory);
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, null, argSiteTargetDirectory, argSiteDescriptionTargetDirectory);
 		final Configuration projectConfiguration = project.getConfiguration();
 		final Path siteTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_TARGET_DIRECTORY);
 		final Path siteDescriptionTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
@@ -162,7 +266,7 @@ public void clean(
 	/// @throws IOException if an I/O error occurs.
 	@Command(description = "Plans a site by discovering and classifying artifacts.", mixinStandardHelpOptions = true)
 	public void plan(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-source-dir", description = "The source root directory of the site.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory into which the site will be generated; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory into which the site description will be generated; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory,
@@ -171,10 +275,10 @@ public void plan(
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final GuiseMummy mummifier = new GuiseMummy();
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), argSiteSourceDirectory, argSiteTargetDirectory,
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
 				argSiteDescriptionTargetDirectory);
 		mummifier.setVerbose(isVerbose());
 
@@ -195,34 +299,44 @@ public void plan(
 	/// @param argSiteDescriptionTargetDirectory The target root directory into which the site description will be generated.
 	/// @param full Specifies full instead of incremental mummification.
 	/// @param describePlan Prints a human-readable description of the site plan.
+	/// @param profile Measures the time and memory used by each phase, artifact, and page processing stage, and writes reports.
+	/// @param watch Continues watching the site source directory after mummification, mummifying the site again whenever it changes.
 	/// @throws IOException if an I/O error occurs.
 	@Command(description = "Mummifies a site by generating a static version.", mixinStandardHelpOptions = true)
 	public void mummify(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project to mummify.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-source-dir", description = "The source root directory of the site to mummify.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory into which the site will be generated; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory into which the site description will be generated; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory,
 			@Option(names = {"--full",
 					"-f"}, description = "Specifies full instead of incremental mummification.%nCached artifacts will be regenerated.", defaultValue = "false") final boolean full,
-			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan)
+			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan,
+			@Option(names = "--profile", description = "Measures the time and memory used by each phase, artifact, and page processing stage.%nReports are written to the site description target directory.", defaultValue = "false") final boolean profile,
+			@Option(names = {"--watch",
+					"-w"}, description = "Continues watching the site source directory after mummification, mummifying the site again whenever it changes.%nOnly the first mummification will be full if requested.", defaultValue = "false") final boolean watch)
 			throws IOException {
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final GuiseMummy mummifier = new GuiseMummy();
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), argSiteSourceDirectory, argSiteTargetDirectory,
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
 				argSiteDescriptionTargetDirectory);
 		mummifier.setFull(full);
 		mummifier.setVerbose(isVerbose());
+		mummifier.setProfile(profile);
 
 		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Mummify...").reset());
 		logProjectInfo(project);
 
 		final Set<GuiseMummy.MummyExecution> executions = describePlan ? EnumSet.of(GuiseMummy.MummyExecution.DESCRIBE_PLAN)
 				: EnumSet.noneOf(GuiseMummy.MummyExecution.class);
-		mummifier.mummify(project, GuiseMummy.LifeCyclePhase.MUMMIFY, executions);
+		if(watch) {
+			mummifier.watch(project, executions); //returns only if interrupted
+		} else {
+			mummifier.mummify(project, GuiseMummy.LifeCyclePhase.MUMMIFY, executions);
+		}
 
 		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Done.").reset());
 	}
@@ -234,27 +348,30 @@ public void mummify(
 	/// @param argSiteDescriptionTargetDirectory The target root directory into which the site description will be generated.
 	/// @param full Specifies full instead of incremental mummification.
 	/// @param describePlan Prints a human-readable description of the site plan.
+	/// @param profile Measures the time and memory used by each phase, artifact, and page processing stage, and writes reports.
 	/// @throws IOException if an I/O error occurs.
 	@Command(name = "prepare-deploy", description = "Prepares to deploys a site after generating a static version, but does not actually deploy the site.", mixinStandardHelpOptions = true)
 	public void prepareDeploy(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project to deploy.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project to deploy.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-source-dir", description = "The source root directory of the site to mummify.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory into which the site will be generated; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory into which the site description will be generated; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory,
 			@Option(names = {"--full",
 					"-f"}, description = "Specifies full instead of incremental mummification.%nCached artifacts will be regenerated.", defaultValue = "false") final boolean full,
-			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan)
+			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan,
+			@Option(names = "--profile", description = "Measures the time and memory used by each phase, artifact, and page processing stage.%nReports are written to the site description target directory.", defaultValue = "false") final boolean profile)
 			throws IOException {
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final GuiseMummy mummifier = new GuiseMummy();
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), argSiteSourceDirectory, argSiteTargetDirectory,
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
 				argSiteDescriptionTargetDirectory);
 		mummifier.setFull(full);
 		mummifier.setVerbose(isVerbose());
+		mummifier.setProfile(profile);
 
 		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Prepare Deploy...").reset());
 		logProjectInfo(project);
@@ -274,28 +391,31 @@ public void prepareDeploy(
 	/// @param browse Opens a browser to the site after starting the server.
 	/// @param full Specifies full instead of incremental mummification and deployment.
 	/// @param describePlan Prints a human-readable description of the site plan.
+	/// @param profile Measures the time and memory used by each phase, artifact, and page processing stage, and writes reports.
 	/// @throws IOException if an I/O error occurs.
 	@Command(description = "Deploys a site after generating a static version.", mixinStandardHelpOptions = true)
 	public void deploy(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project to deploy.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project to deploy.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
 			@Option(names = "--site-source-dir", description = "The source root directory of the site to mummify.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory into which the site will be generated; will be created if needed.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory into which the site description will be generated; will be created if needed.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory,
 			@Option(names = {"--browse", "-b"}, description = "Opens a browser to the site after starting the server.") final boolean browse,
 			@Option(names = {"--full",
 					"-f"}, description = "Specifies full instead of incremental mummification and deployment.%nCached artifacts will be regenerated and all artifacts will be redeployed.", defaultValue = "false") final boolean full,
-			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan)
+			@Option(names = "--describe-plan", description = "Prints a human-readable description of the site plan.", defaultValue = "false") final boolean describePlan,
+			@Option(names = "--profile", description = "Measures the time and memory used by each phase, artifact, and page processing stage.%nReports are written to the site description target directory.", defaultValue = "false") final boolean profile)
 			throws IOException {
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final GuiseMummy mummifier = new GuiseMummy();
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), argSiteSourceDirectory, argSiteTargetDirectory,
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
 				argSiteDescriptionTargetDirectory);
 		mummifier.setFull(full);
 		mummifier.setVerbose(isVerbose());
+		mummifier.setProfile(profile);
 
 		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Deploy...").reset());
 		logProjectInfo(project);
@@ -316,39 +436,171 @@ public void deploy(
 		}
 	}
 
+	/// Runs a build daemon, keeping the JVM warm so that other commands run while the daemon is running are executed faster.
+	/// @throws IOException if an I/O error occurs, such as if a daemon is already running.
+	@Command(description = "Runs a build daemon to which other commands will be forwarded, avoiding JVM startup for each build.%nContinues running until stopped.", mixinStandardHelpOptions = true)
+	public void daemon() throws IOException {
+
+		logAppInfo();
+
+		final Path socketPath = getDaemonSocketPath();
+
+		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Daemon...").reset());
+		getLogger().info("Daemon socket: {}", socketPath);
+
+		try (final GuiseDaemon daemon = new GuiseDaemon(socketPath)) {
+			//Ctrl+C does not unwind the stack, so make sure the socket file is removed on shutdown
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					daemon.close();
+				} catch(final IOException ioException) {
+					getLogger().warn("Error stopping daemon: {}", ioException.getMessage()); //TODO i18n
+				}
+			}));
+			getLogger().info("Daemon listening for commands. (Press Ctrl+C to stop.)");
+			daemon.run();
+		}
+
+		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Done.").reset());
+	}
+
+	/// Records a dynamic application class data sharing (AppCDS) archive to reduce JVM startup time, by mummifying a bundled sample site in a separate JVM
+	/// that archives the classes it loaded when it exits. The sample site is then mummified again using the archive, and the times of both runs are reported.
+	/// @apiNote The archive is only valid for the JVM and class path used to record it, and must be recorded again after upgrading either.
+	/// @param argArchiveFile The class data sharing archive file to record.
+	/// @param train Mummifies the sample site in this JVM; used by the JVM launched to record the archive.
+	/// @throws IOException if an I/O error occurs, or if the archive could not be recorded.
+	/// @throws InterruptedException if interrupted while waiting for the training JVM.
+	@Command(description = "Records a class data sharing archive by mummifying a bundled sample site, reducing the startup time of later commands.", mixinStandardHelpOptions = true)
+	public void warmup(
+			@Option(names = "--archive", paramLabel = "<file>", description = "The class data sharing archive file to record.%nDefaults to @|bold .guise/guise.jsa|@ in the user home directory.") @Nullable Path argArchiveFile,
+			@Option(names = "--train", hidden = true, description = "Mummifies the sample site in this JVM.") final boolean train)
+			throws IOException, InterruptedException {
+
+		if(train) {
+			mummifyWarmupSite();
+			return;
+		}
+
+		logAppInfo();
+
+		final Path archiveFile = argArchiveFile != null ? argArchiveFile.toAbsolutePath()
+				: Paths.get(System.getProperty("user.home")).resolve(WARMUP_ARCHIVE_RELATIVE_PATH);
+
+		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Warmup...").reset());
+		getLogger().info("Class data sharing archive: {}", archiveFile);
+
+		Files.createDirectories(archiveFile.getParent());
+		final Duration recordingDuration = runWarmupJvm("-XX:ArchiveClassesAtExit=" + archiveFile);
+		if(!Files.isRegularFile(archiveFile)) {
+			throw new IOException("Class data sharing archive %s was not recorded.".formatted(archiveFile)); //TODO i18n
+		}
+		getLogger().info("Sample site mummified while recording archive in {} ms.", recordingDuration.toMillis());
+		final Duration archivedDuration = runWarmupJvm("-XX:SharedArchiveFile=" + archiveFile);
+		getLogger().info("Sample site mummified using archive in {} ms.", archivedDuration.toMillis());
+		getLogger().info("To use the archive, launch Guise with the JVM option `-XX:SharedArchiveFile={}`.", archiveFile);
+
+		System.out.println(ansi().bold().fg(Ansi.Color.BLUE).a("Done.").reset());
+	}
+
+	/// Runs the `warmup` command in training mode in a separate JVM, using the same JVM and class path as this one.
+	/// @implSpec Any JVM options from the [#JDK_JAVA_OPTIONS_ENV_VAR] environment variable are not passed on, as they might already specify an archive.
+	/// @implSpec Output of the JVM is discarded unless verbose output is enabled.
+	/// @param jvmOption The JVM option specifying the archive to record or use.
+	/// @return The time the JVM took to run, including startup.
+	/// @throws IOException if there is an I/O error launching the JVM, or if the JVM fails.
+	/// @throws InterruptedException if interrupted while waiting for the JVM.
+	protected Duration runWarmupJvm(@NonNull final String jvmOption) throws IOException, InterruptedException {
+		final Path javaExecutable = Paths.get(System.getProperty("java.home"), "bin", "java");
+		final ProcessBuilder processBuilder = new ProcessBuilder(javaExecutable.toString(), jvmOption, "-cp", System.getProperty("java.class.path"),
+				GuiseCli.class.getName(), "warmup", "--train");
+		processBuilder.environment().remove(JDK_JAVA_OPTIONS_ENV_VAR);
+		if(isVerbose()) {
+			processBuilder.inheritIO();
+		} else {
+			processBuilder.redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+		}
+		final long startNanos = System.nanoTime();
+		final int exitCode = processBuilder.start().waitFor();
+		final Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+		if(exitCode != 0) {
+			throw new IOException("Warmup JVM failed with exit code %d.".formatted(exitCode)); //TODO i18n
+		}
+		return duration;
+	}
+
+	/// Fully mummifies the bundled sample site in a temporary project directory, which is deleted afterwards. This loads the classes typically used for
+	/// planning and mummifying a site.
+	/// @throws IOException if an I/O error occurs.
+	protected void mummifyWarmupSite() throws IOException {
+		final Path projectDirectory = Files.createTempDirectory("guise-warmup");
+		try {
+			final Path siteSourceDirectory = projectDirectory.resolve(DEFAULT_PROJECT_SITE_SOURCE_RELATIVE_DIR);
+			for(final String resourceName : WARMUP_SITE_RESOURCE_NAMES) {
+				final Path sourceFile = siteSourceDirectory.resolve(resourceName);
+				Files.createDirectories(sourceFile.getParent());
+				try (final InputStream inputStream = GuiseCli.class.getResourceAsStream(WARMUP_SITE_RESOURCE_PATH + resourceName)) {
+					Files.copy(Objects.requireNonNull(inputStream, "Missing warmup site resource `%s`.".formatted(resourceName)), sourceFile);
+				}
+			}
+			final GuiseMummy mummifier = new GuiseMummy();
+			mummifier.setFull(true);
+			mummifier.mummify(GuiseMummy.createProject(projectDirectory, null, null, null), GuiseMummy.LifeCyclePhase.MUMMIFY,
+					EnumSet.of(GuiseMummy.MummyExecution.DESCRIBE_PLAN));
+		} finally {
+			deleteFileTree(projectDirectory);
+		}
+	}
+
 	/// The relative path of the server base directory; meant to be used in conjunction with the temporary directory.
 	private static final Path SERVER_RELATIVE_BASE_DIRECTORY = Paths.get("guise", "mummy", "server"); //TODO use constants
 
 	/// Starts a web server for exploring the site in the target directory.
 	/// @param argProjectDirectory The base directory of the project being served.
+	/// @param argSiteSourceDirectory The source root directory of the site to mummify on demand.
 	/// @param argSiteTargetDirectory The target root directory of the site to be served.
 	/// @param argSiteDescriptionTargetDirectory The target root directory of the description of the site to be served.
 	/// @param argPort Specifies the server port.
 	/// @param browse Opens a browser to the site after starting the server.
+	/// @param live Mummifies each requested artifact on demand if it is missing or out of date, instead of serving only a previously generated site.
 	/// @throws IOException if an I/O error occurs.
 	/// @throws LifecycleException if there is a problem starting the server.
 	@Command(description = "Starts a web server for exploring the site in the target directory.", mixinStandardHelpOptions = true)
 	public void serve(
-			@Parameters(paramLabel = "<project>", description = "The base directory of the project being served.%nDefaults to the working directory, currently @|bold ${DEFAULT-VALUE}|@.", defaultValue = "${sys:user.dir}", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Parameters(paramLabel = "<project>", description = "The base directory of the project being served.%nDefaults to the working directory.", arity = "0..1") @Nullable Path argProjectDirectory,
+			@Option(names = "--site-source-dir", description = "The source root directory of the site to mummify on demand in live mode.%nDefaults to @|bold src/site/|@ relative to the project base directory.") @Nullable Path argSiteSourceDirectory,
 			@Option(names = "--site-target-dir", description = "The target root directory of the site to be served.%nDefaults to @|bold target/site/|@ relative to the project base directory.") @Nullable Path argSiteTargetDirectory,
 			@Option(names = "--site-description-target-dir", description = "The target root directory of the description of the site to be served.%nDefaults to @|bold target/site-description/|@ relative to the project base directory.") @Nullable Path argSiteDescriptionTargetDirectory,
 			@Option(names = {"--port", "-p"}, description = "Specifies the server port.%nDefaults to @|bold ${DEFAULT-VALUE}|@.", defaultValue = ""
 					+ DEFAULT_SERVER_PORT) Integer argPort,
-			@Option(names = {"--browse", "-b"}, description = "Opens a browser to the site after starting the server.") final boolean browse)
+			@Option(names = {"--browse", "-b"}, description = "Opens a browser to the site after starting the server.") final boolean browse,
+			@Option(names = "--live", description = "Mummifies each requested artifact on demand if it is missing or out of date.%nThe site need not be mummified beforehand.", defaultValue = "false") final boolean live)
 			throws IOException, LifecycleException {
 
 		logAppInfo();
 
-		final Path projectDirectory = argProjectDirectory != null ? argProjectDirectory : getWorkingDirectory();
+		final Path projectDirectory = resolveProjectDirectory(argProjectDirectory);
 
 		final Path siteTargetDirectory;
 		final Path siteDescriptionTargetDirectory;
 		final Path serverBaseDirectory;
 		final int port;
-		final GuiseProject project = GuiseMummy.createProject(projectDirectory.toAbsolutePath(), null, argSiteTargetDirectory, argSiteDescriptionTargetDirectory);
+		final GuiseProject project = GuiseMummy.createProject(projectDirectory, argSiteSourceDirectory, argSiteTargetDirectory,
+				argSiteDescriptionTargetDirectory);
 		final Configuration projectConfiguration = project.getConfiguration();
-		siteTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_TARGET_DIRECTORY);
-		siteDescriptionTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
+		final LiveSite liveSite; //nullable
+		if(live) {
+			final GuiseMummy mummifier = new GuiseMummy();
+			mummifier.setVerbose(isVerbose());
+			liveSite = mummifier.openLiveSite(project);
+			//the site configuration may override the target directories
+			siteTargetDirectory = liveSite.getSiteTargetDirectory();
+			siteDescriptionTargetDirectory = liveSite.getSiteDescriptionTargetDirectory();
+		} else {
+			liveSite = null;
+			siteTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_TARGET_DIRECTORY);
+			siteDescriptionTargetDirectory = projectConfiguration.getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
+		}
 
 		//As per the servlet specification, Tomcat requires a base directory, but currently puts nothing inside it except for a `work` directory.
 		//This implementation therefore uses a common server directory location relative to the system temporary directory.
@@ -373,6 +625,16 @@ public void serve(
 		final Context context = tomcat.addContext("", siteTargetDirectory.toAbsolutePath().toString());
 		final SiteRoot siteRoot = new SiteRoot(siteDescriptionTargetDirectory.toAbsolutePath().toString());
 		siteRoot.setDescriptionFileSidecarExtension(Mummifier.DESCRIPTION_FILE_SIDECAR_EXTENSION);
+		if(liveSite != null) {
+			siteRoot.setFilePreparer(targetFile -> {
+				try {
+					liveSite.mummifyTarget(targetFile);
+				} catch(final IOException ioException) {
+					throw new UncheckedIOException(ioException);
+				}
+			});
+			siteRoot.setCachingAllowed(false); //files may be regenerated at any time
+		}
 		context.setResources(siteRoot);
 
 		final Wrapper defaultServlet = context.createWrapper(); //TODO use constants below
@@ -400,7 +662,13 @@ public void serve(
 			Desktop.getDesktop().browse(siteLocalUrl);
 		}
 
-		tomcat.getServer().await();
+		try {
+			tomcat.getServer().await();
+		} finally {
+			if(liveSite != null) {
+				liveSite.close();
+			}
+		}
 	}
 
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.cli;
+
+import static java.nio.file.Files.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+import org.jspecify.annotations.*;
+
+import com.globalmentor.application.Application;
+
+import io.clogr.Clogged;
+
+/// Build daemon that keeps a JVM running to execute Guise CLI commands forwarded by a [GuiseDaemonClient] over a Unix domain socket. This avoids the JVM
+/// startup and class loading cost of each command, and lets the JIT compiler and any shared in-memory caches stay warm from one build to the next.
+///
+/// Each request consists of the working directory of the client followed by the command-line arguments. The response is a series of frames, each starting
+/// with a frame type: [#FRAME_TYPE_OUT] and [#FRAME_TYPE_ERR] frames carry output of the command, and a final [#FRAME_TYPE_EXIT] frame carries its exit code.
+///
+/// The daemon serves a single client at a time. While a command executes, [System#out] and [System#err] are redirected to the client for the whole process,
+/// because console logging and the command-line parser write to the standard streams rather than to streams of the command. The daemon therefore relies on
+/// two invariants:
+/// - Requests are never handled concurrently; a client connecting while a command executes waits until that command finishes.
+/// - Nothing else in the daemon's process writes to the standard streams while a command executes, or such output would be sent to the client.
+/// @implSpec Commands are executed one at a time, each started using [Application#start(Application)] as if run from the command line, except that exiting
+///           does not exit the daemon's JVM.
+/// @implNote Because the standard output streams are redirected, this class is not suitable for running in a process performing other tasks concurrently.
+/// @author Garret Wilson
+public class GuiseDaemon implements Closeable, Clogged {
+
+	/// The response frame type carrying the exit code of the command; always the last frame of a response.
+	static final byte FRAME_TYPE_EXIT = 0;
+	/// The response frame type carrying bytes written by the command to standard output.
+	static final byte FRAME_TYPE_OUT = 1;
+	/// The response frame type carrying bytes written by the command to standard error.
+	static final byte FRAME_TYPE_ERR = 2;
+
+	private final Path socketPath;
+
+	/// @return The path of the Unix domain socket at which the daemon listens.
+	public Path getSocketPath() {
+		return socketPath;
+	}
+
+	private final ServerSocketChannel serverChannel;
+
+	/// Constructor. The daemon begins listening immediately, but will not accept requests until [#run()] is called.
+	/// @implSpec Any socket file left by a daemon no longer running is replaced.
+	/// @param socketPath The path of the Unix domain socket at which to listen; its parent directories will be created if needed.
+	/// @throws FileAlreadyExistsException if another daemon is already listening at the socket path.
+	/// @throws IOException if there is an I/O error creating the socket.
+	public GuiseDaemon(@NonNull final Path socketPath) throws IOException {
+		this.socketPath = requireNonNull(socketPath);
+		if(exists(socketPath)) {
+			if(new GuiseDaemonClient(socketPath).isRunning()) {
+				throw new FileAlreadyExistsException(socketPath.toString(), null, "A Guise daemon is already running."); //TODO i18n
+			}
+			deleteIfExists(socketPath); //a stale socket file of a daemon that did not shut down cleanly
+		}
+		createDirectories(socketPath.getParent());
+		serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		try {
+			serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+		} catch(final IOException ioException) {
+			serverChannel.close();
+			throw ioException;
+		}
+	}
+
+	/// Accepts and executes requests until the daemon is closed.
+	/// @implSpec An error communicating with a client is logged, and does not stop the daemon.
+	/// @throws IOException if there is an I/O error accepting requests.
+	public void run() throws IOException {
+		while(true) {
+			final SocketChannel channel;
+			try {
+				channel = serverChannel.accept();
+			} catch(final ClosedChannelException closedChannelException) { //the daemon was closed, possibly from another thread
+				return;
+			}
+			try (channel) {
+				handleRequest(channel);
+			} catch(final IOException ioException) {
+				getLogger().warn("Error communicating with daemon client: {}", ioException.getMessage()); //TODO i18n
+			}
+		}
+	}
+
+	/// Reads a single request from a client, executes the command, and sends the response.
+	/// @implSpec This method is synchronized to maintain the single-client invariant even if called from outside [#run()], as the standard streams of the
+	///           process are redirected to the client until the command finishes.
+	/// @param channel The channel connected to the client.
+	/// @throws IOException if there is an I/O error communicating with the client.
+	protected synchronized void handleRequest(@NonNull final SocketChannel channel) throws IOException {
+		final DataInputStream request = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+		final Path workingDirectory = Paths.get(request.readUTF());
+		final String[] args = new String[request.readInt()];
+		for(int i = 0; i < args.length; i++) {
+			args[i] = request.readUTF();
+		}
+		getLogger().info("Executing `{}` in `{}`.", String.join(" ", args), workingDirectory); //TODO i18n
+		final DataOutputStream response = new DataOutputStream(Channels.newOutputStream(channel));
+		final PrintStream systemOut = System.out;
+		final PrintStream systemErr = System.err;
+		final int exitCode;
+		try (final PrintStream clientOut = new PrintStream(new FrameOutputStream(response, FRAME_TYPE_OUT), true);
+				final PrintStream clientErr = new PrintStream(new FrameOutputStream(response, FRAME_TYPE_ERR), true)) {
+			System.setOut(clientOut);
+			System.setErr(clientErr);
+			final GuiseCli guiseCli = new GuiseCli(args, workingDirectory);
+			Application.start(guiseCli); //start as usual, so that the command is initialized and ended as if run from the command line
+			exitCode = guiseCli.getExitStatus();
+		} finally {
+			System.setOut(systemOut);
+			System.setErr(systemErr);
+		}
+		synchronized(response) {
+			response.writeByte(FRAME_TYPE_EXIT);
+			response.writeInt(exitCode);
+			response.flush();
+		}
+		getLogger().info("Command exited with code {}.", exitCode); //TODO i18n
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation stops listening, causing [#run()] to return, and removes the socket file.
+	/// @apiNote This method may be called more than once, for example from a shutdown hook.
+	@Override
+	public void close() throws IOException {
+		try {
+			serverChannel.close();
+		} finally {
+			deleteIfExists(socketPath);
+		}
+	}
+
+	/// Output stream that sends each write as a response frame of some type.
+	/// @implSpec Frames are written while synchronized on the underlying stream, so that output from several threads is not interleaved within a frame.
+	/// @implNote Closing this stream flushes, but does not close, the underlying stream.
+	private static class FrameOutputStream extends OutputStream {
+
+		private final DataOutputStream outputStream;
+
+		private final byte frameType;
+
+		/// Constructor.
+		/// @param outputStream The underlying response stream.
+		/// @param frameType The type of frame to write.
+		public FrameOutputStream(@NonNull final DataOutputStream outputStream, final byte frameType) {
+			this.outputStream = requireNonNull(outputStream);
+			this.frameType = frameType;
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			if(length == 0) {
+				return;
+			}
+			synchronized(outputStream) {
+				outputStream.writeByte(frameType);
+				outputStream.writeInt(length);
+				outputStream.write(bytes, offset, length);
+				outputStream.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			outputStream.flush();
+		}
+
+	}
+
+}
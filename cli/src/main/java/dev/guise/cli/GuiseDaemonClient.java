@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.cli;
+
+import static dev.guise.cli.GuiseDaemon.*;
+import static java.nio.file.Files.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.*;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+import org.jspecify.annotations.*;
+
+/// Client for forwarding Guise CLI commands to a running [GuiseDaemon].
+/// @author Garret Wilson
+public class GuiseDaemonClient {
+
+	private final Path socketPath;
+
+	/// @return The path of the Unix domain socket at which the daemon listens.
+	public Path getSocketPath() {
+		return socketPath;
+	}
+
+	/// Constructor.
+	/// @param socketPath The path of the Unix domain socket at which the daemon listens.
+	public GuiseDaemonClient(@NonNull final Path socketPath) {
+		this.socketPath = requireNonNull(socketPath);
+	}
+
+	/// Opens a connection to the daemon.
+	/// @return The channel connected to the daemon, or `null` if no daemon is listening at the socket path.
+	private @Nullable SocketChannel connect() {
+		if(!exists(socketPath)) { //avoid a connection attempt in the common case of no daemon
+			return null;
+		}
+		try {
+			return SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+		} catch(final IOException ioException) { //e.g. a stale socket file left by a daemon no longer running
+			return null;
+		}
+	}
+
+	/// Determines whether a daemon is listening at the socket path.
+	/// @return `true` if a connection could be made to a daemon.
+	public boolean isRunning() {
+		final SocketChannel channel = connect();
+		if(channel == null) {
+			return false;
+		}
+		try {
+			channel.close();
+		} catch(final IOException ioException) {
+			//ignore errors closing a connection used only for testing
+		}
+		return true;
+	}
+
+	/// Executes a command using the daemon, if one is running.
+	/// @implSpec The output of the command is copied to the given streams as it is produced.
+	/// @param workingDirectory The working directory against which the daemon is to resolve relative paths.
+	/// @param args The command-line arguments.
+	/// @param out The stream to receive the standard output of the command.
+	/// @param err The stream to receive the standard error of the command.
+	/// @return The exit code of the command, or empty if no daemon is running, in which case the caller should execute the command itself.
+	/// @throws IOException if there is an I/O error communicating with the daemon once connected, such as if the daemon stops while executing the command.
+	public OptionalInt execute(@NonNull final Path workingDirectory, @NonNull final String[] args, @NonNull final PrintStream out,
+			@NonNull final PrintStream err) throws IOException {
+		final SocketChannel channel = connect();
+		if(channel == null) {
+			return OptionalInt.empty();
+		}
+		try (channel) {
+			final DataOutputStream request = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			request.writeUTF(workingDirectory.toString());
+			request.writeInt(args.length);
+			for(final String arg : args) {
+				request.writeUTF(arg);
+			}
+			request.flush();
+			final DataInputStream response = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			while(true) {
+				final byte frameType = response.readByte();
+				switch(frameType) {
+					case FRAME_TYPE_OUT, FRAME_TYPE_ERR -> {
+						final byte[] bytes = new byte[response.readInt()];
+						response.readFully(bytes);
+						(frameType == FRAME_TYPE_OUT ? out : err).write(bytes);
+					}
+					case FRAME_TYPE_EXIT -> {
+						out.flush();
+						err.flush();
+						return OptionalInt.of(response.readInt());
+					}
+					default -> throw new IOException("Unrecognized daemon response frame type %d.".formatted(frameType)); //TODO i18n
+				}
+			}
+		}
+	}
+
+}
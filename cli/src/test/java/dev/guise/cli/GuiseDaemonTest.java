@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.cli;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+/// Tests of [GuiseDaemon] together with [GuiseDaemonClient].
+/// @author Garret Wilson
+public class GuiseDaemonTest {
+
+	/// Verifies that a command executed by a daemon returns its output and exit code to the client.
+	@Test
+	void verifyRequestResponseRoundTrip(@TempDir final Path tempDir) throws Exception {
+		final Path socketPath = tempDir.resolve("daemon.sock");
+		final GuiseDaemonClient client = new GuiseDaemonClient(socketPath);
+		assertThat("No daemon is running before one is started.", client.execute(tempDir, new String[] {"mummify", "--help"}, System.out, System.err),
+				is(OptionalInt.empty()));
+		try (final GuiseDaemon daemon = new GuiseDaemon(socketPath)) {
+			final Thread daemonThread = new Thread(() -> {
+				try {
+					daemon.run();
+				} catch(final IOException ioException) {
+					throw new UncheckedIOException(ioException);
+				}
+			});
+			daemonThread.start();
+			try {
+				assertThat(client.isRunning(), is(true));
+
+				final ByteArrayOutputStream helpOut = new ByteArrayOutputStream();
+				final ByteArrayOutputStream helpErr = new ByteArrayOutputStream();
+				assertThat(client.execute(tempDir, new String[] {"mummify", "--help"}, new PrintStream(helpOut, true, UTF_8), new PrintStream(helpErr, true, UTF_8)),
+						is(OptionalInt.of(0)));
+				assertThat(helpOut.toString(UTF_8), containsString("--full"));
+
+				final ByteArrayOutputStream errorOut = new ByteArrayOutputStream();
+				final ByteArrayOutputStream errorErr = new ByteArrayOutputStream();
+				final OptionalInt errorExitCode = client.execute(tempDir, new String[] {"mummify", "--no-such-option"}, new PrintStream(errorOut, true, UTF_8),
+						new PrintStream(errorErr, true, UTF_8));
+				assertThat(errorExitCode.isPresent(), is(true));
+				assertThat(errorExitCode.getAsInt(), is(not(0)));
+				assertThat(errorErr.toString(UTF_8), containsString("--no-such-option"));
+			} finally {
+				daemon.close();
+				daemonThread.join();
+			}
+		}
+		assertThat("The socket file is removed when the daemon is closed.", exists(socketPath), is(false));
+	}
+
+}
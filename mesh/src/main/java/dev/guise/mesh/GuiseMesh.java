@@ -41,6 +41,9 @@
 import com.globalmentor.xml.def.NsName;
 
 /// Guise template transformation engine.
+/// @implNote This class holds no meshing state of its own and may be shared among threads meshing separate documents concurrently, provided that the
+///           evaluator and interpolator are thread-safe, as are [JexlMexlEvaluator] and [DefaultMeshInterpolator]. A [MeshContext] and the document being
+///           meshed must not be shared among threads.
 /// @author Garret Wilson
 public class GuiseMesh {
 
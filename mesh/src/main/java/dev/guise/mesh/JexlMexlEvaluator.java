@@ -32,6 +32,7 @@
 /// @apiNote This strategy is primarily to provide an additional layer of indirection to be able to change expression evaluation libraries or write a new one if
 ///          the currently available libraries are insufficient.
 /// @implSpec This implementation supports retrieving [UrfResourceDescription] properties using an URF property handle.
+/// @implNote This implementation is thread-safe, as the underlying [JexlEngine] is thread-safe and a separate JEXL context is created for each evaluation.
 /// @author Garret Wilson
 public class JexlMexlEvaluator implements MexlEvaluator {
 
@@ -67,6 +68,9 @@ public List<JexlUberspect.PropertyResolver> apply(final JexlOperator operator, f
 		}
 	};
 
+	/// The maximum number of parsed expressions to cache.
+	private static final int EXPRESSION_CACHE_SIZE = 512;
+
 	private final JexlEngine jexl;
 
 	/// Constructor.
@@ -75,10 +79,13 @@ public List<JexlUberspect.PropertyResolver> apply(final JexlOperator operator, f
 	/// @implSpec Classes are permitted via [JexlPermissions.ClassPermissions] for exact matching atop [JexlPermissions#RESTRICTED].
 	///           Packages are mapped to JEXL permission wildcards (`packageName.*`) and applied via
 	///           [JexlPermissions#compose(String...)].
+	/// @implSpec Parsed expressions are cached by the engine, up to [#EXPRESSION_CACHE_SIZE] of them, so that the same expression appearing in many pages is
+	///           only parsed once.
 	JexlMexlEvaluator(final Set<Class<?>> permittedClasses, final Set<Package> permittedPackages) {
 		final Class<?>[] classArray = permittedClasses.toArray(Class<?>[]::new);
 		final String[] packageWildcards = permittedPackages.stream().map(pkg -> pkg.getName() + ".*").toArray(String[]::new);
-		jexl = new JexlBuilder().strategy(RESOLVER_STRATEGY).permissions(new JexlPermissions.ClassPermissions(classArray).compose(packageWildcards)).create();
+		jexl = new JexlBuilder().strategy(RESOLVER_STRATEGY).permissions(new JexlPermissions.ClassPermissions(classArray).compose(packageWildcards))
+				.cache(EXPRESSION_CACHE_SIZE).create();
 	}
 
 	@Override
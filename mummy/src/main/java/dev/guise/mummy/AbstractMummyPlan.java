@@ -20,6 +20,9 @@
 import static java.util.Objects.*;
 
 import java.nio.file.Path;
+import java.text.Collator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.*;
 
@@ -42,6 +45,22 @@ public AbstractMummyPlan(@NonNull final Artifact rootArtifact) {
 		this.rootArtifact = requireNonNull(rootArtifact);
 	}
 
+	/// The collator for generating the collation keys of artifact views.
+	private final Collator artifactViewCollator = ArtifactView.createCollator();
+
+	/// The views of artifacts, determined as requested.
+	private final Map<Artifact, ArtifactView> artifactViewsByArtifact = new ConcurrentHashMap<>();
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation determines the view of each artifact only once, using a single collator for all the artifacts of the plan. As views are
+	///           determined from the artifact description, the plan should only be used after the artifact descriptions are complete, that is after planning.
+	/// @implNote Collation keys are generated using a shared [Collator], the methods of which are synchronized in the JDK implementation, but this only
+	///           occurs once for each artifact.
+	@Override
+	public ArtifactView getArtifactView(final Artifact artifact) {
+		return artifactViewsByArtifact.computeIfAbsent(requireNonNull(artifact), viewedArtifact -> ArtifactView.of(viewedArtifact, artifactViewCollator));
+	}
+
 	@Override
 	public UriPath referenceInSource(final Artifact fromArtifact, final Artifact toArtifact) {
 		return relativizeResourceReference(getPrincipalArtifact(fromArtifact).getSourcePath(), toArtifact.getSourcePath(),
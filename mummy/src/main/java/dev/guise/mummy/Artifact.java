@@ -96,6 +96,19 @@ public interface Artifact {
 	/// The [java.time.Instant] the source content was last modified.
 	/// @apiNote This property is used for incremental mummification; it is usually not appropriate to use in custom properties.
 	public static final URI PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT = NAMESPACE.resolve("sourceContentModifiedAt");
+	/// The `byte[]` fingerprint of the source content, recorded when hash change detection is configured.
+	/// @apiNote This property is used for incremental mummification; it is usually not appropriate to use in custom properties.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	public static final URI PROPERTY_TAG_MUMMY_SOURCE_CONTENT_FINGERPRINT = NAMESPACE.resolve("sourceContentFingerprint");
+	/// A list of [String] paths, relative to the site source directory and using `/` as the separator, of other source files and directories on which
+	/// generation of the target content depends, such as templates and navigation files.
+	/// @apiNote This property is used for incremental mummification; it is usually not appropriate to use in custom properties.
+	/// @see MummyContext#addArtifactDependency(Artifact, Path)
+	public static final URI PROPERTY_TAG_MUMMY_DEPENDENCIES = NAMESPACE.resolve("dependencies");
+	/// A list of `byte[]` fingerprints of the [#PROPERTY_TAG_MUMMY_DEPENDENCIES], in the same order, recorded when hash change detection is configured.
+	/// @apiNote This property is used for incremental mummification; it is usually not appropriate to use in custom properties.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	public static final URI PROPERTY_TAG_MUMMY_DEPENDENCY_FINGERPRINTS = NAMESPACE.resolve("dependencyFingerprints");
 	/// The property tag of the `mummy/template` for specifying a template path, relative to the source path.
 	public static final URI PROPERTY_TAG_MUMMY_TEMPLATE = NAMESPACE.resolve("template");
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static com.globalmentor.java.Objects.*;
+import static dev.guise.mummy.Artifact.*;
+import static java.util.Objects.*;
+
+import java.text.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+/// Immutable, typed view of the properties by which an artifact is commonly listed and ordered, such as in navigation and directory listings.
+///
+/// The properties are determined once from the artifact description, and the title and label are accompanied by their [CollationKey], so that sorting a
+/// number of artifacts compares precomputed values rather than looking up and collating the properties on every comparison. Because collation keys may only
+/// be compared with keys from the same collator, views to be sorted together should be created using the same collator, as [MummyPlan#getArtifactView(Artifact)]
+/// does for the artifacts of a plan.
+///
+/// @param artifact The artifact being viewed.
+/// @param title The title of the artifact, as given by [Artifact#determineTitle()].
+/// @param titleCollationKey The collation key of the title.
+/// @param label The label of the artifact, as given by [Artifact#determineLabel()].
+/// @param labelCollationKey The collation key of the label.
+/// @param publishedOn The {@value Artifact#PROPERTY_HANDLE_PUBLISHED_ON} date of the artifact, or `null` if none is present.
+/// @param order The [Artifact#PROPERTY_TAG_MUMMY_ORDER] of the artifact, defaulting to [Artifact#MUMMY_ORDER_DEFAULT].
+/// @author Garret Wilson
+public record ArtifactView(@NonNull Artifact artifact, @NonNull String title, @NonNull CollationKey titleCollationKey, @NonNull String label,
+		@NonNull CollationKey labelCollationKey, @Nullable LocalDate publishedOn, long order) {
+
+	/// Validation constructor.
+	public ArtifactView {
+		requireNonNull(artifact);
+		requireNonNull(title);
+		requireNonNull(titleCollationKey);
+		requireNonNull(label);
+		requireNonNull(labelCollationKey);
+	}
+
+	/// Returns the publication date of the artifact.
+	/// @return The {@value Artifact#PROPERTY_HANDLE_PUBLISHED_ON} date of the artifact, if present.
+	public Optional<LocalDate> findPublishedOn() {
+		return Optional.ofNullable(publishedOn);
+	}
+
+	/// Creates a collator appropriate for ordering artifact titles and labels, ignoring accents and case.
+	/// @return A new collator for artifact titles and labels.
+	public static Collator createCollator() {
+		final Collator collator = Collator.getInstance(); //TODO i18n: get locale for page, defaulting to site locale
+		collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+		collator.setStrength(Collator.PRIMARY); //ignore accents and case
+		return collator;
+	}
+
+	/// Determines the view of an artifact from its description.
+	/// @param artifact The artifact to view.
+	/// @param collator The collator for generating the title and label collation keys.
+	/// @return A new view of the artifact.
+	/// @throws IllegalArgumentException if the [Artifact#PROPERTY_TAG_MUMMY_ORDER] property of the artifact is not an integer.
+	/// @see #createCollator()
+	public static ArtifactView of(@NonNull final Artifact artifact, @NonNull final Collator collator) {
+		final String title = artifact.determineTitle();
+		final String label = artifact.determineLabel();
+		final LocalDate publishedOn = artifact.getResourceDescription().findPropertyValueByHandle(PROPERTY_HANDLE_PUBLISHED_ON)
+				.flatMap(asInstance(LocalDate.class)).orElse(null);
+		final long order;
+		try {
+			order = toLong(artifact.getResourceDescription().findPropertyValue(PROPERTY_TAG_MUMMY_ORDER).orElse(MUMMY_ORDER_DEFAULT));
+		} catch(final IllegalArgumentException illegalArgumentException) {
+			throw new IllegalArgumentException("Invalid property <%s> value: %s".formatted(PROPERTY_TAG_MUMMY_ORDER, illegalArgumentException.getLocalizedMessage()),
+					illegalArgumentException);
+		}
+		return new ArtifactView(artifact, title, collator.getCollationKey(title), label, collator.getCollationKey(label), publishedOn, order);
+	}
+
+	/// Returns the given object as a [Long], converting if necessary.
+	/// @apiNote This conversion is necessary because for Markdown+YAML may encode e.g. the [Artifact#PROPERTY_TAG_MUMMY_ORDER] property as an
+	///          [Integer] value, while parsing the same property from XHTML with knowledge of the Mummy ontology may result in a [Long] value.
+	/// @implSpec This implementation only supports [Integer] and [Long] types.
+	/// @param object The object to return as a [Long].
+	/// @return The object as a [Long] instance.
+	/// @throws IllegalArgumentException if the given object cannot be converted to a [Long].
+	private static Long toLong(@NonNull final Object object) { //TODO switch to a general converter system, including number types, e.g. from Ploop
+		return switch(object) {
+			case Long l -> l;
+			case Integer i -> Long.valueOf(i.longValue());
+			default -> throw new IllegalArgumentException(
+					"Cannot convert object %s of type %s to type %s.".formatted(object, object.getClass().getSimpleName(), Long.class.getSimpleName()));
+		};
+	}
+
+}
@@ -21,13 +21,15 @@
 import static com.globalmentor.java.Conditions.*;
 import static java.nio.file.Files.*;
 
-import java.io.IOException;
+import java.io.*;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.*;
 
 import javax.xml.parsers.*;
+import javax.xml.stream.*;
 
 import org.xml.sax.*;
 
@@ -49,6 +51,8 @@
 /// @implSpec This implementation uses a [GenericFileMummifier] as the default file mummifier and a [DirectoryMummifier] as the default directory
 ///           mummifier.
 /// @implSpec This implementation registers common mummifiers by default; they can be overridden using [#registerFileMummifier(SourcePathMummifier)].
+/// @implNote This implementation is safe for concurrent use by multiple threads processing separate artifacts, as is done when planning. Mummifier
+///           registration is nevertheless intended to be completed before planning begins.
 /// @author Garret Wilson
 public abstract class BaseMummyContext extends AbstractMummyContext {
 
@@ -59,7 +63,7 @@ public abstract class BaseMummyContext extends AbstractMummyContext {
 	private final SourcePathMummifier defaultDirectoryMummifier = new DirectoryMummifier();
 
 	/// The registered mummifiers by supported extensions. These extensions are in canonical (lowercase) form.
-	private final Map<String, SourcePathMummifier> fileMummifiersByExtension = new HashMap<>();
+	private final Map<String, SourcePathMummifier> fileMummifiersByExtension = new ConcurrentHashMap<>();
 
 	/// Registers a mummify for all its supported filename extensions. If an extension is already registered with another mummifier, it will be overridden.
 	/// @param mummifier The mummifier to register.
@@ -134,16 +138,94 @@ public Optional<SourcePathMummifier> findRegisteredMummifierForSourceDirectory(P
 		return Optional.empty();
 	}
 
+	//source tree
+
+	/// The paths of the children of each source directory, recorded during planning.
+	private final Map<Path, List<Path>> sourceDirectoryPaths = new ConcurrentHashMap<>();
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation records the paths in a thread-safe manner, as directories may be planned concurrently. The paths recorded for a directory
+	///           replace any recorded for it before, such as when the directory is planned again after its source changes.
+	@Override
+	public void recordSourceDirectoryPaths(@NonNull final Path sourceDirectory, @NonNull final Collection<Path> sourcePaths) {
+		sourceDirectoryPaths.put(sourceDirectory, List.copyOf(sourcePaths));
+	}
+
+	@Override
+	public Optional<Collection<Path>> findSourceDirectoryPaths(@NonNull final Path sourceDirectory) {
+		return Optional.ofNullable(sourceDirectoryPaths.get(sourceDirectory));
+	}
+
+	//dependencies
+
+	/// The source paths on which the mummification of each artifact depends, recorded during mummification.
+	private final Map<Artifact, Set<Path>> artifactDependencies = new ConcurrentHashMap<>();
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation records dependencies in a thread-safe manner, as the same artifact may be processed by several components.
+	@Override
+	public void addArtifactDependency(@NonNull final Artifact artifact, @NonNull final Path sourcePath) {
+		artifactDependencies.computeIfAbsent(artifact, _ -> ConcurrentHashMap.newKeySet()).add(sourcePath);
+	}
+
+	@Override
+	public Set<Path> removeArtifactDependencies(@NonNull final Artifact artifact) {
+		final Set<Path> dependencies = artifactDependencies.remove(artifact);
+		return dependencies != null ? dependencies : Set.of();
+	}
+
+	/// Removes the dependencies recorded for all artifacts.
+	/// @apiNote This method should be called when a new plan is created, as dependencies are only removed by those mummifiers that store them, and would
+	///          otherwise accumulate for other artifacts among successive mummifications with the same context, such as when watching the site source
+	///          directory.
+	/// @see #addArtifactDependency(Artifact, Path)
+	protected void clearArtifactDependencies() {
+		artifactDependencies.clear();
+	}
+
 	//factory methods
 
+	/// Identification of an external entity.
+	/// @param publicId The public identifier of the entity, if any.
+	/// @param systemId The system identifier of the entity, if any.
+	private record EntityId(@Nullable String publicId, @Nullable String systemId) {
+	}
+
+	/// The content of a resolved external entity, along with the identification and encoding of the input source providing it.
+	/// @param publicId The public identifier of the input source, if any.
+	/// @param systemId The system identifier of the input source, if any, against which relative references within the entity are resolved.
+	/// @param encoding The character encoding of the input source, if known.
+	/// @param bytes The content of the entity.
+	private record ResolvedEntity(@Nullable String publicId, @Nullable String systemId, @Nullable String encoding, byte[] bytes) {
+
+		/// Creates a new input source for reading the entity.
+		/// @return A new input source for the entity content.
+		public InputSource toInputSource() {
+			final InputSource inputSource = new InputSource(new ByteArrayInputStream(bytes));
+			inputSource.setPublicId(publicId);
+			inputSource.setSystemId(systemId);
+			inputSource.setEncoding(encoding);
+			return inputSource;
+		}
+
+	}
+
+	/// The preloaded external entities resolved so far by this context.
+	/// @apiNote The entities are kept for the lifetime of the context rather than shared by all contexts, so that they are released along with the context.
+	private final Map<EntityId, ResolvedEntity> resolvedEntities = new ConcurrentHashMap<>();
+
 	/// Special Guise Mummy entity resolver with additional capabilities.
 	/// @implSpec This implementation uses preloaded versions of frequently-used XHTML-related DTDs and other entities instead of downloading them from external
 	///           sources by using [DefaultEntityResolver].
+	/// @implSpec The content of each preloaded entity, identified by its public ID, is kept in memory for the lifetime of the context, so that the XHTML DTDs
+	///           and the entity sets they include are read only once rather than for every document. Only the preloaded entities bundled with
+	///           [DefaultEntityResolver] are kept, so the memory used is bounded; an entity without a public ID, or one the default entity resolver does not
+	///           provide as a byte stream, is resolved anew each time.
 	/// @implSpec If the {@value HTML#XHTML_1_1_PUBLIC_ID} DTD is requested, the {@value HTML#XHTML_1_0_STRICT_PUBLIC_ID} will be returned instead, which results
 	///           in faster parsing and does not produce unnecessary and incorrect default attributes. For most XHTML 1.1 documents there will be no effective
 	///           difference. See [Java XML parser adding unnecessary xmlns and xml:space attributes](https://stackoverflow.com/q/60603441/421049) and
 	///           [XHTML 1.1 - Second Edition § A. Changes from XHTML 1.0 Strict](https://www.w3.org/TR/xhtml11/changes.html).
-	private static final EntityResolver ENTITY_RESOLVER = new EntityResolver() {
+	private final EntityResolver entityResolver = new EntityResolver() {
 
 		private final EntityResolver defaultEntityResolver = DefaultEntityResolver.getInstance();
 
@@ -155,11 +237,38 @@ public InputSource resolveEntity(final String publicID, final String systemID) t
 				inputSource.setPublicId(publicID);
 				return inputSource;
 			}
-			return defaultEntityResolver.resolveEntity(publicID, systemID);
+			if(publicID == null) { //preloaded entities are identified by public ID; don't keep other entities, which could be unbounded and could change
+				return defaultEntityResolver.resolveEntity(publicID, systemID);
+			}
+			final EntityId entityId = new EntityId(publicID, systemID);
+			ResolvedEntity resolvedEntity = resolvedEntities.get(entityId);
+			if(resolvedEntity == null) {
+				final InputSource inputSource = defaultEntityResolver.resolveEntity(publicID, systemID);
+				if(inputSource == null || inputSource.getByteStream() == null) { //only preloaded byte streams can be kept; leave anything else to the parser
+					return inputSource;
+				}
+				try (final InputStream inputStream = inputSource.getByteStream()) {
+					resolvedEntity = new ResolvedEntity(inputSource.getPublicId(), inputSource.getSystemId(), inputSource.getEncoding(), inputStream.readAllBytes());
+				}
+				resolvedEntities.put(entityId, resolvedEntity);
+			}
+			return resolvedEntity.toInputSource();
 		}
 
 	};
 
+	/// StAX adapter of [#entityResolver], providing resolved entities as byte streams.
+	/// @implSpec Entities not resolved to byte streams are left for the parser to resolve itself.
+	private final XMLResolver xmlResolver = (publicID, systemID, _, _) -> {
+		final InputSource inputSource;
+		try {
+			inputSource = entityResolver.resolveEntity(publicID, systemID);
+		} catch(final SAXException | IOException exception) {
+			throw new XMLStreamException("Error resolving entity with public ID `%s` and system ID `%s`.".formatted(publicID, systemID), exception); //TODO i18n
+		}
+		return inputSource != null ? inputSource.getByteStream() : null;
+	};
+
 	/// {@inheritDoc}
 	/// @implSpec This implementation returns a document builder that uses preloaded versions of frequently-used XHTML-related DTDs and other entities instead of
 	///           downloading them from external sources. In addition, for any documents using the XHTML 1.1 DTD, the document will actually be parsed using the
@@ -172,7 +281,7 @@ public DocumentBuilder newPageDocumentBuilder() {
 		synchronized(pageDocumentBuilderFactory) {
 			try {
 				final DocumentBuilder documentBuilder = pageDocumentBuilderFactory.newDocumentBuilder();
-				documentBuilder.setEntityResolver(ENTITY_RESOLVER); //install an entity resolver that knows about many XHTML-related entities
+				documentBuilder.setEntityResolver(entityResolver); //install an entity resolver that knows about many XHTML-related entities
 				return documentBuilder;
 			} catch(final ParserConfigurationException parserConfigurationException) {
 				throw new ConfigurationException(parserConfigurationException);
@@ -180,4 +289,42 @@ public DocumentBuilder newPageDocumentBuilder() {
 		}
 	}
 
+	/// The page document builders already created, one for each thread.
+	private final ThreadLocal<DocumentBuilder> pageDocumentBuilders = ThreadLocal.withInitial(this::newPageDocumentBuilder);
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation keeps a document builder for each thread, created using [#newPageDocumentBuilder()]. Before it is returned, the document
+	///           builder is reset and the entity resolver installed again, so that no state remains from its previous use.
+	@Override
+	public DocumentBuilder getPageDocumentBuilder() {
+		final DocumentBuilder documentBuilder = pageDocumentBuilders.get();
+		documentBuilder.reset();
+		documentBuilder.setEntityResolver(entityResolver); //resetting removes the entity resolver
+		return documentBuilder;
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation returns a factory configured to support DTDs and to replace entity references, using the same preloaded DTDs and other
+	///           entities as [#newPageDocumentBuilder()].
+	@Override
+	public XMLInputFactory newPageXmlInputFactory() {
+		final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+		xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, true);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+		xmlInputFactory.setXMLResolver(xmlResolver);
+		return xmlInputFactory;
+	}
+
+	/// The page XML input factories already created, one for each thread.
+	private final ThreadLocal<XMLInputFactory> pageXmlInputFactories = ThreadLocal.withInitial(this::newPageXmlInputFactory);
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation keeps a factory for each thread, created using [#newPageXmlInputFactory()], as the factory is not guaranteed to be
+	///           thread-safe.
+	@Override
+	public XMLInputFactory getPageXmlInputFactory() {
+		return pageXmlInputFactories.get();
+	}
+
 }
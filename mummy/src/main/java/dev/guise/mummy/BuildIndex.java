@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static com.globalmentor.io.Filenames.*;
+import static com.globalmentor.java.Objects.*;
+import static dev.guise.mummy.GuiseMummy.*;
+import static java.nio.file.Files.*;
+import static java.nio.file.StandardCopyOption.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.*;
+
+import io.clogr.*;
+import io.urf.format.turf.*;
+import io.urf.model.*;
+
+/// Persistent index of the target descriptions generated during mummification, allowing incremental mummification to look up the description of each
+/// artifact without loading its description sidecar file separately.
+///
+/// The index may also hold an excerpt of the source of each target, such as the first paragraph of a page, so that pages listing other pages need not load
+/// their sources again in later builds. An excerpt is only provided while the source has the modification time from which the excerpt was determined.
+///
+/// The index is loaded once before planning and saved once after mummification. Only entries looked up or updated during the build are retained when the
+/// index is saved, so that entries for artifacts no longer in the site are discarded. An index kept across builds, as when watching the site, discards
+/// entries for artifacts no longer in the site when [retaining the descriptions][#retainDescriptions(Collection)] of each new plan.
+/// @apiNote The index supplements the description sidecar files in the site description target directory, which are generated for use by other tools
+///          unless disabled using [GuiseMummy#CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS].
+/// @implSpec The index is stored as a single TURF properties file containing a [#PROPERTY_TAG_MUMMY_ENTRIES] list, each entry of which identifies a target
+///           path relative to the site target directory using [#PROPERTY_TAG_MUMMY_TARGET_PATH] along with its [#PROPERTY_TAG_MUMMY_DESCRIPTION] and any
+///           [#PROPERTY_TAG_MUMMY_EXCERPT] with its [#PROPERTY_TAG_MUMMY_EXCERPT_SOURCE_MODIFIED_AT].
+/// @implNote This class is safe for concurrent use by multiple threads. Descriptions are copied when they are indexed and again when they are looked up, so
+///           that changes by callers to a description, such as to the description of an artifact being mummified, neither affect the index nor other callers.
+/// @author Garret Wilson
+public class BuildIndex implements Clogged {
+
+	/// The filename of the build index within the site description target directory.
+	public static final String FILENAME = addExtension(".build-index", TURF.PROPERTIES_FILENAME_EXTENSION);
+
+	/// The property tag of the `mummy/entries` list of index entries.
+	public static final URI PROPERTY_TAG_MUMMY_ENTRIES = NAMESPACE.resolve("entries");
+	/// The property tag of the `mummy/targetPath` of an index entry, relative to the site target directory and using `/` as the separator.
+	public static final URI PROPERTY_TAG_MUMMY_TARGET_PATH = NAMESPACE.resolve("targetPath");
+	/// The property tag of the `mummy/description` of an index entry.
+	public static final URI PROPERTY_TAG_MUMMY_DESCRIPTION = NAMESPACE.resolve("description");
+	/// The property tag of the `mummy/excerpt` of an index entry, serialized as XML, or the empty string if the source has no excerpt.
+	public static final URI PROPERTY_TAG_MUMMY_EXCERPT = NAMESPACE.resolve("excerpt");
+	/// The property tag of the `mummy/excerptSourceModifiedAt` of an index entry, the modification time of the source from which the excerpt was determined.
+	public static final URI PROPERTY_TAG_MUMMY_EXCERPT_SOURCE_MODIFIED_AT = NAMESPACE.resolve("excerptSourceModifiedAt");
+
+	/// An excerpt of the source of a target.
+	/// @param sourceModifiedAt The modification time of the source from which the excerpt was determined.
+	/// @param excerpt The excerpt serialized as XML, or the empty string if the source has no excerpt.
+	private record Excerpt(@NonNull Instant sourceModifiedAt, @NonNull String excerpt) {
+	}
+
+	/// An entry of the index for a target.
+	/// @param description The description of the target, or `null` if no description has been indexed, as when an excerpt is indexed before the target is
+	///          first mummified.
+	/// @param excerpt The excerpt of the source of the target, or `null` if no excerpt has been indexed.
+	private record Entry(@Nullable UrfResourceDescription description, @Nullable Excerpt excerpt) {
+	}
+
+	private final Path siteTargetDirectory;
+
+	private final Path indexFile;
+
+	/// @return The file in which the index is persisted.
+	public Path getIndexFile() {
+		return indexFile;
+	}
+
+	/// The entries last loaded from or saved to the persisted index, keyed to relative target path.
+	private volatile Map<String, Entry> savedEntries;
+
+	/// The entries to be persisted, keyed to relative target path.
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/// Whether any description or excerpt was updated or discarded since the index was loaded or saved.
+	private volatile boolean modified = false;
+
+	/// Indicates whether any description or excerpt was updated, or discarded when [retaining descriptions][#retainDescriptions(Collection)], since the index
+	/// was loaded or saved.
+	/// @apiNote Descriptions are only updated when an artifact is mummified, so this method allows a caller mummifying individual artifacts to skip saving the
+	///          index when nothing was mummified.
+	/// @return `true` if the index has changes that have not been saved.
+	public boolean isModified() {
+		return modified;
+	}
+
+	/// Constructor of an empty index.
+	/// @param siteTargetDirectory The output directory of the site, against which target paths are relativized.
+	/// @param indexFile The file in which the index is persisted.
+	public BuildIndex(@NonNull final Path siteTargetDirectory, @NonNull final Path indexFile) {
+		this(siteTargetDirectory, indexFile, Map.of());
+	}
+
+	/// Constructor.
+	/// @param siteTargetDirectory The output directory of the site, against which target paths are relativized.
+	/// @param indexFile The file in which the index is persisted.
+	/// @param savedEntries The previously persisted entries, keyed to relative target path.
+	private BuildIndex(@NonNull final Path siteTargetDirectory, @NonNull final Path indexFile, @NonNull final Map<String, Entry> savedEntries) {
+		this.siteTargetDirectory = requireNonNull(siteTargetDirectory);
+		this.indexFile = requireNonNull(indexFile);
+		this.savedEntries = Map.copyOf(savedEntries);
+	}
+
+	/// Loads the index from the given file. If the file does not exist or cannot be read, an empty index is returned so that descriptions will be loaded from
+	/// the individual description sidecar files instead.
+	/// @param siteTargetDirectory The output directory of the site, against which target paths are relativized.
+	/// @param indexFile The file in which the index is persisted.
+	/// @return The loaded index.
+	public static BuildIndex load(@NonNull final Path siteTargetDirectory, @NonNull final Path indexFile) {
+		final Map<String, Entry> loadedEntries = new HashMap<>();
+		if(isRegularFile(indexFile)) {
+			try (final InputStream inputStream = new BufferedInputStream(newInputStream(indexFile))) {
+				new TurfParser<List<Object>>(new SimpleGraphUrfProcessor()).parseDocument(inputStream, TURF.PROPERTIES_MEDIA_TYPE).stream()
+						.flatMap(asInstances(UrfResourceDescription.class)).findFirst().flatMap(index -> index.findPropertyValue(PROPERTY_TAG_MUMMY_ENTRIES))
+						.flatMap(asInstance(List.class)).ifPresent(entries -> {
+							for(final Object entry : entries) {
+								if(entry instanceof UrfResourceDescription entryDescription) {
+									final Optional<String> foundTargetPath = entryDescription.findPropertyValue(PROPERTY_TAG_MUMMY_TARGET_PATH).map(Object::toString);
+									final Optional<UrfResourceDescription> foundDescription = entryDescription.findPropertyValue(PROPERTY_TAG_MUMMY_DESCRIPTION)
+											.flatMap(asInstance(UrfResourceDescription.class));
+									final Optional<Instant> foundExcerptSourceModifiedAt = entryDescription
+											.findPropertyValue(PROPERTY_TAG_MUMMY_EXCERPT_SOURCE_MODIFIED_AT).flatMap(asInstance(Instant.class));
+									final Optional<Excerpt> foundExcerpt = entryDescription.findPropertyValue(PROPERTY_TAG_MUMMY_EXCERPT).map(Object::toString)
+											.flatMap(excerpt -> foundExcerptSourceModifiedAt.map(sourceModifiedAt -> new Excerpt(sourceModifiedAt, excerpt)));
+									if(foundTargetPath.isPresent() && (foundDescription.isPresent() || foundExcerpt.isPresent())) {
+										loadedEntries.put(foundTargetPath.get(), new Entry(foundDescription.orElse(null), foundExcerpt.orElse(null)));
+									}
+								}
+							}
+						});
+			} catch(final IOException ioException) {
+				//the index is only an optimization; fall back to the description sidecar files
+				Clogr.getLogger(BuildIndex.class).warn("Ignoring unreadable build index `{}`: {}", indexFile, ioException.getLocalizedMessage());
+				return new BuildIndex(siteTargetDirectory, indexFile);
+			}
+		}
+		return new BuildIndex(siteTargetDirectory, indexFile, loadedEntries);
+	}
+
+	/// Determines the index key for a target path.
+	/// @param targetPath The path in the site target directory.
+	/// @return The target path relative to the site target directory, using `/` as the separator.
+	protected String toKey(@NonNull final Path targetPath) {
+		return siteTargetDirectory.relativize(targetPath).toString().replace(File.separatorChar, '/');
+	}
+
+	/// Looks up the entry for a target path, retaining the entry in the index if found.
+	/// @param key The target path relative to the site target directory.
+	/// @return The entry of the target, if indexed.
+	private Optional<Entry> findEntry(@NonNull final String key) {
+		return Optional.ofNullable(entries.computeIfAbsent(key, savedEntries::get));
+	}
+
+	/// Looks up the description for a target path, retaining the description in the index if found.
+	/// @param targetPath The path in the site target directory.
+	/// @return A copy of the description of the target generated during the last mummification, if indexed, which the caller may modify without affecting
+	///         the index.
+	public Optional<UrfResourceDescription> findDescription(@NonNull final Path targetPath) {
+		return findEntry(toKey(targetPath)).map(Entry::description).map(BuildIndex::copyDescription);
+	}
+
+	/// Updates the description for a target path. Any excerpt indexed for the target path is retained, as it remains valid as long as the source is unchanged.
+	/// @apiNote A copy of the description is indexed, so later changes to the given description are not reflected in the index.
+	/// @param targetPath The path in the site target directory.
+	/// @param description The description of the target.
+	public void putDescription(@NonNull final Path targetPath, @NonNull final UrfResourceDescription description) {
+		final UrfResourceDescription indexedDescription = copyDescription(description);
+		entries.compute(toKey(targetPath), (key, entry) -> {
+			final Entry oldEntry = entry != null ? entry : savedEntries.get(key);
+			return new Entry(indexedDescription, oldEntry != null ? oldEntry.excerpt() : null);
+		});
+		modified = true;
+	}
+
+	/// Creates a copy of a description with the same properties.
+	/// @implNote The property values themselves are not copied, as the property values of descriptions are not modified in place.
+	/// @param description The description to copy.
+	/// @return A new description with the properties of the given description.
+	private static UrfResourceDescription copyDescription(@NonNull final UrfResourceDescription description) {
+		final UrfObject copy = new UrfObject();
+		for(final Map.Entry<URI, Object> property : description.getProperties()) {
+			copy.setPropertyValue(property.getKey(), property.getValue());
+		}
+		return copy;
+	}
+
+	/// Looks up the excerpt of the source of a target path, retaining the entry of the target in the index if found.
+	/// @param targetPath The path in the site target directory.
+	/// @param sourceModifiedAt The current modification time of the source of the target.
+	/// @return The excerpt of the source serialized as XML, or the empty string if the source has no excerpt; not present if no excerpt is indexed or if the
+	///         indexed excerpt was determined from a source with another modification time.
+	public Optional<String> findExcerpt(@NonNull final Path targetPath, @NonNull final Instant sourceModifiedAt) {
+		return findEntry(toKey(targetPath)).map(Entry::excerpt).filter(excerpt -> excerpt.sourceModifiedAt().equals(sourceModifiedAt)).map(Excerpt::excerpt);
+	}
+
+	/// Updates the excerpt of the source of a target path.
+	/// @param targetPath The path in the site target directory.
+	/// @param sourceModifiedAt The modification time of the source from which the excerpt was determined.
+	/// @param excerpt The excerpt of the source serialized as XML, or the empty string if the source has no excerpt.
+	public void putExcerpt(@NonNull final Path targetPath, @NonNull final Instant sourceModifiedAt, @NonNull final String excerpt) {
+		final Excerpt newExcerpt = new Excerpt(requireNonNull(sourceModifiedAt), requireNonNull(excerpt));
+		entries.compute(toKey(targetPath), (key, entry) -> {
+			final Entry oldEntry = entry != null ? entry : savedEntries.get(key);
+			return new Entry(oldEntry != null ? oldEntry.description() : null, newExcerpt);
+		});
+		modified = true;
+	}
+
+	/// Discards the descriptions of all target paths other than those given, such as the target paths of the artifacts of a new plan. This allows an index kept
+	/// across builds to discard entries of artifacts removed from the site, while retaining the entries of artifacts reused from an earlier plan without being
+	/// looked up again.
+	/// @param targetPaths The paths in the site target directory of the descriptions to retain.
+	public void retainDescriptions(@NonNull final Collection<Path> targetPaths) {
+		final Set<String> keys = new HashSet<>(targetPaths.size());
+		for(final Path targetPath : targetPaths) {
+			keys.add(toKey(targetPath));
+		}
+		if(entries.keySet().retainAll(keys)) {
+			modified = true;
+		}
+	}
+
+	/// Saves the index if any description or excerpt was updated or any previously saved entry was not retained.
+	/// @implSpec The index is written to a temporary file which then replaces the index file, so that an interrupted save does not leave a partial index. The
+	///           saved entries then serve as the baseline for determining whether a later save is needed.
+	/// @throws IOException if there is an I/O error saving the index.
+	public synchronized void save() throws IOException {
+		if(!modified && entries.keySet().equals(savedEntries.keySet())) {
+			getLogger().debug("Build index `{}` is unchanged.", indexFile);
+			return;
+		}
+		modified = false; //reset before taking the snapshot so that any concurrent update will be saved next time
+		final Map<String, Entry> currentEntries = Map.copyOf(entries);
+		final List<UrfObject> entryDescriptions = new ArrayList<>(currentEntries.size());
+		new TreeMap<>(currentEntries).forEach((targetPath, entry) -> { //sort by target path for reproducible output
+			final UrfObject entryDescription = new UrfObject();
+			entryDescription.setPropertyValue(PROPERTY_TAG_MUMMY_TARGET_PATH, targetPath);
+			if(entry.description() != null) {
+				entryDescription.setPropertyValue(PROPERTY_TAG_MUMMY_DESCRIPTION, entry.description());
+			}
+			if(entry.excerpt() != null) {
+				entryDescription.setPropertyValue(PROPERTY_TAG_MUMMY_EXCERPT, entry.excerpt().excerpt());
+				entryDescription.setPropertyValue(PROPERTY_TAG_MUMMY_EXCERPT_SOURCE_MODIFIED_AT, entry.excerpt().sourceModifiedAt());
+			}
+			entryDescriptions.add(entryDescription);
+		});
+		final UrfObject index = new UrfObject();
+		index.setPropertyValue(PROPERTY_TAG_MUMMY_ENTRIES, entryDescriptions);
+		final Path indexParentDirectory = indexFile.getParent();
+		if(indexParentDirectory != null) {
+			createDirectories(indexParentDirectory);
+		}
+		final Path tempFile = indexFile.resolveSibling(addExtension(indexFile.getFileName().toString(), "tmp"));
+		try (final OutputStream outputStream = new BufferedOutputStream(newOutputStream(tempFile))) {
+			new TurfSerializer().serializeDocument(outputStream, TURF.PROPERTIES_MEDIA_TYPE, index);
+		}
+		move(tempFile, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+		savedEntries = currentEntries;
+		getLogger().debug("Saved build index `{}` with {} entries.", indexFile, entryDescriptions.size());
+	}
+
+}
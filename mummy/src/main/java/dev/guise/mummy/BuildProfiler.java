@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static java.util.Comparator.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.*;
+
+import dev.guise.mummy.GuiseMummy.LifeCyclePhase;
+
+/// Collects the wall time and allocated bytes of life cycle phases, of the mummification of individual artifacts, and of the stages within mummification of
+/// an artifact, such as the steps of the page processing pipeline, and writes reports of the results.
+///
+/// A measurement is started using [#startPhaseMeasurement()] or [#startMeasurement()], and recorded when the measured work is finished. The stages of
+/// mummifying an artifact are measured consecutively using [#startLaps(Artifact)]. Stage names are chosen by the mummifiers, such as `load` or `serialize`.
+/// @apiNote The time of mummifying a collection artifact includes that of mummifying its children, so collection artifacts are not included in the list of
+///          slowest artifacts.
+/// @implSpec Allocated bytes are determined using the HotSpot [com.sun.management.ThreadMXBean]; if it is unavailable or allocation measurement is
+///           disabled, allocated bytes are reported as `-1`. Phase measurements include allocations by all threads; artifact and stage measurements include
+///           only the allocations by the thread performing the work.
+/// @implNote This class is safe for concurrent use by multiple threads.
+/// @author Garret Wilson
+public class BuildProfiler {
+
+	/// The filename of the JSON profile report within the site description target directory.
+	public static final String JSON_REPORT_FILENAME = "build-profile.json";
+	/// The filename of the plain-text profile report within the site description target directory.
+	public static final String TEXT_REPORT_FILENAME = "build-profile.txt";
+
+	/// The number of slowest artifacts listed in the plain-text report.
+	public static final int SLOWEST_ARTIFACT_COUNT = 20;
+
+	/// The HotSpot thread management bean for measuring allocations, or `null` if allocations cannot be measured.
+	private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = findAllocationThreadMXBean().orElse(null);
+
+	/// @return The HotSpot thread management bean, if available and supporting measurement of allocations.
+	private static Optional<com.sun.management.ThreadMXBean> findAllocationThreadMXBean() {
+		if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemorySupported()) {
+			return Optional.of(threadMXBean);
+		}
+		return Optional.empty();
+	}
+
+	/// @return The bytes allocated so far by the current thread, or `-1` if not available.
+	private static long getCurrentThreadAllocatedBytes() {
+		return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+	}
+
+	/// @return The bytes allocated so far by all threads, or `-1` if not available.
+	private static long getTotalAllocatedBytes() {
+		return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getTotalThreadAllocatedBytes() : -1;
+	}
+
+	private final Path siteSourceDirectory;
+
+	/// The totals of each life cycle phase.
+	private final Map<LifeCyclePhase, Totals> phaseTotals = Collections.synchronizedMap(new EnumMap<>(LifeCyclePhase.class));
+
+	/// The totals of each stage across all artifacts, in the order stages were first recorded.
+	private final Map<String, Totals> stageTotals = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/// The profiles of the artifacts, keyed to their source paths.
+	private final Map<Path, ArtifactProfile> artifactProfiles = new ConcurrentHashMap<>();
+
+	/// Constructor.
+	/// @param siteSourceDirectory The base directory of the site source, against which artifact source paths are reported.
+	public BuildProfiler(@NonNull final Path siteSourceDirectory) {
+		this.siteSourceDirectory = requireNonNull(siteSourceDirectory);
+	}
+
+	/// Starts measuring work performed by any thread, such as a life cycle phase.
+	/// @return A new measurement.
+	public Measurement startPhaseMeasurement() {
+		return new Measurement(true);
+	}
+
+	/// Starts measuring work performed by the current thread, such as mummifying an artifact.
+	/// @return A new measurement.
+	public Measurement startMeasurement() {
+		return new Measurement(false);
+	}
+
+	/// Starts measuring consecutive stages of mummifying an artifact on the current thread.
+	/// @param artifact The artifact being mummified.
+	/// @return A new series of laps, the first of which starts now.
+	public Laps startLaps(@NonNull final Artifact artifact) {
+		return new Laps(artifact);
+	}
+
+	/// Returns the profile of an artifact, creating it if needed.
+	/// @param artifact The artifact.
+	/// @return The profile of the artifact.
+	private ArtifactProfile getArtifactProfile(@NonNull final Artifact artifact) {
+		return artifactProfiles.computeIfAbsent(artifact.getSourcePath(), _ -> new ArtifactProfile(artifact));
+	}
+
+	/// The amount of time and memory used by some work in progress.
+	public final class Measurement {
+
+		private final boolean allThreads;
+
+		private final long startNanos;
+
+		private final long startAllocatedBytes;
+
+		/// Constructor. The measurement starts immediately.
+		/// @param allThreads `true` if allocations by all threads are to be measured; `false` if only the current thread is to be measured.
+		private Measurement(final boolean allThreads) {
+			this.allThreads = allThreads;
+			startAllocatedBytes = allThreads ? getTotalAllocatedBytes() : getCurrentThreadAllocatedBytes();
+			startNanos = System.nanoTime();
+		}
+
+		/// Adds the time and memory used since the measurement started to the given totals.
+		/// @param totals The totals to update.
+		private void addTo(@NonNull final Totals... totals) {
+			final long elapsedNanos = System.nanoTime() - startNanos;
+			final long allocatedBytes = allThreads ? getTotalAllocatedBytes() : getCurrentThreadAllocatedBytes();
+			final long measuredAllocatedBytes = startAllocatedBytes >= 0 && allocatedBytes >= 0 ? allocatedBytes - startAllocatedBytes : -1;
+			for(final Totals total : totals) {
+				total.add(elapsedNanos, measuredAllocatedBytes);
+			}
+		}
+
+		/// Records the measurement as that of a life cycle phase.
+		/// @param phase The life cycle phase that was measured.
+		public void recordPhase(@NonNull final LifeCyclePhase phase) {
+			addTo(phaseTotals.computeIfAbsent(phase, _ -> new Totals()));
+		}
+
+		/// Records the measurement as that of mummifying an artifact.
+		/// @param artifact The artifact that was mummified.
+		public void recordArtifact(@NonNull final Artifact artifact) {
+			addTo(getArtifactProfile(artifact).totals);
+		}
+
+	}
+
+	/// Consecutive measurements of the stages of mummifying an artifact, with each stage starting when the previous one ends.
+	/// @implNote This class is not safe for concurrent use by multiple threads.
+	public final class Laps {
+
+		private final ArtifactProfile artifactProfile;
+
+		private Measurement measurement;
+
+		/// Constructor. The first lap starts immediately.
+		/// @param artifact The artifact being mummified.
+		private Laps(@NonNull final Artifact artifact) {
+			artifactProfile = getArtifactProfile(artifact);
+			measurement = startMeasurement();
+		}
+
+		/// Records the time and memory used since the previous lap, or since the laps were started, as that of a stage; and starts the next lap.
+		/// @param stage The name of the stage just finished.
+		public void lap(@NonNull final String stage) {
+			final Totals artifactStageTotals = artifactProfile.stageTotals.computeIfAbsent(stage, _ -> new Totals());
+			measurement.addTo(artifactStageTotals, stageTotals.computeIfAbsent(stage, _ -> new Totals()));
+			measurement = startMeasurement();
+		}
+
+	}
+
+	/// Accumulated count, wall time, and allocated bytes of some measured work.
+	private static final class Totals {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder wallNanos = new LongAdder();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		/// Whether allocations could not be measured at least once.
+		private volatile boolean allocatedBytesUnknown = false;
+
+		/// Adds a single measurement.
+		/// @param elapsedNanos The wall time in nanoseconds.
+		/// @param bytes The bytes allocated, or `-1` if not known.
+		void add(final long elapsedNanos, final long bytes) {
+			count.increment();
+			wallNanos.add(elapsedNanos);
+			if(bytes >= 0) {
+				allocatedBytes.add(bytes);
+			} else {
+				allocatedBytesUnknown = true;
+			}
+		}
+
+		/// @return The number of measurements.
+		long getCount() {
+			return count.sum();
+		}
+
+		/// @return The total wall time in nanoseconds.
+		long getWallNanos() {
+			return wallNanos.sum();
+		}
+
+		/// @return The total bytes allocated, or `-1` if not known.
+		long getAllocatedBytes() {
+			return allocatedBytesUnknown ? -1 : allocatedBytes.sum();
+		}
+
+	}
+
+	/// The measurements of a single artifact.
+	private static final class ArtifactProfile {
+
+		private final Artifact artifact;
+
+		private final Totals totals = new Totals();
+
+		/// The totals of each stage of mummifying the artifact, in the order stages were first recorded.
+		private final Map<String, Totals> stageTotals = Collections.synchronizedMap(new LinkedHashMap<>());
+
+		/// Constructor.
+		/// @param artifact The artifact being profiled.
+		ArtifactProfile(@NonNull final Artifact artifact) {
+			this.artifact = requireNonNull(artifact);
+		}
+
+	}
+
+	/// Returns the profiles of artifacts, slowest first.
+	/// @param includeCollections Whether collection artifacts, the times of which include those of their children, are to be included.
+	/// @return The profiles of artifacts that were mummified, sorted by descending wall time.
+	private List<ArtifactProfile> getArtifactProfilesBySlowest(final boolean includeCollections) {
+		return artifactProfiles.values().stream().filter(profile -> profile.totals.getCount() > 0)
+				.filter(profile -> includeCollections || !(profile.artifact instanceof CollectionArtifact))
+				.sorted(comparingLong((ArtifactProfile profile) -> profile.totals.getWallNanos()).reversed()).toList();
+	}
+
+	/// Returns the source path of an artifact relative to the site source directory, for reporting.
+	/// @param artifact The artifact.
+	/// @return The relative source path, using `/` as the separator.
+	private String toReportPath(@NonNull final Artifact artifact) {
+		return siteSourceDirectory.relativize(artifact.getSourcePath()).toString().replace(File.separatorChar, '/');
+	}
+
+	/// Writes the JSON and plain-text reports to a directory, which will be created if needed.
+	/// @param directory The directory in which to write the reports.
+	/// @throws IOException if there is an I/O error writing the reports.
+	/// @see #JSON_REPORT_FILENAME
+	/// @see #TEXT_REPORT_FILENAME
+	public void writeReports(@NonNull final Path directory) throws IOException {
+		createDirectories(directory);
+		try (final Writer writer = newBufferedWriter(directory.resolve(JSON_REPORT_FILENAME), UTF_8)) {
+			writeJsonReport(writer);
+		}
+		try (final Writer writer = newBufferedWriter(directory.resolve(TEXT_REPORT_FILENAME), UTF_8)) {
+			writeTextReport(writer);
+		}
+	}
+
+	/// Writes a JSON report listing the totals of each phase and stage, and every mummified artifact with its stages, slowest first.
+	/// @param writer The writer to receive the report.
+	/// @throws IOException if there is an I/O error writing the report.
+	public void writeJsonReport(@NonNull final Writer writer) throws IOException {
+		writer.write("{\n  \"phases\": [");
+		writeJsonTotals(writer, copyOf(phaseTotals), "phase", "\n    ");
+		writer.write("\n  ],\n  \"stages\": [");
+		writeJsonTotals(writer, copyOf(stageTotals), "stage", "\n    ");
+		writer.write("\n  ],\n  \"artifacts\": [");
+		boolean first = true;
+		for(final ArtifactProfile profile : getArtifactProfilesBySlowest(true)) {
+			writer.write(first ? "\n    {" : ",\n    {");
+			first = false;
+			writer.write("\"sourcePath\": ");
+			writeJsonString(writer, toReportPath(profile.artifact));
+			writer.write(", \"collection\": " + (profile.artifact instanceof CollectionArtifact));
+			writer.write(", \"wallNanos\": " + profile.totals.getWallNanos());
+			writer.write(", \"allocatedBytes\": " + profile.totals.getAllocatedBytes());
+			writer.write(", \"stages\": [");
+			writeJsonTotals(writer, copyOf(profile.stageTotals), "stage", " ");
+			writer.write(" ]}");
+		}
+		writer.write("\n  ]\n}\n");
+	}
+
+	/// Writes a plain-text report of the totals of each phase and stage, and of the [#SLOWEST_ARTIFACT_COUNT] slowest non-collection artifacts.
+	/// @param writer The writer to receive the report.
+	/// @throws IOException if there is an I/O error writing the report.
+	public void writeTextReport(@NonNull final Writer writer) throws IOException {
+		writer.write("Phases%n".formatted());
+		for(final Map.Entry<?, Totals> phaseEntry : copyOf(phaseTotals).entrySet()) {
+			writer.write("  %-16s %s%n".formatted(phaseEntry.getKey(), formatTotals(phaseEntry.getValue())));
+		}
+		writer.write("%nStages%n".formatted());
+		for(final Map.Entry<String, Totals> stageEntry : copyOf(stageTotals).entrySet()) {
+			final Totals totals = stageEntry.getValue();
+			writer.write("  %-16s %s in %d artifact(s)%n".formatted(stageEntry.getKey(), formatTotals(totals), totals.getCount()));
+		}
+		writer.write("%nSlowest artifacts%n".formatted());
+		for(final ArtifactProfile profile : getArtifactProfilesBySlowest(false).stream().limit(SLOWEST_ARTIFACT_COUNT).toList()) {
+			writer.write("  %s  %s%n".formatted(formatTotals(profile.totals), toReportPath(profile.artifact)));
+			for(final Map.Entry<String, Totals> stageEntry : copyOf(profile.stageTotals).entrySet()) {
+				writer.write("      %-16s %s%n".formatted(stageEntry.getKey(), formatTotals(stageEntry.getValue())));
+			}
+		}
+	}
+
+	/// Makes a copy of a synchronized map for iteration.
+	/// @param <K> The type of key.
+	/// @param map The synchronized map.
+	/// @return A copy of the map, in the same iteration order.
+	private static <K> Map<K, Totals> copyOf(@NonNull final Map<K, Totals> map) {
+		synchronized(map) {
+			return new LinkedHashMap<>(map);
+		}
+	}
+
+	/// Formats totals for the plain-text report.
+	/// @param totals The totals to format.
+	/// @return The wall time in milliseconds and allocated memory in mebibytes, aligned in columns.
+	private static String formatTotals(@NonNull final Totals totals) {
+		final long allocatedBytes = totals.getAllocatedBytes();
+		return "%8.1f ms %10s".formatted(totals.getWallNanos() / 1_000_000.0, allocatedBytes >= 0 ? "%.1f MiB".formatted(allocatedBytes / (1024.0 * 1024.0)) : "? MiB");
+	}
+
+	/// Writes named totals as a sequence of JSON objects, without the enclosing array delimiters.
+	/// @param writer The writer to receive the JSON.
+	/// @param totalsByName The totals keyed to their names.
+	/// @param nameKey The JSON key of the name, such as `stage`.
+	/// @param separator The whitespace preceding each object.
+	/// @throws IOException if there is an I/O error writing the JSON.
+	private static void writeJsonTotals(@NonNull final Writer writer, @NonNull final Map<?, Totals> totalsByName, @NonNull final String nameKey,
+			@NonNull final String separator) throws IOException {
+		boolean first = true;
+		for(final Map.Entry<?, Totals> entry : totalsByName.entrySet()) {
+			final Totals totals = entry.getValue();
+			writer.write(first ? separator : "," + separator);
+			first = false;
+			writer.write("{\"" + nameKey + "\": ");
+			writeJsonString(writer, entry.getKey().toString());
+			writer.write(", \"count\": " + totals.getCount());
+			writer.write(", \"wallNanos\": " + totals.getWallNanos());
+			writer.write(", \"allocatedBytes\": " + totals.getAllocatedBytes() + "}");
+		}
+	}
+
+	/// Writes a string as a JSON string literal, escaping characters as needed.
+	/// @param writer The writer to receive the JSON.
+	/// @param string The string to write.
+	/// @throws IOException if there is an I/O error writing the JSON.
+	private static void writeJsonString(@NonNull final Writer writer, @NonNull final String string) throws IOException {
+		writer.write('"');
+		for(int i = 0; i < string.length(); i++) {
+			final char c = string.charAt(i);
+			switch(c) {
+				case '"' -> writer.write("\\\"");
+				case '\\' -> writer.write("\\\\");
+				case '\n' -> writer.write("\\n");
+				case '\r' -> writer.write("\\r");
+				case '\t' -> writer.write("\\t");
+				default -> {
+					if(c < 0x20) {
+						writer.write("\\u%04x".formatted((int)c));
+					} else {
+						writer.write(c);
+					}
+				}
+			}
+		}
+		writer.write('"');
+	}
+
+}
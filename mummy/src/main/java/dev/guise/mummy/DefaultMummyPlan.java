@@ -28,33 +28,39 @@
 import com.globalmentor.net.UriPath;
 
 /// Default plan for mummifying a site.
+/// @implSpec This implementation is an immutable snapshot of the artifact tree at the time of construction, with all indexes computed up front; only the
+///           artifact views are determined as requested, in a thread-safe manner. It is therefore safe for concurrent use by multiple threads.
 /// @author Garret Wilson
 public class DefaultMummyPlan extends AbstractMummyPlan {
 
-	private final Map<Artifact, Artifact> principalArtifactsBySubsumedArtifacts = new HashMap<>();
+	private final Map<Artifact, Artifact> principalArtifactsBySubsumedArtifacts;
 
 	@Override
 	public Artifact getPrincipalArtifact(final Artifact artifact) {
 		return principalArtifactsBySubsumedArtifacts.getOrDefault(requireNonNull(artifact), artifact);
 	}
 
-	private final Map<Artifact, Artifact> parentArtifactsByArtifact = new HashMap<>();
+	private final Map<Artifact, Artifact> parentArtifactsByArtifact;
 
 	@Override
 	public Optional<Artifact> findParentArtifact(final Artifact artifact) {
 		return Optional.ofNullable(parentArtifactsByArtifact.get(getPrincipalArtifact(artifact)));
 	}
 
-	private final Map<Path, Artifact> artifactsByReferenceSourcePath = new HashMap<>();
+	private final Map<Path, Artifact> artifactsByReferenceSourcePath;
 
 	@Override
 	public Optional<Artifact> findArtifactBySourceReference(final Path referenceSourcePath) {
 		return Optional.ofNullable(artifactsByReferenceSourcePath.get(checkArgumentAbsolute(referenceSourcePath)));
 	}
 
-	/// Recursively initializes the mummification plan for the given artifact. Parent artifacts are updated in the map, for example.
-	/// @param artifact The artifact the plan of which to update.
-	private void initialize(@NonNull final Artifact artifact) {
+	/// Recursively indexes the given artifact and its comprised artifacts. Parent artifacts are updated in the map, for example.
+	/// @param artifact The artifact to index.
+	/// @param principalArtifactsBySubsumedArtifacts The map of principal artifacts to update, keyed to subsumed artifacts.
+	/// @param parentArtifactsByArtifact The map of parent artifacts to update, keyed to child artifacts.
+	/// @param artifactsByReferenceSourcePath The map of artifacts to update, keyed to referent source paths.
+	private static void index(@NonNull final Artifact artifact, @NonNull final Map<Artifact, Artifact> principalArtifactsBySubsumedArtifacts,
+			@NonNull final Map<Artifact, Artifact> parentArtifactsByArtifact, @NonNull final Map<Path, Artifact> artifactsByReferenceSourcePath) {
 		requireNonNull(artifact);
 		if(artifact instanceof CompositeArtifact compositeArtifact) {
 			compositeArtifact.getSubsumedArtifacts().forEach(subsumedArtifact -> principalArtifactsBySubsumedArtifacts.put(subsumedArtifact, artifact));
@@ -63,7 +69,9 @@ private void initialize(@NonNull final Artifact artifact) {
 					parentArtifactsByArtifact.put(childArtifact, artifact); //map the parent to the child
 				}
 			}
-			compositeArtifact.comprisedArtifacts().forEach(this::initialize);//recursively update the plan for the comprised artifacts
+			//recursively update the plan for the comprised artifacts
+			compositeArtifact.comprisedArtifacts().forEach(
+					comprisedArtifact -> index(comprisedArtifact, principalArtifactsBySubsumedArtifacts, parentArtifactsByArtifact, artifactsByReferenceSourcePath));
 		}
 		//Update the referent source paths for this artifact after initializing
 		//comprised artifacts, because those of the principal artifact will override
@@ -73,10 +81,17 @@ private void initialize(@NonNull final Artifact artifact) {
 	}
 
 	/// Root artifact constructor.
+	/// @implSpec The artifact tree is indexed once, and the resulting indexes are stored as unmodifiable maps.
 	/// @param rootArtifact The root artifact of the site, representing the root directory.
 	public DefaultMummyPlan(@NonNull final Artifact rootArtifact) {
 		super(rootArtifact);
-		initialize(rootArtifact);
+		final Map<Artifact, Artifact> principalArtifactsBySubsumedArtifacts = new HashMap<>();
+		final Map<Artifact, Artifact> parentArtifactsByArtifact = new HashMap<>();
+		final Map<Path, Artifact> artifactsByReferenceSourcePath = new HashMap<>();
+		index(rootArtifact, principalArtifactsBySubsumedArtifacts, parentArtifactsByArtifact, artifactsByReferenceSourcePath);
+		this.principalArtifactsBySubsumedArtifacts = Map.copyOf(principalArtifactsBySubsumedArtifacts);
+		this.parentArtifactsByArtifact = Map.copyOf(parentArtifactsByArtifact);
+		this.artifactsByReferenceSourcePath = Map.copyOf(artifactsByReferenceSourcePath);
 	}
 
 	@Override
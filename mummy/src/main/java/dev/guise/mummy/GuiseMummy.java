@@ -31,11 +31,16 @@
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.nio.file.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.Pattern;
 
 import org.jspecify.annotations.*;
+import org.zalando.fauxpas.ThrowingSupplier;
 
+import com.globalmentor.java.Enums;
+import com.globalmentor.lex.Identifier;
 import com.globalmentor.net.DomainName;
 
 import io.clogr.Clogged;
@@ -214,6 +219,40 @@ public static Optional<Collection<DomainName>> findConfiguredSiteAltDomains(@Non
 	/// extension removal for bare names.
 	/// @see PageMummifier#CONFIG_KEY_MUMMY_PAGE_NAMES_BARE
 	public static final String CONFIG_KEY_MUMMY_ASSET_NAME_PATTERN = "mummy.assetNamePattern";
+	/// The configuration for how incremental mummification detects whether a source file has changed. The value is the lowercase, kebab-case form of
+	/// [ChangeDetection] (e.g. `hash`); defaults to [#DEFAULT_CHANGE_DETECTION].
+	/// @see #getConfiguredChangeDetection(Configuration)
+	public static final String CONFIG_KEY_MUMMY_CHANGE_DETECTION = "mummy.changeDetection";
+
+	/// The means by which incremental mummification detects whether a file has changed since it was last mummified.
+	public enum ChangeDetection implements Identifier {
+
+		/// A file is considered changed if its modification timestamp differs from the one recorded.
+		TIMESTAMP,
+		/// A file is considered changed if its modification timestamp differs from the one recorded and its content hash also differs from the one recorded.
+		/// Content is only hashed if the timestamp differs. This allows incremental mummification after timestamps are reset, such as after a fresh
+		/// checkout from version control.
+		HASH;
+	}
+
+	/// The default means of change detection if none is specified in the configuration.
+	/// @see #CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	public static final ChangeDetection DEFAULT_CHANGE_DETECTION = ChangeDetection.TIMESTAMP;
+
+	/// Retrieves the configured means of change detection for incremental mummification.
+	/// @param configuration The configuration from which to retrieve values.
+	/// @return The configured change detection, or [#DEFAULT_CHANGE_DETECTION] if none is configured.
+	/// @throws ConfigurationException if the configured change detection is not recognized.
+	/// @see #CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	public static ChangeDetection getConfiguredChangeDetection(@NonNull final Configuration configuration) throws ConfigurationException {
+		try {
+			return configuration.findString(CONFIG_KEY_MUMMY_CHANGE_DETECTION).map(Enums.fromSerializionOf(ChangeDetection.class)).orElse(DEFAULT_CHANGE_DETECTION);
+		} catch(final IllegalArgumentException illegalArgumentException) {
+			throw new ConfigurationException("The `%s` configuration is not recognized: %s".formatted(CONFIG_KEY_MUMMY_CHANGE_DETECTION,
+					illegalArgumentException.getLocalizedMessage()), illegalArgumentException);
+		}
+	}
+
 	/// The configuration for the list of base filenames of files, in order of priority, that serve as content for a collection; defaults to
 	/// `["index"]`. During mummification, any content file discovered will be normalized (renamed if needed) to the first of these base filenames.
 	public static final String CONFIG_KEY_MUMMY_COLLECTION_CONTENT_BASE_NAMES = "mummy.collectionContentBaseNames";
@@ -243,6 +282,9 @@ public static Optional<String> findCollectionContentResourceName(final Configura
 		});
 	}
 
+	/// The configuration indicating whether a description sidecar file is generated in the site description target directory for each target; defaults to
+	/// `true`. If disabled, target descriptions are only persisted in the [BuildIndex], and no sidecar files are generated for other tools to read.
+	public static final String CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS = "mummy.descriptionSidecars";
 	/// The configuration for the base filename for navigation definition; defaults to `.navigation`.
 	public static final String CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME = "mummy.navigationBaseName";
 	/// The configuration for the base filename of a template; defaults to `.template`.
@@ -278,6 +320,23 @@ public void setFull(final boolean full) {
 		this.full = full;
 	}
 
+	private boolean profile = false;
+
+	/// Indicates whether build profiling is enabled.
+	/// @return `true` if the time and memory used by each phase, artifact, and mummification stage are to be measured and reported.
+	/// @see BuildProfiler
+	public boolean isProfile() {
+		return profile;
+	}
+
+	/// Enables or disables build profiling. If enabled, a report is written to the site description target directory after mummification.
+	/// @param profile `true` if the build should be profiled.
+	/// @see BuildProfiler#JSON_REPORT_FILENAME
+	/// @see BuildProfiler#TEXT_REPORT_FILENAME
+	public void setProfile(final boolean profile) {
+		this.profile = profile;
+	}
+
 	private boolean verbose = false;
 
 	/// Indicates whether verbose output is enabled.
@@ -336,37 +395,77 @@ public void mummify(@NonNull final GuiseProject project, @NonNull final LifeCycl
 		getLogger().info("Mummify phase: {}", LifeCyclePhase.INITIALIZE); //TODO i18n
 		final Context context = initialize(project); //the initialize phase must always occur
 
+		mummify(context, phase, executions);
+	}
+
+	/// Performs static site generation using an initialized context, carrying out all life cycle phases after [LifeCyclePhase#INITIALIZE].
+	/// @implSpec If the context already has a build index, such as from a previous mummification, it will be used instead of loading the index anew.
+	/// @implSpec If the context has a build profiler, each phase is measured, and the profile reports are written to the site description target directory
+	///           afterwards. As a context keeps its profiler, the reports of a context used for several mummifications cover all of them.
+	/// @param context The context of static site generation, as returned by [#initialize(GuiseProject)].
+	/// @param phase The life cycle phase to execute (including all those before it).
+	/// @param executions Optional executions to activate during mummification.
+	/// @throws IllegalArgumentException if the configured source directory does not exist or is not a directory.
+	/// @throws IllegalArgumentException if the configured source and target directories overlap.
+	/// @throws IOException if there is an I/O error generating the static site.
+	protected void mummify(@NonNull final Context context, @NonNull final LifeCyclePhase phase, @NonNull final Set<MummyExecution> executions)
+			throws IOException {
+
+		final Optional<BuildProfiler> foundBuildProfiler = context.findBuildProfiler();
+
 		//# validate phase
 		if(phase.compareTo(LifeCyclePhase.VALIDATE) >= 0) {
 			getLogger().info("Mummify phase: {}", LifeCyclePhase.VALIDATE); //TODO i18n
+			final Optional<BuildProfiler.Measurement> foundMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
 			validate(context);
+			foundMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.VALIDATE));
 		}
 
 		//# plan phase
 		if(phase.compareTo(LifeCyclePhase.PLAN) >= 0) {
 			getLogger().info("Mummify phase: {}", LifeCyclePhase.PLAN); //TODO i18n
-			final Artifact rootArtifact = new DirectoryMummifier().plan(context, context.getSiteSourceDirectory(), context.getSiteTargetDirectory()); //TODO create special SiteMummifier extending DirectoryMummifier
+			final Optional<BuildProfiler.Measurement> foundPlanMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
+			final BuildIndex buildIndex = context.findBuildIndex().orElseGet(() -> {
+				final Path buildIndexFile = context.getSiteDescriptionTargetDirectory().resolve(BuildIndex.FILENAME);
+				final BuildIndex newBuildIndex = context.isIncremental() ? BuildIndex.load(context.getSiteTargetDirectory(), buildIndexFile)
+						: new BuildIndex(context.getSiteTargetDirectory(), buildIndexFile); //a full mummification has no use for the old index
+				context.setBuildIndex(newBuildIndex);
+				return newBuildIndex;
+			});
+			//collection mummifiers will fork planning of child artifacts when running in a pool
+			final Artifact rootArtifact = performWork(Runtime.getRuntime().availableProcessors(),
+					() -> new DirectoryMummifier().plan(context, context.getSiteSourceDirectory(), context.getSiteTargetDirectory())); //TODO create special SiteMummifier extending DirectoryMummifier
 			final MummyPlan plan = new DefaultMummyPlan(rootArtifact);
 			context.setPlan(plan);
+			//discard index entries of artifacts no longer in the site, in case the index was kept from an earlier build
+			final Set<Path> planTargetPaths = new HashSet<>();
+			plan.walk((artifact, subsumed) -> planTargetPaths.add(artifact.getTargetPath()));
+			buildIndex.retainDescriptions(planTargetPaths);
 
 			if(executions.contains(MummyExecution.DESCRIBE_PLAN)) {
 				new PlanDescriber(plan).describeTo(System.out, isVerbose());
 			}
 
 			printArtifactDescription(context, rootArtifact);
+			foundPlanMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.PLAN));
 
 			//# mummify phase
 			if(phase.compareTo(LifeCyclePhase.MUMMIFY) >= 0) {
 				getLogger().info("Mummify phase: {}", LifeCyclePhase.MUMMIFY); //TODO i18n
+				final Optional<BuildProfiler.Measurement> foundMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
 				final Path siteTargetDirectory = context.getSiteTargetDirectory();
 				createDirectories(siteTargetDirectory);
 				checkArgumentRealPath(siteTargetDirectory, NOFOLLOW_LINKS); // checking after directory creation catches external creation with wrong case between PLAN and MUMMIFY
+				//artifacts are mummified sequentially, as pages read the descriptions of other artifacts while descriptions are being updated
 				rootArtifact.getMummifier().mummify(context, rootArtifact);
+				buildIndex.save(); //flush the index once for the entire site
+				foundMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.MUMMIFY));
 			}
 
 			//# prepare-deploy phase
 			if(phase.compareTo(LifeCyclePhase.PREPARE_DEPLOY) >= 0) {
 				getLogger().info("Mummify phase: {}", LifeCyclePhase.PREPARE_DEPLOY); //TODO i18n
+				final Optional<BuildProfiler.Measurement> foundPrepareDeployMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
 
 				//configured DNS
 				final Optional<Dns> deployDns = context.getConfiguration().findSection(CONFIG_KEY_DEPLOY_DNS).map(dnsConfiguration -> {
@@ -403,10 +502,12 @@ public void mummify(@NonNull final GuiseProject project, @NonNull final LifeCycl
 				}));
 				//prepare the targets
 				deployTargets.forEach(throwingConsumer(target -> target.prepare(context))); //prepare the targets
+				foundPrepareDeployMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.PREPARE_DEPLOY));
 
 				//# deploy phase
 				if(phase.compareTo(LifeCyclePhase.DEPLOY) >= 0) {
 					getLogger().info("Mummify phase: {}", LifeCyclePhase.DEPLOY); //TODO i18n
+					final Optional<BuildProfiler.Measurement> foundMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
 					//deploy the DNS
 					deployDns.ifPresent(throwingConsumer(dns -> {
 						dns.deploy(context, rootArtifact);
@@ -418,11 +519,152 @@ public void mummify(@NonNull final GuiseProject project, @NonNull final LifeCycl
 						getLogger().info("({}) Successfully deployed site to {}.", target.getClass().getSimpleName(),
 								deployUrl.map(url -> "<" + url + ">").orElse("target"));
 					}
+					foundMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.DEPLOY));
+				}
+			}
+		}
+
+		if(foundBuildProfiler.isPresent()) {
+			final Path siteDescriptionTargetDirectory = context.getSiteDescriptionTargetDirectory();
+			foundBuildProfiler.get().writeReports(siteDescriptionTargetDirectory);
+			getLogger().info("Build profile written to `{}`.", siteDescriptionTargetDirectory.resolve(BuildProfiler.TEXT_REPORT_FILENAME)); //TODO i18n
+		}
+	}
+
+	/// The amount of time without further changes to the site source to wait before mummifying the site again when watching.
+	/// @see #watch(GuiseProject, Set)
+	public static final Duration WATCH_DEBOUNCE_DELAY = Duration.ofMillis(100);
+
+	/// Mummifies a site and then watches the site source directory, mummifying the site again each time its source changes, until the current thread is
+	/// interrupted.
+	/// @apiNote Keeping the mummification context in memory avoids the startup and initialization costs of mummifying the site repeatedly. Only the source
+	///          paths that changed are planned again, and as with any incremental mummification only the affected artifacts are regenerated.
+	/// @implSpec Changes are collected until none has been detected for [#WATCH_DEBOUNCE_DELAY]. If the site configuration file changes, the context is
+	///           initialized anew, and the entire site is planned again.
+	/// @implSpec An error mummifying the site after a change is logged, and watching continues so that the error may be corrected.
+	/// @param project The Guise project governing mummification.
+	/// @param executions Optional executions to activate during mummification.
+	/// @throws IllegalArgumentException if the configured source directory does not exist or is not a directory.
+	/// @throws IllegalArgumentException if the configured source and target directories overlap.
+	/// @throws IOException if there is an I/O error during the initial mummification or while watching the site source directory.
+	/// @see LifeCyclePhase#MUMMIFY
+	/// @see MummyContext#findReusableArtifact(Path)
+	public void watch(@NonNull final GuiseProject project, @NonNull final Set<MummyExecution> executions) throws IOException {
+		getLogger().info("Mummify phase: {}", LifeCyclePhase.INITIALIZE); //TODO i18n
+		final Context context = initialize(project);
+		final Path siteSourceDirectory = context.getSiteSourceDirectory();
+		checkArgumentDirectory(siteSourceDirectory);
+		try (final SourceTreeWatcher watcher = new SourceTreeWatcher(siteSourceDirectory, context::isIgnore)) { //start watching before mummifying so that no change is missed
+			mummify(context, LifeCyclePhase.MUMMIFY, executions);
+			final boolean wasFull = isFull();
+			setFull(false); //even if the first mummification was full, only what changes afterwards needs to be regenerated
+			try {
+				watchChanges(project, context, watcher, executions);
+			} finally {
+				setFull(wasFull);
+			}
+		}
+	}
+
+	/// Mummifies the site each time its source changes, until the current thread is interrupted.
+	/// @param project The Guise project governing mummification.
+	/// @param context The context of the initial mummification.
+	/// @param watcher The watcher of the site source directory.
+	/// @param executions Optional executions to activate during mummification.
+	/// @throws IOException if there is an I/O error watching the site source directory.
+	private void watchChanges(@NonNull final GuiseProject project, @NonNull Context context, @NonNull final SourceTreeWatcher watcher,
+			@NonNull final Set<MummyExecution> executions) throws IOException {
+		final Path siteSourceDirectory = watcher.getRootDirectory();
+		final Set<Path> pendingChangedSourcePaths = new HashSet<>(); //changes are kept until mummification succeeds, as a failed plan would not reflect them
+		while(true) {
+			getLogger().info("Watching site source directory `{}` for changes. (Press Ctrl+C to stop.)", siteSourceDirectory); //TODO i18n
+			final Set<Path> changedSourcePaths;
+			try {
+				changedSourcePaths = watcher.awaitChanges(WATCH_DEBOUNCE_DELAY);
+			} catch(final InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			getLogger().info("Detected {} changed source path(s).", changedSourcePaths.size()); //TODO i18n
+			pendingChangedSourcePaths.addAll(changedSourcePaths);
+			final long startNanos = System.nanoTime();
+			try {
+				if(pendingChangedSourcePaths.stream().anyMatch(changedSourcePath -> isMummyConfigFile(siteSourceDirectory, changedSourcePath))) {
+					getLogger().info("Site configuration changed; reinitializing."); //TODO i18n
+					context = initialize(project);
+				} else {
+					context.setChangedSourcePaths(pendingChangedSourcePaths);
 				}
+				mummify(context, LifeCyclePhase.MUMMIFY, executions);
+				pendingChangedSourcePaths.clear();
+				getLogger().info("Mummified site in {} ms.", Duration.ofNanos(System.nanoTime() - startNanos).toMillis()); //TODO i18n
+			} catch(final IOException | RuntimeException exception) {
+				getLogger().error("Error mummifying site: {}", exception.getLocalizedMessage(), exception); //TODO i18n
 			}
 		}
 	}
 
+	/// Plans a site and keeps the plan in memory so that artifacts may be mummified on demand as they are needed, such as when requested from a development
+	/// server.
+	/// @apiNote The returned live site must be closed when no longer needed.
+	/// @implSpec The site source directory is watched for changes from before the site is planned, so that no change is missed. The site target directory is
+	///           created if needed, but no artifacts are mummified.
+	/// @param project The Guise project governing mummification.
+	/// @return A live site for mummifying artifacts on demand.
+	/// @throws IllegalArgumentException if the configured source directory does not exist or is not a directory.
+	/// @throws IllegalArgumentException if the configured source and target directories overlap.
+	/// @throws IOException if there is an I/O error planning the site or watching the site source directory.
+	/// @see LiveSite#mummifyTarget(Path)
+	public LiveSite openLiveSite(@NonNull final GuiseProject project) throws IOException {
+		getLogger().info("Mummify phase: {}", LifeCyclePhase.INITIALIZE); //TODO i18n
+		final Context context = initialize(project);
+		final Path siteSourceDirectory = context.getSiteSourceDirectory();
+		checkArgumentDirectory(siteSourceDirectory);
+		final SourceTreeWatcher watcher = new SourceTreeWatcher(siteSourceDirectory, context::isIgnore);
+		try {
+			mummify(context, LifeCyclePhase.PLAN, EnumSet.noneOf(MummyExecution.class));
+			createDirectories(context.getSiteTargetDirectory());
+			return new LiveSite(this, context, watcher);
+		} catch(final IOException | RuntimeException exception) {
+			watcher.close();
+			throw exception;
+		}
+	}
+
+	/// Determines whether a path is that of the site Mummy configuration file, which is loaded during initialization.
+	/// @param siteSourceDirectory The site source directory.
+	/// @param path The path to check.
+	/// @return `true` if the path is that of a site configuration file, regardless of its format.
+	/// @see #MUMMY_CONFIG_BASE_FILENAME
+	static boolean isMummyConfigFile(@NonNull final Path siteSourceDirectory, @NonNull final Path path) {
+		return siteSourceDirectory.equals(path.getParent())
+				&& findFilename(path).map(filename -> removeExtension(filename)).filter(MUMMY_CONFIG_BASE_FILENAME::equals).isPresent();
+	}
+
+	/// Performs some unit of work such as planning the site. If the given parallelism is greater than one, the work is performed in a new
+	/// [ForkJoinPool] with that parallelism, allowing mummifiers to fork subtasks using [ForkJoinTask]; otherwise the work is performed on the calling thread.
+	/// @param <T> The type of result produced by the work.
+	/// @param parallelism The number of worker threads to use.
+	/// @param work The work to perform.
+	/// @return The result of the work.
+	/// @throws IOException if there is an I/O error performing the work.
+	protected static <T> T performWork(final int parallelism, @NonNull final ThrowingSupplier<T, IOException> work) throws IOException {
+		if(parallelism <= 1) {
+			return work.tryGet();
+		}
+		try (final ForkJoinPool workPool = new ForkJoinPool(parallelism)) {
+			return workPool.invoke(ForkJoinTask.adapt(() -> {
+				try {
+					return work.tryGet();
+				} catch(final IOException ioException) {
+					throw new UncheckedIOException(ioException);
+				}
+			}));
+		} catch(final UncheckedIOException uncheckedIOException) {
+			throw uncheckedIOException.getCause();
+		}
+	}
+
 	/// Initialize phase; loads the site configuration, if any, and sets up the mummy context.
 	/// @param project The project governing site mummification.
 	/// @return A context to use during mummification.
@@ -431,6 +673,8 @@ protected Context initialize(@NonNull final GuiseProject project) throws IOExcep
 		final Path projectDirectory = project.getDirectory();
 		final Path siteSourceDirectory = deriveRealPath(
 				projectDirectory.resolve(project.getConfiguration().getPath(GuiseMummy.PROJECT_CONFIG_KEY_SITE_SOURCE_DIRECTORY)), NOFOLLOW_LINKS);
+		final Optional<BuildProfiler> foundBuildProfiler = isProfile() ? Optional.of(new BuildProfiler(siteSourceDirectory)) : Optional.empty();
+		final Optional<BuildProfiler.Measurement> foundMeasurement = foundBuildProfiler.map(BuildProfiler::startPhaseMeasurement);
 
 		final Configuration mummyConfiguration;
 		if(isDirectory(siteSourceDirectory)) { //leave error generation to validate phase TODO improve Confound not to throw errors if directory doesn't exist?
@@ -458,11 +702,13 @@ protected Context initialize(@NonNull final GuiseProject project) throws IOExcep
 			}
 			context.registerFileMummifier(fileMummifier);
 		}
+		foundBuildProfiler.ifPresent(context::setBuildProfiler);
 
 		getLogger().debug("Mummification: {}", context.isFull() ? "full" : "incremental"); //TODO i18n
 		getLogger().debug("Configuration: page names bare = `{}`",
 				context.getConfiguration().findBoolean(PageMummifier.CONFIG_KEY_MUMMY_PAGE_NAMES_BARE).orElse(false));
 
+		foundMeasurement.ifPresent(measurement -> measurement.recordPhase(LifeCyclePhase.INITIALIZE));
 		return context;
 	}
 
@@ -492,6 +738,7 @@ public void validate(@NonNull final MummyContext context) throws IOException {
 		OBSOLETE_CONFIG_KEYS.stream().filter(configuration::hasConfigurationValue).findAny().ifPresent(obsoleteConfigKey -> {
 			throw new ConfigurationException("The configuration key `%s` is obsolete and must not be used.".formatted(obsoleteConfigKey));
 		});
+		getConfiguredChangeDetection(configuration); //make sure any configured change detection is recognized
 		//make sure all the configured domains resolve to FQDNs
 		findConfiguredDomain(configuration);
 		findConfiguredSiteDomain(configuration);
@@ -646,7 +893,7 @@ public boolean isFull() {
 			return GuiseMummy.this.isFull();
 		}
 
-		private MummyPlan plan = null;
+		private volatile MummyPlan plan = null;
 
 		@Override
 		public MummyPlan getPlan() {
@@ -655,9 +902,65 @@ public MummyPlan getPlan() {
 		}
 
 		/// Sets the site plan.
+		/// @implSpec This implementation clears any artifact dependencies left over from mummifying the previous plan using [#clearArtifactDependencies()].
 		/// @param plan The plan for the site.
 		protected void setPlan(@NonNull final MummyPlan plan) {
 			this.plan = requireNonNull(plan);
+			clearArtifactDependencies();
+		}
+
+		private volatile Set<Path> changedSourcePaths = null;
+
+		/// Indicates the source paths that have changed since the site was last planned, allowing artifacts of the current plan to be reused for other source
+		/// paths when the site is planned again.
+		/// @param changedSourcePaths The source paths that were created, deleted, or modified.
+		/// @see #findReusableArtifact(Path)
+		protected void setChangedSourcePaths(@NonNull final Set<Path> changedSourcePaths) {
+			this.changedSourcePaths = Set.copyOf(changedSourcePaths);
+		}
+
+		/// {@inheritDoc}
+		/// @implSpec This implementation returns an artifact from the current plan only if changed source paths have been indicated using
+		///           [#setChangedSourcePaths(Set)]. An artifact cannot be reused if any changed path is the same as its source path, is within its source path
+		///           (as the directory would need to be planned again), or contains its source path (as with a replaced directory).
+		@Override
+		public Optional<Artifact> findReusableArtifact(final Path sourcePath) {
+			final MummyPlan currentPlan = plan;
+			final Set<Path> currentChangedSourcePaths = changedSourcePaths;
+			if(currentPlan == null || currentChangedSourcePaths == null) {
+				return Optional.empty();
+			}
+			if(currentChangedSourcePaths.stream().anyMatch(changedSourcePath -> changedSourcePath.startsWith(sourcePath) || sourcePath.startsWith(changedSourcePath))) {
+				return Optional.empty();
+			}
+			//the plan also maps directory content files to their directories, so make sure the artifact is for this exact source path
+			return currentPlan.findArtifactBySourceReference(sourcePath).filter(artifact -> artifact.getSourcePath().equals(sourcePath));
+		}
+
+		private volatile BuildIndex buildIndex = null;
+
+		@Override
+		public Optional<BuildIndex> findBuildIndex() {
+			return Optional.ofNullable(buildIndex);
+		}
+
+		/// Sets the persistent build index.
+		/// @param buildIndex The index of target descriptions.
+		protected void setBuildIndex(@NonNull final BuildIndex buildIndex) {
+			this.buildIndex = requireNonNull(buildIndex);
+		}
+
+		private volatile BuildProfiler buildProfiler = null;
+
+		@Override
+		public Optional<BuildProfiler> findBuildProfiler() {
+			return Optional.ofNullable(buildProfiler);
+		}
+
+		/// Sets the profiler for measuring the build.
+		/// @param buildProfiler The build profiler.
+		protected void setBuildProfiler(@NonNull final BuildProfiler buildProfiler) {
+			this.buildProfiler = requireNonNull(buildProfiler);
 		}
 
 		//## deploy
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.file.Files.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+import io.clogr.Clogged;
+
+/// A site kept planned in memory so that individual artifacts may be mummified on demand, such as when requested from a development server, rather than
+/// mummifying the entire site in advance.
+///
+/// Changes to the site source are detected using a [SourceTreeWatcher]. Before an artifact is mummified, any pending changes are applied by planning the
+/// site again, reusing the artifacts of unchanged source paths as explained in [MummyContext#findReusableArtifact(Path)]. The artifact is then mummified
+/// incrementally, so that it is only regenerated if it is stale, such as when its source or one of its dependencies has changed.
+/// @apiNote A live site is created using [GuiseMummy#openLiveSite(GuiseProject)], and must be closed when no longer needed.
+/// @implNote This class is safe for concurrent use by multiple threads; artifacts are mummified one at a time.
+/// @author Garret Wilson
+public class LiveSite implements Closeable, Clogged {
+
+	private final GuiseMummy mummy;
+
+	private final SourceTreeWatcher watcher;
+
+	/// The current mummification context; replaced if the site configuration changes.
+	private GuiseMummy.Context context;
+
+	/// The artifacts of the current plan, keyed to their target paths.
+	private Map<Path, Artifact> artifactsByTargetPath;
+
+	/// Source paths that have changed but not yet been successfully planned.
+	private final Set<Path> pendingChangedSourcePaths = new HashSet<>();
+
+	/// Constructor.
+	/// @param mummy The mummifier of the site.
+	/// @param context The mummification context, in which the site has already been planned.
+	/// @param watcher The watcher of the site source directory, which will be closed along with this live site.
+	LiveSite(@NonNull final GuiseMummy mummy, @NonNull final GuiseMummy.Context context, @NonNull final SourceTreeWatcher watcher) {
+		this.mummy = requireNonNull(mummy);
+		this.context = requireNonNull(context);
+		this.watcher = requireNonNull(watcher);
+		this.artifactsByTargetPath = indexArtifactsByTargetPath(context.getPlan());
+	}
+
+	/// @return The output directory of the site, in real-path form.
+	public synchronized Path getSiteTargetDirectory() {
+		return context.getSiteTargetDirectory();
+	}
+
+	/// @return The output directory of the site description, in real-path form.
+	public synchronized Path getSiteDescriptionTargetDirectory() {
+		return context.getSiteDescriptionTargetDirectory();
+	}
+
+	/// Indexes all the artifacts in a plan, including subsumed artifacts, by their target paths.
+	/// @param plan The site plan.
+	/// @return The artifacts in the plan keyed to their target paths. If several artifacts have the same target path, the first one in depth-first pre-order
+	///         is indexed.
+	private static Map<Path, Artifact> indexArtifactsByTargetPath(@NonNull final MummyPlan plan) {
+		final Map<Path, Artifact> artifactsByTargetPath = new HashMap<>();
+		plan.walk((artifact, subsumed) -> artifactsByTargetPath.putIfAbsent(artifact.getTargetPath(), artifact));
+		return artifactsByTargetPath;
+	}
+
+	/// Ensures that any artifact to be generated at the given target path is up to date, mummifying it if needed.
+	/// @implSpec Any source changes detected since the last call are first applied by planning the site again. If the site configuration changed, the context
+	///           is initialized anew.
+	/// @implSpec A collection artifact is not mummified recursively; instead its target directory is created, and its subsumed artifacts such as any content
+	///           artifact are mummified. Other artifacts are mummified along with any artifacts they comprise, such as image aspects.
+	/// @implSpec The build index, if any, is saved after mummification if it was [modified][BuildIndex#isModified()], as happens when the artifact or one of its
+	///           subsumed artifacts was actually regenerated, or when planning again discarded entries.
+	/// @param targetPath The path in the site target directory.
+	/// @return The artifact generated at the target path, or [Optional#empty()] if the plan has no artifact for the target path.
+	/// @throws IOException if there is an I/O error planning the site or mummifying the artifact.
+	public synchronized Optional<Artifact> mummifyTarget(@NonNull final Path targetPath) throws IOException {
+		pendingChangedSourcePaths.addAll(watcher.pollChanges());
+		if(!pendingChangedSourcePaths.isEmpty()) {
+			replan();
+		}
+		final Artifact artifact = artifactsByTargetPath.get(targetPath);
+		if(artifact == null) {
+			return Optional.empty();
+		}
+		getLogger().debug("Mummifying artifact {} on demand.", artifact);
+		if(artifact instanceof CollectionArtifact collectionArtifact) {
+			createDirectories(collectionArtifact.getTargetPath());
+			for(final Artifact subsumedArtifact : collectionArtifact.getSubsumedArtifacts()) {
+				subsumedArtifact.getMummifier().mummify(context, subsumedArtifact);
+			}
+		} else {
+			artifact.getMummifier().mummify(context, artifact);
+		}
+		final Optional<BuildIndex> foundBuildIndex = context.findBuildIndex().filter(BuildIndex::isModified); //only save if something was mummified
+		if(foundBuildIndex.isPresent()) {
+			foundBuildIndex.get().save();
+		}
+		return Optional.of(artifact);
+	}
+
+	/// Plans the site again to reflect the pending source changes.
+	/// @throws IOException if there is an I/O error planning the site.
+	protected void replan() throws IOException {
+		getLogger().info("Planning site again for {} changed source path(s).", pendingChangedSourcePaths.size()); //TODO i18n
+		final Path siteSourceDirectory = context.getSiteSourceDirectory();
+		if(pendingChangedSourcePaths.stream().anyMatch(changedSourcePath -> GuiseMummy.isMummyConfigFile(siteSourceDirectory, changedSourcePath))) {
+			getLogger().info("Site configuration changed; reinitializing."); //TODO i18n
+			context = mummy.initialize(context.getProject());
+		} else {
+			context.setChangedSourcePaths(pendingChangedSourcePaths);
+		}
+		mummy.mummify(context, GuiseMummy.LifeCyclePhase.PLAN, EnumSet.noneOf(GuiseMummy.MummyExecution.class));
+		artifactsByTargetPath = indexArtifactsByTargetPath(context.getPlan());
+		pendingChangedSourcePaths.clear();
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation stops watching the site source directory.
+	@Override
+	public void close() throws IOException {
+		watcher.close();
+	}
+
+}
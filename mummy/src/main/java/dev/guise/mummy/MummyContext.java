@@ -29,6 +29,7 @@
 import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLInputFactory;
 
 import org.jspecify.annotations.*;
 
@@ -155,6 +156,31 @@ public default SourcePathMummifier getMummifierForSourcePath(@NonNull final Path
 	/// @throws IllegalStateException if the site has not yet been planned.
 	public MummyPlan getPlan();
 
+	/// Returns the persistent index of target descriptions generated during previous mummification, if one is in use.
+	/// @implSpec The default implementation returns [Optional#empty()].
+	/// @return The build index, if any.
+	public default Optional<BuildIndex> findBuildIndex() {
+		return Optional.empty();
+	}
+
+	/// Returns the profiler measuring the time and memory used by the build, if profiling is enabled.
+	/// @implSpec The default implementation returns [Optional#empty()].
+	/// @return The build profiler, if any.
+	public default Optional<BuildProfiler> findBuildProfiler() {
+		return Optional.empty();
+	}
+
+	/// Finds an artifact planned during a previous mummification in the same session that may be used again without planning its source path anew, because
+	/// neither its source path nor anything within it is known to have changed since.
+	/// @apiNote This allows a site to be mummified repeatedly as its source changes, such as when watching the site source directory, planning only the
+	///          source paths that have changed.
+	/// @implSpec The default implementation returns [Optional#empty()].
+	/// @param sourcePath The source path of the artifact.
+	/// @return The previously planned artifact with the given source path, if it may be reused.
+	public default Optional<Artifact> findReusableArtifact(@NonNull final Path sourcePath) {
+		return Optional.empty();
+	}
+
 	//source paths
 
 	/// Checks to ensure that a given path lies in the source directory.
@@ -168,6 +194,24 @@ public default Path checkArgumentSourcePath(@NonNull Path sourcePath) {
 		return sourcePath;
 	}
 
+	/// Records the paths in a source directory, as listed while planning the directory, so that later searches of the directory need not list it again.
+	/// @apiNote The paths must include all the children of the directory, including directories and paths that are ignored.
+	/// @implSpec The default implementation does nothing.
+	/// @param sourceDirectory The directory in the source tree.
+	/// @param sourcePaths The paths of all the children of the directory.
+	/// @see #findSourceDirectoryPaths(Path)
+	public default void recordSourceDirectoryPaths(@NonNull final Path sourceDirectory, @NonNull final Collection<Path> sourcePaths) {
+	}
+
+	/// Returns the paths in a source directory recorded while planning the directory, if any.
+	/// @implSpec The default implementation returns [Optional#empty()].
+	/// @param sourceDirectory The directory in the source tree.
+	/// @return The paths of all the children of the directory, which will not be present if none were recorded.
+	/// @see #recordSourceDirectoryPaths(Path, Collection)
+	public default Optional<Collection<Path>> findSourceDirectoryPaths(@NonNull final Path sourceDirectory) {
+		return Optional.empty();
+	}
+
 	/// Searches for a non-directory file in the given source directory that matches the given base filename and which can be mummified into a page. No files are
 	/// ignored in the search.
 	/// @apiNote Ancestors are *not* searched. To search ancestors, use the [#findPageSourceFile(Path, String, boolean)] variation.
@@ -187,6 +231,8 @@ public default Optional<Map.Entry<Path, PageMummifier>> findPageSourceFile(@NonN
 	/// Searches for a non-directory file in the given source directory that matches the given base filename and which can be mummified into a page. No files are
 	/// ignored in the search. Ancestors are never searched above the source root directory.
 	/// @apiNote This method would be useful for finding a `.template.*` page source file up the hierarchy, for example.
+	/// @implSpec The paths of each directory recorded using [#recordSourceDirectoryPaths(Path, Collection)] are searched if available, so that a directory
+	///           already listed while planning need not be listed again.
 	/// @param sourceDirectory The directory in the source tree in which to search.
 	/// @param baseFilename The base filename (i.e. with no extension) for which to search.
 	/// @param searchAncestors Whether parent directories should be recursively searched if the file cannot be found in the given source directory.
@@ -199,9 +245,10 @@ public default Optional<Map.Entry<Path, PageMummifier>> findPageSourceFile(@NonN
 		checkArgumentSourcePath(sourceDirectory);
 		final Path siteSourceDirectory = getSiteSourceDirectory();
 		requireNonNull(baseFilename);
-		try (final Stream<Path> sourceFiles = list(sourceDirectory)) {
-			return sourceFiles.filter(not(Files::isDirectory)) //ignore directories
-					.filter(byBaseFilename(baseFilename)) //filter by the base filename
+		final Optional<Collection<Path>> foundSourceDirectoryPaths = findSourceDirectoryPaths(sourceDirectory);
+		try (final Stream<Path> sourceFiles = foundSourceDirectoryPaths.isPresent() ? foundSourceDirectoryPaths.get().stream() : list(sourceDirectory)) {
+			return sourceFiles.filter(byBaseFilename(baseFilename)) //filter by the base filename
+					.filter(not(Files::isDirectory)) //ignore directories
 					.flatMap(sourceFile -> findRegisteredMummifierForSourceFile(sourceFile).filter(PageMummifier.class::isInstance).map(PageMummifier.class::cast)
 							.map(pageMummifier -> Map.entry(sourceFile, pageMummifier)).stream()) //TODO use entry factory
 					.findAny().or(throwingSupplier(() -> {
@@ -216,6 +263,27 @@ public default Optional<Map.Entry<Path, PageMummifier>> findPageSourceFile(@NonN
 		}
 	}
 
+	//dependencies
+
+	/// Records that mummification of an artifact depends on some other file or directory in the site source tree besides the artifact source itself, such as a
+	/// template or a navigation file, so that incremental mummification can later determine whether the artifact needs to be regenerated.
+	/// @apiNote Mummifiers and widgets should call this method for each source path they read while mummifying an artifact.
+	/// @implSpec The default implementation does nothing.
+	/// @param artifact The artifact being mummified.
+	/// @param sourcePath The file or directory in the site source tree on which mummification of the artifact depends.
+	/// @see #removeArtifactDependencies(Artifact)
+	public default void addArtifactDependency(@NonNull final Artifact artifact, @NonNull final Path sourcePath) {
+	}
+
+	/// Removes and returns the dependencies recorded for an artifact during its mummification.
+	/// @implSpec The default implementation returns an empty set.
+	/// @param artifact The artifact that was mummified.
+	/// @return The files and directories in the site source tree on which mummification of the artifact depends; may be empty.
+	/// @see #addArtifactDependency(Artifact, Path)
+	public default Set<Path> removeArtifactDependencies(@NonNull final Artifact artifact) {
+		return Set.of();
+	}
+
 	//factory methods
 
 	/// Creates a new instance of a [DocumentBuilder] appropriate for working with Guise Mummy pages.
@@ -224,6 +292,42 @@ public default Optional<Map.Entry<Path, PageMummifier>> findPageSourceFile(@NonN
 	/// @throws ConfigurationException if there is a problem creating a document builder.
 	public DocumentBuilder newPageDocumentBuilder();
 
+	/// Returns a [DocumentBuilder] appropriate for working with Guise Mummy pages, which may be one that has been used before by the current thread.
+	/// @apiNote This method is preferred over [#newPageDocumentBuilder()] for parsing a page immediately, as creating a document builder can be expensive. The
+	///          returned document builder must only be used by the current thread, and must not be retained, as it may be returned again by a later call.
+	/// @implSpec The returned document builder will be namespace aware, and will be in the same state as a new document builder.
+	/// @implSpec The default implementation delegates to [#newPageDocumentBuilder()].
+	/// @return A page document builder for use by the current thread.
+	/// @throws ConfigurationException if there is a problem creating a document builder.
+	public default DocumentBuilder getPageDocumentBuilder() {
+		return newPageDocumentBuilder();
+	}
+
+	/// Creates a new StAX [XMLInputFactory] appropriate for reading Guise Mummy pages as a stream of events, such as when only the start of a page is needed.
+	/// @implSpec The returned factory will be namespace aware.
+	/// @implSpec The default implementation returns a factory that does not support DTDs, so that a page relying on entities defined in its DTD cannot be read
+	///           as a stream of events, and must be loaded using a document builder from [#newPageDocumentBuilder()] instead.
+	/// @return A new instance of a page XML input factory.
+	/// @throws ConfigurationException if there is a problem creating an XML input factory.
+	public default XMLInputFactory newPageXmlInputFactory() {
+		final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+		xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		return xmlInputFactory;
+	}
+
+	/// Returns a StAX [XMLInputFactory] appropriate for reading Guise Mummy pages as a stream of events, which may be one that has been used before by the
+	/// current thread.
+	/// @apiNote As XML input factories are not guaranteed to be thread-safe, the returned factory must only be used by the current thread, and must not be
+	///          retained or reconfigured, as it may be returned again by a later call.
+	/// @implSpec The returned factory will be configured in the same way as a new factory from [#newPageXmlInputFactory()].
+	/// @implSpec The default implementation delegates to [#newPageXmlInputFactory()].
+	/// @return A page XML input factory for use by the current thread.
+	/// @throws ConfigurationException if there is a problem creating an XML input factory.
+	public default XMLInputFactory getPageXmlInputFactory() {
+		return newPageXmlInputFactory();
+	}
+
 	//## deploy
 
 	/// Returns the DNS configured for deployment. Any configured DNS will not be available until preparation for deployment, but is guaranteed to be available, if
@@ -144,6 +144,13 @@ public default Optional<Artifact> findArtifactBySourceRelativeReference(@NonNull
 	/// @return An artifact query for subsequent configuration and execution.
 	public ArtifactQuery queryArtifacts();
 
+	/// Returns a typed view of the properties by which an artifact is listed and ordered. The views of the artifacts of a plan may be sorted together, as their
+	/// collation keys are generated by the same collator.
+	/// @param artifact The artifact to view.
+	/// @return The view of the artifact.
+	/// @throws IllegalArgumentException if the properties of the artifact are invalid, such as an order that is not an integer.
+	public ArtifactView getArtifactView(@NonNull final Artifact artifact);
+
 	//# traversal
 
 	/// Walks the plan's artifact tree, visiting each artifact in depth-first pre-order.
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.file.FileVisitResult.*;
+import static java.nio.file.Files.*;
+import static java.nio.file.LinkOption.*;
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.Objects.*;
+import static java.util.concurrent.TimeUnit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.*;
+
+import io.clogr.Clogged;
+
+/// Watches a source directory tree for changes, including changes within subdirectories created after watching began.
+/// @implNote This implementation uses a [WatchService], which on some platforms is implemented by polling and may therefore take several seconds to detect
+///           a change.
+/// @implNote This class is not safe for concurrent use by multiple threads.
+/// @author Garret Wilson
+public class SourceTreeWatcher implements Closeable, Clogged {
+
+	private final Path rootDirectory;
+
+	/// @return The root of the directory tree being watched.
+	public Path getRootDirectory() {
+		return rootDirectory;
+	}
+
+	private final Predicate<Path> ignore;
+
+	private final WatchService watchService;
+
+	/// The watched directories, keyed to their watch keys.
+	private final Map<WatchKey, Path> directoriesByWatchKey = new HashMap<>();
+
+	/// Constructor. Watching begins immediately.
+	/// @param rootDirectory The root of the directory tree to watch.
+	/// @param ignore The predicate indicating whether a subdirectory should be excluded from watching, such as [MummyContext#isIgnore(Path)].
+	/// @throws IOException if there is an I/O error registering the directories to watch.
+	public SourceTreeWatcher(@NonNull final Path rootDirectory, @NonNull final Predicate<Path> ignore) throws IOException {
+		this.rootDirectory = requireNonNull(rootDirectory);
+		this.ignore = requireNonNull(ignore);
+		watchService = rootDirectory.getFileSystem().newWatchService();
+		try {
+			registerTree(rootDirectory);
+		} catch(final IOException ioException) {
+			watchService.close();
+			throw ioException;
+		}
+	}
+
+	/// Registers a directory and all its subdirectories for watching, skipping any ignored subdirectories. Directories already registered are left registered.
+	/// @param directory The directory tree to register.
+	/// @throws IOException if there is an I/O error registering the directories.
+	protected void registerTree(@NonNull final Path directory) throws IOException {
+		walkFileTree(directory, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult preVisitDirectory(final Path subdirectory, final BasicFileAttributes attributes) throws IOException {
+				if(!subdirectory.equals(rootDirectory) && ignore.test(subdirectory)) {
+					return SKIP_SUBTREE;
+				}
+				directoriesByWatchKey.put(subdirectory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), subdirectory);
+				return CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(final Path path, final IOException ioException) throws IOException {
+				if(ioException instanceof NoSuchFileException) { //the path was removed while walking; the removal will be reported separately
+					return CONTINUE;
+				}
+				throw ioException;
+			}
+		});
+	}
+
+	/// Waits for changes in the directory tree and returns the paths that changed. After the first change is detected, changes continue to be collected until
+	/// none has been detected for the given delay, so that several related changes, such as when an editor saves a file, are returned together.
+	/// @implSpec Modifications of directories themselves are not reported, as any change to their content is reported separately. New directories are
+	///           watched as well.
+	/// @implSpec If changes were lost, for example because too many occurred at once, the root directory itself is reported as changed and the entire tree is
+	///           registered again.
+	/// @param debounceDelay The amount of time without changes to wait before returning the changes detected.
+	/// @return The paths that were created, deleted, or modified; never empty.
+	/// @throws IOException if there is an I/O error registering new directories to watch.
+	/// @throws InterruptedException if the current thread was interrupted while waiting for changes.
+	/// @throws ClosedWatchServiceException if this watcher has been closed.
+	public Set<Path> awaitChanges(@NonNull final Duration debounceDelay) throws IOException, InterruptedException {
+		final Set<Path> changedPaths = new HashSet<>();
+		do {
+			WatchKey watchKey = watchService.take(); //wait as long as needed for the first change
+			while(watchKey != null) {
+				processEvents(watchKey, changedPaths);
+				watchKey = watchService.poll(debounceDelay.toNanos(), NANOSECONDS); //keep collecting changes until things settle down
+			}
+		} while(changedPaths.isEmpty()); //some events, such as directory modifications, are not reported
+		return changedPaths;
+	}
+
+	/// Returns any changes in the directory tree detected since changes were last retrieved, without waiting for further changes.
+	/// @implSpec Changes are otherwise processed as in [#awaitChanges(Duration)].
+	/// @return The paths that were created, deleted, or modified, which may be empty.
+	/// @throws IOException if there is an I/O error registering new directories to watch.
+	/// @throws ClosedWatchServiceException if this watcher has been closed.
+	public Set<Path> pollChanges() throws IOException {
+		final Set<Path> changedPaths = new HashSet<>();
+		WatchKey watchKey;
+		while((watchKey = watchService.poll()) != null) {
+			processEvents(watchKey, changedPaths);
+		}
+		return changedPaths;
+	}
+
+	/// Processes and resets the pending events of a watch key.
+	/// @param watchKey The signaled watch key.
+	/// @param changedPaths The set of changed paths to update.
+	/// @throws IOException if there is an I/O error registering new directories to watch.
+	protected void processEvents(@NonNull final WatchKey watchKey, @NonNull final Set<Path> changedPaths) throws IOException {
+		final Path directory = directoriesByWatchKey.get(watchKey);
+		for(final WatchEvent<?> event : watchKey.pollEvents()) {
+			final WatchEvent.Kind<?> kind = event.kind();
+			if(kind == OVERFLOW) {
+				getLogger().debug("Changes to directory tree `{}` were lost; considering the entire tree changed.", rootDirectory);
+				changedPaths.add(rootDirectory);
+				registerTree(rootDirectory); //pick up any new directories for which events were lost
+				continue;
+			}
+			if(directory == null) { //should not happen, but events of an unknown key cannot be resolved
+				continue;
+			}
+			final Path path = directory.resolve((Path)event.context());
+			final boolean isDirectory = isDirectory(path, NOFOLLOW_LINKS);
+			if(kind == ENTRY_MODIFY && isDirectory) {
+				continue;
+			}
+			changedPaths.add(path);
+			if(kind == ENTRY_CREATE && isDirectory && !ignore.test(path)) {
+				registerTree(path);
+			}
+		}
+		if(!watchKey.reset()) { //the directory is no longer accessible, e.g. because it was deleted
+			directoriesByWatchKey.remove(watchKey);
+		}
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation closes the underlying watch service, which causes any thread waiting in [#awaitChanges(Duration)] to receive a
+	///           [ClosedWatchServiceException].
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+	}
+
+}
@@ -19,7 +19,9 @@
 import static com.globalmentor.java.Conditions.*;
 import static com.globalmentor.util.Optionals.*;
 import static dev.guise.mummy.Artifact.*;
+import static java.nio.charset.StandardCharsets.*;
 import static java.nio.file.Files.*;
+import static java.util.stream.Collectors.*;
 import static org.zalando.fauxpas.FauxPas.*;
 
 import java.io.*;
@@ -28,6 +30,7 @@
 import java.time.*;
 import java.util.*;
 import java.util.regex.*;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.*;
 
@@ -91,7 +94,7 @@ protected UrfResourceDescription loadArtifactDescription(@NonNull MummyContext c
 		final Optional<UrfResourceDescription> cachedDescription;
 		if(context.isIncremental()) {
 			//we'll load the target description if we can, and see if we can use it
-			cachedDescription = loadArtifactTargetDescription(context, targetFile).filter(description -> {
+			cachedDescription = loadArtifactTargetDescription(context, targetFile).filter(throwingPredicate(description -> {
 				//check the source content modified timestamp, and discard the target description if the source content has changed at all
 				final boolean sourceContentDirty = description.findPropertyValue(PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT)
 						//Check the timestamp against the actual file timestamp. We can compare them directly without using a range
@@ -106,12 +109,19 @@ protected UrfResourceDescription loadArtifactDescription(@NonNull MummyContext c
 						//if there is no timestamp, we consider the content dirty
 						.orElse(true);
 				if(sourceContentDirty) {
-					return false;
+					//with hash change detection, a changed timestamp (e.g. from a fresh checkout) does not necessarily indicate changed content
+					if(sourceModifiedAt.isEmpty() || !isFingerprintMatch(context, description, PROPERTY_TAG_MUMMY_SOURCE_CONTENT_FINGERPRINT, sourceFile)) {
+						return false;
+					}
+					getLogger().debug("Source file `{}` has a new timestamp but unchanged content.", sourceFile);
+					//record the new timestamp so that the content need not be hashed again next time
+					description.setPropertyValue(PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT, sourceModifiedAt.get());
+					description.setPropertyValue(PROPERTY_TAG_MUMMY_DESCRIPTION_DIRTY, true);
 				}
 				//TODO check source description sidecar timestamp
 				getLogger().debug("Using previously generated target description to describe source file `{}`.", sourceFile);
 				return true;
-			});
+			}));
 		} else { //full mummification
 			cachedDescription = Optional.empty();
 		}
@@ -145,6 +155,10 @@ protected UrfResourceDescription loadArtifactDescription(@NonNull MummyContext c
 			getArtifactMediaType(context, sourceFile).ifPresent(mediaType -> description.setPropertyValue(Content.TYPE_PROPERTY_TAG, mediaType));
 			//add the source modification timestamp, if any
 			sourceModifiedAt.ifPresent(instant -> description.setPropertyValue(PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT, instant));
+			//add the source fingerprint if needed for change detection
+			if(sourceModifiedAt.isPresent() && isHashChangeDetection(context)) {
+				description.setPropertyValue(PROPERTY_TAG_MUMMY_SOURCE_CONTENT_FINGERPRINT, FINGERPRINT_ALGORITHM.digest(sourceFile));
+			}
 			description.setPropertyValue(PROPERTY_TAG_MUMMY_DESCRIPTION_DIRTY, true); //we created a new description, so the description needs to be persisted
 			return description;
 		})); //TODO add a way to make this immutable?
@@ -164,6 +178,11 @@ protected UrfResourceDescription loadArtifactDescription(@NonNull MummyContext c
 	/// @implSpec If `invariably` is `false` and incremental mummification is enabled via [MummyContext#isIncremental()], this implementation checks the
 	///           timestamp of the target file, and delegates to [#mummifyFile(MummyContext, CorporealSourceArtifact)] only if the file needs regenerated.
 	///           If `invariably` is `true`, the incremental check is bypassed entirely and mummification always proceeds.
+	/// @implSpec The target is also regenerated if any dependency recorded during its last generation has been modified, as determined by
+	///           [#isDependencyModified(MummyContext, UrfResourceDescription, Instant)]. After the target is regenerated, the dependencies recorded via
+	///           [MummyContext#addArtifactDependency(Artifact, Path)] are stored in the description using [Artifact#PROPERTY_TAG_MUMMY_DEPENDENCIES].
+	/// @implSpec The target is also regenerated if configuration affecting how it is generated has changed, as determined by
+	///           [#isTargetConfigurationModified(MummyContext, UrfResourceDescription)].
 	/// @implSpec This implementation saves the description description if modified by calling [#saveTargetDescription(MummyContext, Artifact)].
 	/// @throws ClassCastException if the given artifact is not an instance of [CorporealSourceArtifact].
 	/// @see Content#MODIFIED_AT_PROPERTY_TAG
@@ -179,10 +198,20 @@ public final void mummify(@NonNull final MummyContext context, @NonNull Artifact
 		final boolean targetContentDirty;
 		if(!invariably && context.isIncremental()) {
 			oldTargetModifiedAt = exists(targetFile) ? Optional.of(getLastModifiedTime(targetFile).toInstant()) : Optional.empty();
-			targetContentDirty = description.findPropertyValue(Content.MODIFIED_AT_PROPERTY_TAG)
+			boolean targetTimestampDirty = description.findPropertyValue(Content.MODIFIED_AT_PROPERTY_TAG)
 					.map(modifiedAt -> !isPresentAndEquals(oldTargetModifiedAt, modifiedAt))
 					//if there is no timestamp, we consider the content dirty
 					.orElse(true);
+			//with hash change detection, a target with a new timestamp but the recorded fingerprint is still up to date
+			if(targetTimestampDirty && isFingerprintMatch(context, description, Content.FINGERPRINT_PROPERTY_TAG, targetFile)) {
+				targetTimestampDirty = false;
+				description.setPropertyValue(PROPERTY_TAG_MUMMY_DESCRIPTION_DIRTY, true); //record the new target timestamp
+			}
+			targetContentDirty = targetTimestampDirty
+					//even if the source is unchanged, the target must be regenerated if it would now be generated differently
+					|| isTargetConfigurationModified(context, description)
+					//even if the source is unchanged, the target must be regenerated if something it was generated from has changed
+					|| isDependencyModified(context, description, oldTargetModifiedAt.orElseThrow());
 		} else { //full mummification
 			targetContentDirty = true;
 			oldTargetModifiedAt = Optional.empty(); //no need to check the old target modification timestamp if we're doing full mummification
@@ -194,8 +223,27 @@ public final void mummify(@NonNull final MummyContext context, @NonNull Artifact
 			if(parentDirectory != null && !exists(parentDirectory)) { //ensure parent directories exist, as artifact children may specify files several layers deep, e.g. blog posts 
 				createDirectories(parentDirectory);
 			}
+			description.removeProperty(Content.FINGERPRINT_PROPERTY_TAG); //the mummifier may record the new fingerprint as it writes the target
 			mummifyFile(context, (CorporealSourceArtifact)artifact);
 			checkState(exists(targetFile), "Mummification of artifact source file `%s` did not produce target file `%s`.", artifact.getSourcePath(), targetFile);
+			final Path siteSourceDirectory = context.getSiteSourceDirectory();
+			final SortedMap<String, Path> dependencies = new TreeMap<>(); //sort by relative path for reproducible output
+			context.removeArtifactDependencies(artifact)
+					.forEach(dependency -> dependencies.put(siteSourceDirectory.relativize(dependency).toString().replace(File.separatorChar, '/'), dependency));
+			if(!dependencies.isEmpty()) {
+				description.setPropertyValue(PROPERTY_TAG_MUMMY_DEPENDENCIES, List.copyOf(dependencies.keySet()));
+			} else {
+				description.removeProperty(PROPERTY_TAG_MUMMY_DEPENDENCIES);
+			}
+			if(!dependencies.isEmpty() && isHashChangeDetection(context)) {
+				final List<byte[]> dependencyFingerprints = new ArrayList<>(dependencies.size());
+				for(final Path dependency : dependencies.values()) {
+					dependencyFingerprints.add(fingerprintSourcePath(dependency));
+				}
+				description.setPropertyValue(PROPERTY_TAG_MUMMY_DEPENDENCY_FINGERPRINTS, dependencyFingerprints);
+			} else {
+				description.removeProperty(PROPERTY_TAG_MUMMY_DEPENDENCY_FINGERPRINTS);
+			}
 			getLogger().debug("Mummified file artifact {}.", artifact);
 			newTargetModifiedAt = getLastModifiedTime(targetFile).toInstant();
 		} else {
@@ -211,7 +259,9 @@ public final void mummify(@NonNull final MummyContext context, @NonNull Artifact
 				|| !description.hasPropertyValue(Content.FINGERPRINT_PROPERTY_TAG);
 		if(targetDescriptionDirty) {
 			description.setPropertyValue(Content.MODIFIED_AT_PROPERTY_TAG, newTargetModifiedAt); //update the target file timestamp
-			description.setPropertyValue(Content.FINGERPRINT_PROPERTY_TAG, FINGERPRINT_ALGORITHM.digest(targetFile)); //update the target fingerprint
+			if(!targetContentDirty || !description.hasPropertyValue(Content.FINGERPRINT_PROPERTY_TAG)) { //unless the mummifier just recorded it
+				description.setPropertyValue(Content.FINGERPRINT_PROPERTY_TAG, FINGERPRINT_ALGORITHM.digest(targetFile)); //update the target fingerprint
+			}
 			description.removeProperty(PROPERTY_TAG_MUMMY_DESCRIPTION_DIRTY); //remove the description dirty flag, if any
 			try {
 				saveTargetDescription(context, artifact);
@@ -226,8 +276,108 @@ public final void mummify(@NonNull final MummyContext context, @NonNull Artifact
 		}
 	}
 
+	/// Determines whether any configuration affecting how the target is generated has changed since the target was generated, so that the target must be
+	/// regenerated even though its source is unchanged.
+	/// @apiNote A mummifier with configurable output should record the configuration used in the description when generating the target, and compare it here.
+	/// @implSpec The default implementation returns `false`.
+	/// @param context The context of static site generation.
+	/// @param description The description of the artifact, as previously generated.
+	/// @return `true` if the target may be out of date because the configuration affecting it has changed.
+	protected boolean isTargetConfigurationModified(@NonNull final MummyContext context, @NonNull final UrfResourceDescription description) {
+		return false;
+	}
+
+	/// Determines whether any of the source dependencies recorded in an artifact description has been modified since the target was generated.
+	/// @implSpec A dependency is considered modified if it no longer exists or if its modification timestamp is after the given target timestamp. No
+	///           dependencies are considered modified if the description records no dependencies.
+	/// @implSpec If [GuiseMummy.ChangeDetection#HASH] change detection is configured, a dependency with a later timestamp is nevertheless considered
+	///           unmodified if its fingerprint as determined by [#fingerprintSourcePath(Path)] matches that recorded in
+	///           [Artifact#PROPERTY_TAG_MUMMY_DEPENDENCY_FINGERPRINTS].
+	/// @implNote Because the target is not regenerated if all dependency fingerprints match, such dependencies will be hashed again during the next
+	///           incremental mummification; this is only expected to occur for small files such as templates after timestamps have been reset.
+	/// @param context The context of static site generation.
+	/// @param description The description of the artifact, as previously generated.
+	/// @param targetModifiedAt The modification timestamp of the previously generated target file.
+	/// @return `true` if the target may be out of date because at least one of its dependencies has changed.
+	/// @throws IOException if there is an I/O error checking the dependencies.
+	/// @see Artifact#PROPERTY_TAG_MUMMY_DEPENDENCIES
+	protected boolean isDependencyModified(@NonNull final MummyContext context, @NonNull final UrfResourceDescription description,
+			@NonNull final Instant targetModifiedAt) throws IOException {
+		if(!(description.findPropertyValue(PROPERTY_TAG_MUMMY_DEPENDENCIES).orElse(null) instanceof Collection<?> dependencies)) {
+			return false;
+		}
+		final List<?> dependencyFingerprints = isHashChangeDetection(context)
+				&& description.findPropertyValue(PROPERTY_TAG_MUMMY_DEPENDENCY_FINGERPRINTS).orElse(null) instanceof List<?> fingerprints
+				&& fingerprints.size() == dependencies.size() ? fingerprints : null;
+		int dependencyIndex = 0;
+		for(final Object dependency : dependencies) {
+			final Path dependencyPath = context.getSiteSourceDirectory().resolve(dependency.toString());
+			if(!exists(dependencyPath)) {
+				getLogger().debug("Dependency `{}` no longer exists.", dependencyPath);
+				return true;
+			}
+			if(getLastModifiedTime(dependencyPath).toInstant().isAfter(targetModifiedAt)) {
+				final boolean fingerprintMatch = dependencyFingerprints != null
+						&& dependencyFingerprints.get(dependencyIndex) instanceof byte[] fingerprint && Arrays.equals(fingerprint, fingerprintSourcePath(dependencyPath));
+				if(!fingerprintMatch) {
+					getLogger().debug("Dependency `{}` has changed since the target was generated.", dependencyPath);
+					return true;
+				}
+			}
+			dependencyIndex++;
+		}
+		return false;
+	}
+
+	/// Indicates whether incremental mummification should compare content fingerprints for files with changed timestamps.
+	/// @param context The context of static site generation.
+	/// @return `true` if [GuiseMummy.ChangeDetection#HASH] change detection is configured.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	protected static boolean isHashChangeDetection(@NonNull final MummyContext context) {
+		return GuiseMummy.getConfiguredChangeDetection(context.getConfiguration()) == GuiseMummy.ChangeDetection.HASH;
+	}
+
+	/// Determines whether, using hash change detection, the current content of a file matches the fingerprint recorded in a description.
+	/// @implSpec This implementation always returns `false` unless [GuiseMummy.ChangeDetection#HASH] change detection is configured. Content is only hashed
+	///           if the description records a fingerprint.
+	/// @param context The context of static site generation.
+	/// @param description The description containing the recorded fingerprint.
+	/// @param fingerprintPropertyTag The tag of the property containing the recorded fingerprint.
+	/// @param file The file the content of which to compare.
+	/// @return `true` if the file exists and its fingerprint matches the one recorded.
+	/// @throws IOException if there is an I/O error hashing the file.
+	/// @see #FINGERPRINT_ALGORITHM
+	protected boolean isFingerprintMatch(@NonNull final MummyContext context, @NonNull final UrfResourceDescription description,
+			@NonNull final URI fingerprintPropertyTag, @NonNull final Path file) throws IOException {
+		if(!isHashChangeDetection(context) || !isRegularFile(file)) {
+			return false;
+		}
+		return description.findPropertyValue(fingerprintPropertyTag).orElse(null) instanceof byte[] fingerprint
+				&& Arrays.equals(fingerprint, FINGERPRINT_ALGORITHM.digest(file));
+	}
+
+	/// Calculates a fingerprint of a source path for the purpose of change detection.
+	/// @implSpec The fingerprint of a regular file is calculated from its content. The fingerprint of a directory is calculated from the sorted names of
+	///           its children, separated by newlines, so that it changes when children are added, removed, or renamed.
+	/// @param sourcePath The file or directory for which a fingerprint should be calculated.
+	/// @return The fingerprint of the source path.
+	/// @throws IOException if there is an I/O error reading the source path.
+	/// @see #FINGERPRINT_ALGORITHM
+	protected static byte[] fingerprintSourcePath(@NonNull final Path sourcePath) throws IOException {
+		if(isDirectory(sourcePath)) {
+			try (final Stream<Path> childPaths = list(sourcePath)) {
+				final String childNames = childPaths.map(Path::getFileName).map(Path::toString).sorted().collect(joining("\n"));
+				return FINGERPRINT_ALGORITHM.digest(childNames.getBytes(UTF_8));
+			}
+		}
+		return FINGERPRINT_ALGORITHM.digest(sourcePath);
+	}
+
 	/// Invariably mummifies a resource to a file in the presence of a context artifact, which may or may not be the same as the artifact itself. Mummification is
 	/// always performed, regardless of the state of metadata.
+	/// @apiNote An implementation that calculates the fingerprint of the target content as it writes the target file, such as by using
+	///          [FingerprintingFileOutputStream], may record it in the artifact description using [Content#FINGERPRINT_PROPERTY_TAG]; otherwise the
+	///          fingerprint will be calculated by reading the target file after this method returns.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated.
 	/// @throws IOException if there is an I/O error during mummification.
@@ -81,6 +81,8 @@ protected Path getArtifactTargetDescriptionFile(final @NonNull MummyContext cont
 	}
 
 	/// Loads the generated target description of an artifact based upon its target path.
+	/// @implSpec If the context provides a [BuildIndex], the description is looked up in the index. Otherwise, or if the index has no entry for the target, the
+	///           description is loaded from the target description file and added to the index, if any.
 	/// @param context The context of static site generation.
 	/// @param targetPath The path in the site target directory (not the path of the target description itself).
 	/// @throws IllegalArgumentException if the given target path is not in the site target tree.
@@ -88,37 +90,63 @@ protected Path getArtifactTargetDescriptionFile(final @NonNull MummyContext cont
 	/// @throws IOException if there is an I/O error retrieving the description, including if the metadata is invalid.
 	/// @see #getArtifactTargetDescriptionFile(MummyContext, Path)
 	protected Optional<UrfResourceDescription> loadArtifactTargetDescription(@NonNull MummyContext context, @NonNull final Path targetPath) throws IOException {
+		final Optional<BuildIndex> foundBuildIndex = context.findBuildIndex();
+		final Optional<UrfResourceDescription> indexedDescription = foundBuildIndex.flatMap(buildIndex -> buildIndex.findDescription(targetPath));
+		if(indexedDescription.isPresent()) {
+			return indexedDescription;
+		}
 		final Path descriptionFile = getArtifactTargetDescriptionFile(context, targetPath);
 		if(!isRegularFile(descriptionFile)) {
 			return Optional.empty();
 		}
+		final Optional<UrfResourceDescription> description;
 		try (final InputStream inputStream = new BufferedInputStream(newInputStream(descriptionFile))) {
-			return new TurfParser<List<Object>>(new SimpleGraphUrfProcessor()).parseDocument(inputStream, TURF.PROPERTIES_MEDIA_TYPE).stream()
+			description = new TurfParser<List<Object>>(new SimpleGraphUrfProcessor()).parseDocument(inputStream, TURF.PROPERTIES_MEDIA_TYPE).stream()
 					.flatMap(asInstances(UrfResourceDescription.class)).findFirst();
 		}
+		//add the description to the index so that the description file need not be loaded next time
+		foundBuildIndex.ifPresent(buildIndex -> description.ifPresent(foundDescription -> buildIndex.putDescription(targetPath, foundDescription)));
+		return description;
 	}
 
 	/// Saves an artifact's description as-is with no modifications.
+	/// @implSpec The description is updated in the [BuildIndex] of the context, if any. The description is saved to the target description file unless a build
+	///           index is in use and [description sidecars][#isDescriptionSidecars(MummyContext)] are disabled, in which case any existing target description
+	///           file is deleted so that it cannot later be used in place of the indexed description.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @throws IOException if there is an I/O error saving the description.
 	/// @see #getArtifactTargetDescriptionFile(MummyContext, Artifact)
 	/// @see GuiseMummy#CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS
 	protected void saveTargetDescription(@NonNull final MummyContext context, @NonNull Artifact artifact) throws IOException {
 		final UrfResourceDescription description = artifact.getResourceDescription();
+		final Optional<BuildIndex> foundBuildIndex = context.findBuildIndex();
 		final Path descriptionFile = getArtifactTargetDescriptionFile(context, artifact);
-		//create parent directory as needed
-		final Path descriptionTargetParentPath = descriptionFile.getParent();
-		if(descriptionTargetParentPath != null) {
-			createDirectories(descriptionTargetParentPath);
-		}
-		//save description
-		final TurfSerializer turfSerializer = new TurfSerializer();
-		turfSerializer.setFormatted(true);
-		turfSerializer.setLineSeparator(context.getConfiguration().getString(CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR));
-		try (final OutputStream outputStream = new BufferedOutputStream(newOutputStream(descriptionFile))) {
-			turfSerializer.serializeDocument(outputStream, TURF.PROPERTIES_MEDIA_TYPE, description);
+		if(foundBuildIndex.isPresent() && !isDescriptionSidecars(context)) {
+			deleteIfExists(descriptionFile); //don't leave a stale description from an earlier build
+		} else {
+			//create parent directory as needed
+			final Path descriptionTargetParentPath = descriptionFile.getParent();
+			if(descriptionTargetParentPath != null) {
+				createDirectories(descriptionTargetParentPath);
+			}
+			//save description
+			final TurfSerializer turfSerializer = new TurfSerializer();
+			turfSerializer.setFormatted(true);
+			turfSerializer.setLineSeparator(context.getConfiguration().getString(CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR));
+			try (final OutputStream outputStream = new BufferedOutputStream(newOutputStream(descriptionFile))) {
+				turfSerializer.serializeDocument(outputStream, TURF.PROPERTIES_MEDIA_TYPE, description);
+			}
 		}
+		foundBuildIndex.ifPresent(buildIndex -> buildIndex.putDescription(artifact.getTargetPath(), description));
+	}
+
+	/// Determines whether a description sidecar file is to be generated for each target.
+	/// @param context The context of static site generation.
+	/// @return `true` unless [GuiseMummy#CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS] is disabled.
+	protected boolean isDescriptionSidecars(@NonNull final MummyContext context) {
+		return context.getConfiguration().findBoolean(CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS).orElse(true);
 	}
 
 	/// The pattern describing the ad-hoc property name from which a [LocalDate] type will be inferred.
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy.mummify;
+
+import static com.globalmentor.java.Conditions.*;
+import static dev.guise.mummy.mummify.Mummifier.*;
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import org.jspecify.annotations.*;
+
+/// Output stream that writes a file through a [FileChannel], calculating the fingerprint of the content using [Mummifier#FINGERPRINT_ALGORITHM] as it is
+/// written, so that the file need not be read again to fingerprint it.
+/// @apiNote This class is not thread safe; an instance is meant to be used by a single thread to write a single file.
+/// @implNote To avoid allocation when writing many small files, the write buffer and the message digest are borrowed from a per-thread pool when the stream
+///           is opened and returned when it is closed. A thread opening a second stream before closing the first simply receives new ones.
+/// @author Garret Wilson
+public class FingerprintingFileOutputStream extends OutputStream {
+
+	/// The size of the write buffer.
+	static final int BUFFER_SIZE = 16 * 1024;
+
+	/// The write buffer available to be borrowed by each thread, or `null` if none is available.
+	private static final ThreadLocal<ByteBuffer> POOLED_BUFFER = new ThreadLocal<>();
+
+	/// The message digest available to be borrowed by each thread, or `null` if none is available.
+	private static final ThreadLocal<MessageDigest> POOLED_MESSAGE_DIGEST = new ThreadLocal<>();
+
+	private final FileChannel channel;
+
+	private final ByteBuffer buffer;
+
+	private final MessageDigest messageDigest;
+
+	private byte[] fingerprint = null; //not available until the stream is closed
+
+	/// Opens a stream to a file, creating the file if necessary or truncating it if it already exists.
+	/// @param file The file to write.
+	/// @throws IOException if the file cannot be opened for writing.
+	public FingerprintingFileOutputStream(@NonNull final Path file) throws IOException {
+		channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+		final ByteBuffer pooledBuffer = POOLED_BUFFER.get();
+		if(pooledBuffer != null) {
+			POOLED_BUFFER.remove();
+			buffer = pooledBuffer;
+		} else {
+			buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		}
+		final MessageDigest pooledMessageDigest = POOLED_MESSAGE_DIGEST.get();
+		if(pooledMessageDigest != null) {
+			POOLED_MESSAGE_DIGEST.remove();
+			messageDigest = pooledMessageDigest;
+		} else {
+			messageDigest = FINGERPRINT_ALGORITHM.getInstance();
+		}
+	}
+
+	/// Returns the fingerprint of all the content written.
+	/// @return The fingerprint of the file content.
+	/// @throws IllegalStateException if the stream has not yet been closed.
+	public byte[] getFingerprint() {
+		checkState(fingerprint != null, "Fingerprint not available until the stream is closed.");
+		return fingerprint.clone();
+	}
+
+	/// Ensures the stream is still open.
+	/// @throws IOException if the stream has been closed.
+	private void checkOpen() throws IOException {
+		if(fingerprint != null) {
+			throw new IOException("Stream already closed.");
+		}
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		checkOpen();
+		if(!buffer.hasRemaining()) {
+			drainBuffer();
+		}
+		buffer.put((byte)b);
+		messageDigest.update((byte)b);
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+		checkOpen();
+		messageDigest.update(bytes, offset, length);
+		if(length > buffer.remaining()) {
+			drainBuffer();
+			if(length > buffer.capacity()) { //write large arrays directly rather than copying them through the buffer
+				final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length);
+				while(byteBuffer.hasRemaining()) {
+					channel.write(byteBuffer);
+				}
+				return;
+			}
+		}
+		buffer.put(bytes, offset, length);
+	}
+
+	/// Writes any buffered bytes to the channel, leaving the buffer empty.
+	/// @throws IOException if there is an error writing to the channel.
+	private void drainBuffer() throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		checkOpen();
+		drainBuffer();
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation writes any buffered bytes, closes the file, and finishes calculating the fingerprint. Calling this method more than once
+	///           has no effect.
+	@Override
+	public void close() throws IOException {
+		if(fingerprint != null) {
+			return;
+		}
+		try (channel) {
+			drainBuffer();
+		} finally {
+			fingerprint = messageDigest.digest(); //also resets the message digest for reuse
+			buffer.clear();
+			POOLED_BUFFER.set(buffer);
+			POOLED_MESSAGE_DIGEST.set(messageDigest);
+		}
+	}
+
+}
@@ -73,6 +73,7 @@ public UrfResourceDescription getResourceDescription() {
 
 	/// {@inheritDoc}
 	/// @apiNote A directory's child artifacts do *not* include any content artifact.
+	/// @implSpec This implementation returns the child artifacts in the order they were provided to the constructor.
 	/// @see #findContentArtifact()
 	@Override
 	public Collection<Artifact> getChildArtifacts() {
@@ -103,14 +104,14 @@ public Collection<Artifact> getSubsumedArtifacts() {
 	/// @param targetDirectory The directory where the artifact will be generated.
 	/// @param contentArtifact The internal artifact representing the content of this directory, such as `index.xhtml`, or `null` if there is
 	///          no content artifact.
-	/// @param childArtifacts The child artifacts of this artifact.
+	/// @param childArtifacts The child artifacts of this artifact, in the order they should be retained; any duplicates will be removed.
 	public DirectoryArtifact(@NonNull final Mummifier mummifier, @NonNull final Path sourceDirectory, @NonNull final Path targetDirectory,
 			@Nullable Artifact contentArtifact, @NonNull Collection<Artifact> childArtifacts) {
 		//TODO add precondition to ensure this is a directory?
 		super(mummifier, sourceDirectory, targetDirectory);
 		this.isPost = SourcePathArtifact.hasPostFilename(sourceDirectory);
 		this.contentArtifact = contentArtifact;
-		this.childArtifacts = Set.copyOf(childArtifacts);
+		this.childArtifacts = List.copyOf(new LinkedHashSet<>(childArtifacts));
 	}
 
 	/// {@inheritDoc}
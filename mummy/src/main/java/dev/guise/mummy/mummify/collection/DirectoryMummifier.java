@@ -31,10 +31,12 @@
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.*;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.*;
+import org.zalando.fauxpas.ThrowingFunction;
 
 import com.globalmentor.html.def.HTML;
 import com.globalmentor.io.Filenames;
@@ -110,12 +112,22 @@ protected Path getArtifactTargetDescriptionFile(final MummyContext context, fina
 
 	/// {@inheritDoc}
 	/// @implSpec This implementation recursively discovers and describes an artifacts for all its children.
+	/// @implSpec The source directory is listed once, and its paths are recorded using [MummyContext#recordSourceDirectoryPaths(Path, Collection)]
+	///           before the content file is discovered, so that neither discovering the content file nor later searching the directory for page source files
+	///           such as templates will list it again.
 	/// @see GuiseMummy#CONFIG_KEY_MUMMY_COLLECTION_CONTENT_BASE_NAMES
 	@Override
 	public DirectoryArtifact plan(final MummyContext context, final Path sourceDirectory, final Path targetDirectory) throws IOException {
 		checkArgumentDirectory(sourceDirectory);
 		final boolean isAssetSourceDirectoryTree = isAssetSourcePath(context, sourceDirectory, true); //see if this subtree is for assets
 
+		//list the directory only once, recording the listing so that searches of the directory such as for the content file or templates can use it
+		final List<Path> sourcePaths;
+		try (final Stream<Path> paths = list(sourceDirectory)) {
+			sourcePaths = paths.toList();
+		}
+		context.recordSourceDirectoryPaths(sourceDirectory, sourcePaths);
+
 		//discover and plan the directory content file, if present
 		final Optional<Path> discoveredContentFile = discoverSourceDirectoryContentFile(context, sourceDirectory);
 		final Artifact contentArtifact = discoveredContentFile.map(throwingFunction(contentSourceFile -> { //nullable
@@ -160,32 +172,48 @@ public DirectoryArtifact plan(final MummyContext context, final Path sourceDirec
 			return new SimpleGeneratedXhtmlArtifact(phantomContentMummifier, phantomContentSourceFile, phantomContentTargetFile, phantomDescription);
 		}));
 
-		//discover and plan the child artifacts
-		final Pattern assetNamePattern = context.getConfiguration().getObject(CONFIG_KEY_MUMMY_ASSET_NAME_PATTERN, Pattern.class);
-		final List<Artifact> childArtifacts = new ArrayList<>();
-		try (final Stream<Path> childPaths = list(sourceDirectory).filter(not(context::isIgnore))) {
-			childPaths.forEach(throwingConsumer(childSourcePath -> {
-				if(!isPresentAndEquals(discoveredContentFile, childSourcePath)) { //skip the content file, if any
-					final SourcePathMummifier registeredChildMummifier = context.getMummifierForSourcePath(childSourcePath);
-					assert childSourcePath.getFileName() != null;
-					final String childSourceFilename = childSourcePath.getFileName().toString();
-					//for assets or paths an an asset tree, don't mummify any pages
-					final SourcePathMummifier childMummifier;
-					if((registeredChildMummifier instanceof PageMummifier) && (isAssetSourceDirectoryTree || assetNamePattern.matcher(childSourceFilename).matches())) {
-						childMummifier = context.getDefaultSourcePathMummifier(childSourcePath);
-					} else {
-						childMummifier = registeredChildMummifier;
-					}
-					final Path childTargetPath = planChildArtifactTargetPath(context, targetDirectory, childSourceFilename, childMummifier, isAssetSourceDirectoryTree);
-					final Artifact childArtifact = childMummifier.plan(context, childSourcePath, childTargetPath);
-
-					//TODO add error handling here with a better error
+		//discover and plan the child artifacts, sorting the source paths so that the child artifacts will be in a deterministic order
+		final List<Path> childSourcePaths = sourcePaths.stream().filter(not(context::isIgnore))
+				.filter(childSourcePath -> !isPresentAndEquals(discoveredContentFile, childSourcePath)) //skip the content file, if any
+				.sorted().toList();
+		final List<Artifact> childArtifacts = applyConcurrently(childSourcePaths,
+				childSourcePath -> planChildArtifact(context, childSourcePath, targetDirectory, isAssetSourceDirectoryTree));
+		return new DirectoryArtifact(this, sourceDirectory, targetDirectory, contentArtifact, childArtifacts);
+	}
 
-					childArtifacts.add(childArtifact);
-				}
-			}));
+	/// Plans a single child artifact of a directory.
+	/// @implSpec This implementation uses the default mummifier for any page in an asset tree or which has an asset name, so that no page will be generated.
+	/// @implSpec If [MummyContext#findReusableArtifact(Path)] provides an artifact with the same target path, that artifact is returned without being planned
+	///           again.
+	/// @param context The context of static site generation.
+	/// @param childSourcePath The source path of the child file or directory.
+	/// @param targetDirectory The target directory of the parent directory artifact.
+	/// @param isAssetSourceDirectoryTree Whether the parent source directory is an asset or is in an asset tree.
+	/// @return The planned child artifact.
+	/// @throws IOException if there is an I/O error planning the child artifact.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_ASSET_NAME_PATTERN
+	protected Artifact planChildArtifact(@NonNull final MummyContext context, @NonNull final Path childSourcePath, @NonNull final Path targetDirectory,
+			final boolean isAssetSourceDirectoryTree) throws IOException {
+		final Pattern assetNamePattern = context.getConfiguration().getObject(CONFIG_KEY_MUMMY_ASSET_NAME_PATTERN, Pattern.class);
+		final SourcePathMummifier registeredChildMummifier = context.getMummifierForSourcePath(childSourcePath);
+		assert childSourcePath.getFileName() != null;
+		final String childSourceFilename = childSourcePath.getFileName().toString();
+		//for assets or paths an an asset tree, don't mummify any pages
+		final SourcePathMummifier childMummifier;
+		if((registeredChildMummifier instanceof PageMummifier) && (isAssetSourceDirectoryTree || assetNamePattern.matcher(childSourceFilename).matches())) {
+			childMummifier = context.getDefaultSourcePathMummifier(childSourcePath);
+		} else {
+			childMummifier = registeredChildMummifier;
 		}
-		return new DirectoryArtifact(this, sourceDirectory, targetDirectory, contentArtifact, childArtifacts);
+		final Path childTargetPath = planChildArtifactTargetPath(context, targetDirectory, childSourceFilename, childMummifier, isAssetSourceDirectoryTree);
+		//reuse any artifact already planned for an unchanged source path, as when the site is being watched
+		final Optional<Artifact> reusableArtifact = context.findReusableArtifact(childSourcePath)
+				.filter(artifact -> artifact.getTargetPath().equals(childTargetPath));
+		if(reusableArtifact.isPresent()) {
+			return reusableArtifact.get();
+		}
+		//TODO add error handling here with a better error
+		return childMummifier.plan(context, childSourcePath, childTargetPath);
 	}
 
 	/// Indicates whether the given source path is an *asset* for which no page should be generated. Ancestor paths are not checked.
@@ -325,6 +353,8 @@ protected Path planChildArtifactTargetPath(@NonNull final MummyContext context,
 	/// {@inheritDoc}
 	/// @implSpec This implementation propagates `invariably` to all child artifacts.
 	/// @implSpec This implementation saves the description description if modified by calling [#saveTargetDescription(MummyContext, Artifact)].
+	/// @implSpec This implementation mummifies the content artifact and the child artifacts by calling
+	///           [#mummifyComprisedArtifacts(MummyContext, List, boolean)].
 	@Override
 	public void mummify(final MummyContext context, final Artifact artifact, final boolean invariably) throws IOException {
 		final DirectoryArtifact directoryArtifact = checkArgumentIsInstance(artifact, DirectoryArtifact.class, "Artifact `%s` is not a directory artifact.",
@@ -338,19 +368,71 @@ public void mummify(final MummyContext context, final Artifact artifact, final b
 			createDirectories(targetDirectory);
 		}
 
-		//mummify the directory content artifact, if present
-		directoryArtifact.findContentArtifact().ifPresent(throwingConsumer(contentArtifact -> {
-			contentArtifact.getMummifier().mummify(context, contentArtifact, invariably);
-			//Note that if a content file was once but no longer present, an orphaned content file
-			//description would be left, but the ways these circumstances could come about are
-			//largely theoretical (e.g. converting a source directory to an assets tree and
-			//renaming the target tree to match). 
-		}));
+		//mummify the directory content artifact, if present, along with each child artifact
+		//Note that if a content file was once but no longer present, an orphaned content file
+		//description would be left, but the ways these circumstances could come about are
+		//largely theoretical (e.g. converting a source directory to an assets tree and
+		//renaming the target tree to match). 
+		final Collection<Artifact> childArtifacts = directoryArtifact.getChildArtifacts();
+		final List<Artifact> comprisedArtifacts = new ArrayList<>(childArtifacts.size() + 1);
+		directoryArtifact.findContentArtifact().ifPresent(comprisedArtifacts::add);
+		comprisedArtifacts.addAll(childArtifacts);
+		mummifyComprisedArtifacts(context, comprisedArtifacts, invariably);
+	}
 
-		//mummify each child artifact
-		for(final Artifact childArtifact : directoryArtifact.getChildArtifacts()) {
-			childArtifact.getMummifier().mummify(context, childArtifact, invariably);
+	/// Mummifies the given comprised artifacts of a directory, such as its content artifact and its child artifacts.
+	/// @implSpec This implementation mummifies the artifacts sequentially on the calling thread, even though child artifacts may have been planned concurrently.
+	///           A page reads the descriptions of other artifacts, such as for navigation and directory listings, while those descriptions are updated as their
+	///           own artifacts are mummified.
+	/// @implSpec If the build is being profiled, the mummification of each comprised artifact is measured.
+	/// @param context The context of static site generation.
+	/// @param artifacts The comprised artifacts to mummify.
+	/// @param invariably `true` if mummification must invariably be performed regardless of incremental optimizations.
+	/// @throws IOException if there is an I/O error mummifying any of the artifacts.
+	/// @see MummyContext#findBuildProfiler()
+	protected void mummifyComprisedArtifacts(@NonNull final MummyContext context, @NonNull final List<Artifact> artifacts, final boolean invariably)
+			throws IOException {
+		final Optional<BuildProfiler> foundBuildProfiler = context.findBuildProfiler();
+		for(final Artifact comprisedArtifact : artifacts) {
+			final Optional<BuildProfiler.Measurement> foundMeasurement = foundBuildProfiler.map(BuildProfiler::startMeasurement);
+			comprisedArtifact.getMummifier().mummify(context, comprisedArtifact, invariably);
+			foundMeasurement.ifPresent(measurement -> measurement.recordArtifact(comprisedArtifact));
+		}
+	}
+
+	/// Applies an I/O operation to each of the given items, returning the results in the same order as the items.
+	///
+	/// If this method is called from within a [ForkJoinPool], each item is processed in a separate fork/join task, and this method does not return until all
+	/// of them have completed. Because subdirectories will in turn fork their own work, an entire tree is processed with work stealing across the pool.
+	/// Otherwise the items are processed sequentially on the calling thread.
+	/// @param <T> The type of item to process.
+	/// @param <R> The type of result of processing each item.
+	/// @param items The items to process.
+	/// @param operation The operation to apply to each item.
+	/// @return The results of processing the items, in the same order as the items.
+	/// @throws IOException if there is an I/O error processing any of the items.
+	protected static <T, R> List<R> applyConcurrently(@NonNull final List<T> items, @NonNull final ThrowingFunction<? super T, ? extends R, IOException> operation)
+			throws IOException {
+		if(items.size() < 2 || !ForkJoinTask.inForkJoinPool()) {
+			final List<R> results = new ArrayList<>(items.size());
+			for(final T item : items) {
+				results.add(operation.tryApply(item));
+			}
+			return results;
+		}
+		final List<ForkJoinTask<R>> tasks = items.stream().map(item -> ForkJoinTask.<R>adapt(() -> {
+			try {
+				return operation.tryApply(item);
+			} catch(final IOException ioException) {
+				throw new UncheckedIOException(ioException);
+			}
+		})).toList();
+		try {
+			ForkJoinTask.invokeAll(tasks);
+		} catch(final UncheckedIOException uncheckedIOException) {
+			throw uncheckedIOException.getCause();
 		}
+		return tasks.stream().<R>map(ForkJoinTask::join).toList();
 	}
 
 }
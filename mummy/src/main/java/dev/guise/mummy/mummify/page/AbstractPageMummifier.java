@@ -37,14 +37,19 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
-import java.text.Collator;
+import java.nio.file.attribute.FileTime;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.*;
 import org.w3c.dom.*;
+import org.w3c.dom.ls.*;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 import com.globalmentor.html.*;
 import com.globalmentor.html.def.HTML;
@@ -58,6 +63,7 @@
 import dev.guise.mesh.*;
 import dev.guise.mummy.*;
 import dev.guise.mummy.mummify.AbstractFileMummifier;
+import dev.guise.mummy.mummify.FingerprintingFileOutputStream;
 import dev.guise.mummy.mummify.Mummifier;
 import dev.guise.mummy.mummify.MummifyException;
 import dev.guise.mummy.mummify.page.widget.MummifyWidgetException;
@@ -71,6 +77,9 @@
 /// Abstract base mummifier for generating HTML pages.
 /// @implSpec This mummifier generates pages using the string configured for [GuiseMummy#CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR] as the newline
 ///           sequence in order to provide consistent, repeatable build across platforms.
+/// @implNote This implementation keeps no per-page state in instance fields; the navigation manager and the Guise Mesh engine are shared, while each page
+///           receives its own document and [MeshContext]. Parsed templates are cached, but each page receives its own copy. A single instance may thus
+///           mummify separate pages concurrently.
 /// @author Garret Wilson
 public abstract class AbstractPageMummifier extends AbstractFileMummifier implements PageMummifier {
 
@@ -155,16 +164,111 @@ protected NavigationManager getNavigationManager() {
 		return navigationManager;
 	}
 
+	/// A parsed template document, along with the modification time of the template file when it was parsed.
+	/// @param modifiedAt The last modification time of the template file.
+	/// @param document The parsed, unrelocated template document; never modified once cached.
+	private record CachedTemplate(@NonNull FileTime modifiedAt, @NonNull Document document) {
+	}
+
+	/// The parsed templates, mapped to the template file; scoped to the lifetime of the mummifier and thus of the mummy context.
+	private final Map<Path, CachedTemplate> templateCache = new ConcurrentHashMap<>();
+
+	/// A relative source reference from a referrer directory.
+	/// @param referrerDirectory The directory against which the reference is resolved.
+	/// @param reference The relative reference path, e.g. `example/test.txt`.
+	private record DirectoryReference(@NonNull Path referrerDirectory, @NonNull String reference) {
+	}
+
+	/// The key of the user data identifying a regenerated navigation list in a page as having come unchanged from a template.
+	/// @see Node#getUserData(String)
+	/// @see NavigationListTemplate
+	private static final String USER_DATA_KEY_NAVIGATION_LIST_TEMPLATE = AbstractPageMummifier.class.getName() + ".navigationListTemplate";
+
+	/// Identifies a regenerated navigation list in a template, the item templates of which are the same in all pages using the template.
+	/// @param templateFile The template source file.
+	/// @param modifiedAt The last modification time of the template file.
+	/// @param index The index of the navigation list among the navigation lists to regenerate in the template, in document order.
+	private record NavigationListTemplate(@NonNull Path templateFile, @NonNull FileTime modifiedAt, int index) {
+	}
+
+	/// Identifies navigation lists that are generated identically other than references to the pages themselves and which of their items are active, such as
+	/// for the pages in a directory using the same template.
+	/// @param template The template navigation list from which the list is generated.
+	/// @param referrerDirectory The directory against which the relative references of the navigation items are resolved.
+	/// @param navigationIdentity The identity of the navigation from which the list is generated.
+	/// @see #findNavigationIdentity(MummyContext, Artifact)
+	private record NavigationListKey(@NonNull NavigationListTemplate template, @NonNull Path referrerDirectory, @NonNull Object navigationIdentity) {
+	}
+
+	/// A navigation list generated in a standalone document, to be imported into the pages that use it.
+	/// @implNote As the DOM makes no guarantee of thread safety even for reading, the document should be locked while the items are being imported.
+	/// @param document The document owning the generated elements.
+	/// @param principalArtifact The principal artifact of the page for which the list was generated, against which the references of its items are relative.
+	/// @param items The generated list items.
+	private record GeneratedNavigationList(@NonNull Document document, @NonNull Artifact principalArtifact, @NonNull List<GeneratedNavigationListItem> items) {
+	}
+
+	/// A generated navigation list item, in both its active and its inactive form.
+	/// @param inactiveLiElement The item generated from the template for non-active items, without any subordinate list.
+	/// @param activeLiElement The item generated from the template for active items, without any subordinate list.
+	/// @param referent The principal artifact to which the reference of the item refers, ignoring any fragment, or `null` if the item does not refer to an
+	///          artifact in the site.
+	/// @param fragmentReference Whether the reference of the item has a fragment, which a static page cannot know whether the browser will include.
+	/// @param navigation The generated items of the list subordinate to the item; may be empty.
+	private record GeneratedNavigationListItem(@NonNull Element inactiveLiElement, @NonNull Element activeLiElement, @Nullable Artifact referent,
+			boolean fragmentReference, @NonNull List<GeneratedNavigationListItem> navigation) {
+
+		/// Determines whether the item is active on a page, that is, whether it refers to the page itself.
+		/// @param principalArtifact The principal artifact of the page.
+		/// @return `true` if the item is active for the given artifact.
+		boolean isActive(@NonNull final Artifact principalArtifact) {
+			return !fragmentReference && principalArtifact.equals(referent);
+		}
+
+	}
+
+	/// Values memoized for a single build.
+	/// @param plan The plan of the build for which values are memoized.
+	/// @param referrerDirectoriesBySourcePath The directory against which the references of each referrer are resolved, keyed to the referrer source path.
+	/// @param referentArtifactsByReference The artifact found, if any, for each relative reference from a referrer directory.
+	/// @param generatedNavigationListsByKey The navigation lists generated for pages, keyed to what identifies their generation.
+	private record PlanIndex(@NonNull MummyPlan plan, @NonNull Map<Path, Path> referrerDirectoriesBySourcePath,
+			@NonNull Map<DirectoryReference, Optional<Artifact>> referentArtifactsByReference,
+			@NonNull Map<NavigationListKey, GeneratedNavigationList> generatedNavigationListsByKey) {
+
+		/// Creates an empty index for a build.
+		/// @param plan The plan of the build for which values are memoized.
+		PlanIndex(@NonNull final MummyPlan plan) {
+			this(plan, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+		}
+
+	}
+
+	private final AtomicReference<PlanIndex> planIndexReference = new AtomicReference<>();
+
+	/// Returns the index of values memoized for the current build, as identified by the plan of the context.
+	/// @implNote A new index is created whenever the site is planned again, such as when its source changes while being watched, so that artifacts added,
+	///           removed, or modified since the last build are taken into account.
+	/// @param context The context of static site generation.
+	/// @return The index for the current build.
+	/// @throws IllegalStateException if the site has not yet been planned.
+	private PlanIndex getPlanIndex(@NonNull final MummyContext context) {
+		final MummyPlan plan = context.getPlan();
+		return planIndexReference.updateAndGet(planIndex -> planIndex != null && planIndex.plan() == plan ? planIndex : new PlanIndex(plan));
+	}
+
 	// Allow JEXL introspection of mummy types injected into the Mesh context:
 	// `plan` (`MummyPlan`), `artifact` (`Artifact`/`CollectionArtifact`), and `artifact.mummifier` (`Mummifier`).
 	// These are resolved through standard JEXL property introspection,
 	// e.g. `${plan.rootArtifact}`, `${artifact.sourcePath}`, `${artifact.navigable}`.
-	private final GuiseMesh guiseMesh = new GuiseMesh(Set.of(Artifact.class, MummyPlan.class, CollectionArtifact.class, Mummifier.class), Set.of());
+	// Shared by all page mummifiers so that its expression cache survives across mummifications in the same JVM.
+	// This is thread-safe: the mesh keeps no per-document state, and the JEXL engine and its expression cache are thread-safe.
+	private static final GuiseMesh GUISE_MESH = new GuiseMesh(Set.of(Artifact.class, MummyPlan.class, CollectionArtifact.class, Mummifier.class), Set.of());
 
 	/// Returns the strategy for transformation a document based upon Mesh Expression Language (MEXL) expressions.
 	/// @return The strategy for transformation a document based upon Mesh Expression Language (MEXL) expressions.
 	protected GuiseMesh getGuiseMesh() {
-		return guiseMesh;
+		return GUISE_MESH;
 	}
 
 	/// {@inheritDoc}
@@ -232,23 +336,12 @@ protected Stream<NavigationItem> defaultNavigation(@NonNull MummyContext context
 	/// @see #findParentNavigationArtifact(MummyContext, Artifact)
 	/// @see #childNavigationArtifacts(MummyContext, Artifact)
 	protected Stream<Artifact> defaultNavigationArtifacts(@NonNull MummyContext context, @NonNull final Artifact artifact) {
-		//decide how to sort the links
-		final Collator navigationCollator = Collator.getInstance(); //TODO i18n: get locale for page, defaulting to site locale
-		navigationCollator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
-		navigationCollator.setStrength(Collator.PRIMARY); //ignore accents and case
-		final Comparator<Artifact> navigationArtifactOrderComparator = Comparator
+		final MummyPlan plan = context.getPlan();
+		final Comparator<ArtifactView> navigationArtifactOrderComparator = Comparator
 				//compare first by order (defaulting to zero)
-				.<Artifact, Long>comparing(navigationArtifact -> {
-					try {
-						return toLong(navigationArtifact.getResourceDescription().findPropertyValue(PROPERTY_TAG_MUMMY_ORDER).orElse(MUMMY_ORDER_DEFAULT));
-					} catch(final IllegalArgumentException illegalArgumentException) {
-						throw new IllegalArgumentException(
-								"Invalid property <%s> value: %s".formatted(PROPERTY_TAG_MUMMY_ORDER, illegalArgumentException.getLocalizedMessage()),
-								illegalArgumentException);
-					}
-				})
+				.comparingLong(ArtifactView::order)
 				//then compare by label alphabetical order
-				.thenComparing(navigationArtifact -> navigationArtifact.determineLabel(), navigationCollator);
+				.thenComparing(ArtifactView::labelCollationKey);
 		return Stream.concat(
 				//put the parent navigation artifact (if any) first
 				findParentNavigationArtifact(context, artifact).stream(),
@@ -256,7 +349,7 @@ protected Stream<Artifact> defaultNavigationArtifacts(@NonNull MummyContext cont
 				childNavigationArtifacts(context, artifact)
 						//posts shouldn't appear in the normal navigation list
 						.filter(not(navArtifact -> navArtifact instanceof SourcePathArtifact sourcePathArtifact && sourcePathArtifact.isPost()))
-						.sorted(navigationArtifactOrderComparator));
+						.map(plan::getArtifactView).sorted(navigationArtifactOrderComparator).map(ArtifactView::artifact));
 	}
 
 	/// Converts a metadata element to zero, or more property tag URI and value associations.
@@ -298,27 +391,51 @@ protected Stream<Artifact> defaultNavigationArtifacts(@NonNull MummyContext cont
 	/// @see <a href="https://ogp.me/">The Open Graph protocol</a>
 	/// @see Curie
 	protected static Stream<Map.Entry<URI, Object>> htmlMetaElementToProperties(@NonNull final Element metaElement) {
-		final Optional<URI> tagFromNameAttribute = findAttributeNS(metaElement, null, ELEMENT_META_ATTRIBUTE_NAME).map(name -> {
-			checkArgument(!name.isEmpty(), "`<meta>` element `name` attribute must not be the empty string.");
-			checkArgument(!contains(name, Curie.PREFIX_DELIMITER),
-					"Property prefix not allowed `<meta>` element `name` attribute `%s`; consider using `property` attribute instead.", name);
-			return Handle.toTag(KEBAB_CASE.toCamelCase(name));
+		return htmlMetaAttributesToProperties(findAttributeNS(metaElement, null, ELEMENT_META_ATTRIBUTE_NAME).orElse(null),
+				findAttributeNS(metaElement, null, RDFa.ATTRIBUTE_PROPERTY).orElse(null), findAttributeNS(metaElement, null, ELEMENT_META_ATTRIBUTE_CONTENT).orElse(null),
+				prefix -> {
+					String leadingSegment = null;
+					Node currentNode = metaElement;
+					do {
+						leadingSegment = findAttributeNS((Element)currentNode, XML.XMLNS_NAMESPACE_URI_STRING, prefix).orElse(null);
+					} while(leadingSegment == null && (currentNode = currentNode.getParentNode()) instanceof Element); //keep looking while we need to and while there are still parent elements
+					return Optional.ofNullable(leadingSegment);
+				});
+	}
+
+	/// Converts the attributes of a metadata element to zero, or more property tag URI and value associations, as described for
+	/// [#htmlMetaElementToProperties(Element)].
+	/// @apiNote This method allows metadata to be extracted from a document that is not available as a DOM tree, such as one read as a stream of events.
+	/// @apiNote The indicated exceptions can also be thrown during iteration of the stream.
+	/// @param name The value of the [HTML#ELEMENT_META_ATTRIBUTE_NAME] attribute, or `null` if the attribute is not present.
+	/// @param properties The value of the [RDFa#ATTRIBUTE_PROPERTY] attribute, or `null` if the attribute is not present.
+	/// @param content The value of the [HTML#ELEMENT_META_ATTRIBUTE_CONTENT] attribute, or `null` if the attribute is not present.
+	/// @param prefixResolver The strategy for finding the IRI leading segment declared in the document for a CURIE prefix as in scope for the `<meta>`
+	///          element; prefixes of [#PREDEFINED_VOCABULARIES] not declared in the document will be recognized separately.
+	/// @return A potentially empty stream of property tag IRIs paired with values representing properties.
+	/// @throws IllegalArgumentException if the property name is a CURIE but no prefix has been defined in the element hierarchy.
+	/// @throws IllegalArgumentException if the property name is a CURIE but combined with the IRI leading segment does not result in a valid IRI.
+	/// @throws IllegalArgumentException if the given property name is empty.
+	/// @throws IllegalArgumentException if the given property name cannot be converted to `cameCase`, e.g. it has successive `'-'`
+	///           characters.
+	/// @see #htmlMetaElementToProperties(Element)
+	protected static Stream<Map.Entry<URI, Object>> htmlMetaAttributesToProperties(@Nullable final String name, @Nullable final String properties,
+			@Nullable final String content, @NonNull final Function<String, Optional<String>> prefixResolver) {
+		final Optional<URI> tagFromNameAttribute = Optional.ofNullable(name).map(nameValue -> {
+			checkArgument(!nameValue.isEmpty(), "`<meta>` element `name` attribute must not be the empty string.");
+			checkArgument(!contains(nameValue, Curie.PREFIX_DELIMITER),
+					"Property prefix not allowed `<meta>` element `name` attribute `%s`; consider using `property` attribute instead.", nameValue);
+			return Handle.toTag(KEBAB_CASE.toCamelCase(nameValue));
 		});
-		final Stream<URI> tagsFromPropertyAttribute = findAttributeNS(metaElement, null, RDFa.ATTRIBUTE_PROPERTY).stream().flatMap(properties -> {
-			final List<String> tokens = RDFa.WHITESPACE_CHARACTERS.split(properties);
+		final Stream<URI> tagsFromPropertyAttribute = Optional.ofNullable(properties).stream().flatMap(propertiesValue -> {
+			final List<String> tokens = RDFa.WHITESPACE_CHARACTERS.split(propertiesValue);
 			checkArgument(!tokens.isEmpty(), "`<meta>` element `property` attribute must contain at least one property.");
 			return tokens.stream().map(property -> {
 				final Curie curie = Curie.parse(property).mapReference(KEBAB_CASE::toCamelCase);
 				final String reference = curie.getReference();
 				return curie.getPrefix().map(prefix -> {
-					String leadingSegment = null;
-					Node currentNode = metaElement;
-					do {
-						leadingSegment = findAttributeNS((Element)currentNode, XML.XMLNS_NAMESPACE_URI_STRING, prefix).orElse(null);
-					} while(leadingSegment == null && (currentNode = currentNode.getParentNode()) instanceof Element); //keep looking while we need to and while there are still parent elements
-					if(leadingSegment == null) { //see if we have a predefined vocabulary for the prefix
-						leadingSegment = PREDEFINED_VOCABULARIES.findVocabularyByPrefix(prefix).map(URI::toString).orElse(null);
-					}
+					final String leadingSegment = prefixResolver.apply(prefix) //see if we have a predefined vocabulary for the prefix if it isn't declared
+							.or(() -> PREDEFINED_VOCABULARIES.findVocabularyByPrefix(prefix).map(URI::toString)).orElse(null);
 					checkArgument(leadingSegment != null, "No IRI leading segment defined for prefix `%s` of property `%s`.", prefix, property);
 					return VocabularyTerm.toURI(URI.create(leadingSegment), reference);
 				}).orElseGet(() -> Handle.toTag(curie.getReference()));
@@ -326,7 +443,7 @@ protected static Stream<Map.Entry<URI, Object>> htmlMetaElementToProperties(@Non
 		});
 		//TODO add support for Microdata `itemprop`; see https://www.w3.org/TR/microdata/#names:-the-itemprop-attribute
 		//if no content attribute, the value is the empty string as per _HTML 5.2 § 4.2.5. The meta element_
-		final String lexicalValue = findAttributeNS(metaElement, null, ELEMENT_META_ATTRIBUTE_CONTENT).orElse("");
+		final String lexicalValue = content != null ? content : "";
 		return Stream.concat(tagFromNameAttribute.stream(), tagsFromPropertyAttribute).map(tag -> Map.entry(tag, parseMetadataPropertyValue(tag, lexicalValue)));
 	}
 
@@ -393,35 +510,104 @@ public Optional<DocumentFragment> loadSourceExcerpt(final MummyContext context,
 	}
 
 	/// Recursively finds and retrieves an excerpt from the given element.
-	/// @implSpec This implementation uses the first non-empty paragraph encountered depth-first.
+	/// @implSpec This implementation extracts the element found by [#findExcerptElement(Element)].
 	/// @param element The element for which an excerpt should be returned.
 	/// @return A document fragment containing an excerpt of the given element if one could be located.
-	/// @see HTML#ELEMENT_P
 	protected Optional<DocumentFragment> getExcerpt(final Element element) {
+		return findExcerptElement(element).map(XmlDom::extractNode);
+	}
+
+	/// Recursively finds the element serving as an excerpt of the given element, without removing it from its document.
+	/// @implSpec This implementation uses the first non-empty paragraph encountered depth-first.
+	/// @param element The element for which an excerpt should be found.
+	/// @return The element providing an excerpt of the given element if one could be located.
+	/// @see HTML#ELEMENT_P
+	protected Optional<Element> findExcerptElement(final Element element) {
 		if(XHTML_ELEMENT_P.matches(element)) { //XHTML `<p>`
 			if(containsNonTrim(element.getTextContent())) { //if this paragraph isn't empty
-				return Optional.of(extractNode(element)); //extract the paragraph
+				return Optional.of(element);
 			}
 		}
-		return childElementsOf(element).map(this::getExcerpt).flatMap(Optional::stream).findFirst();
+		return childElementsOf(element).map(this::findExcerptElement).flatMap(Optional::stream).findFirst();
 	}
 
 	/// {@inheritDoc}
+	/// @implSpec If the context has a [BuildIndex] and the artifact description indicates the modification time of its source, this implementation parses the
+	///           excerpt indexed for that modification time using [MummyContext#getPageDocumentBuilder()]. Otherwise the source document is loaded using
+	///           [#loadSourceDocument(MummyContext, CorporealSourceArtifact)], and the element found by [#findExcerptElement(Element)] in its content element
+	///           is serialized and indexed, or the empty string if there is no excerpt. Thus the source document is only loaded for its excerpt when it is first
+	///           listed after it changes, and excerpts are only determined for those artifacts listed by some page.
+	/// @see BuildIndex#findExcerpt(Path, Instant)
+	/// @see Artifact#PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT
+	@Override
+	public Optional<DocumentFragment> loadExcerpt(final MummyContext context, final CorporealSourceArtifact artifact) throws IOException, DOMException {
+		final Optional<BuildIndex> foundBuildIndex = context.findBuildIndex();
+		final Optional<Instant> foundSourceModifiedAt = artifact.getResourceDescription().findPropertyValue(PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT)
+				.filter(Instant.class::isInstance).map(Instant.class::cast);
+		if(foundBuildIndex.isEmpty() || foundSourceModifiedAt.isEmpty()) { //without an index and a way to know if the excerpt is current, load the source each time
+			return loadSourceExcerpt(context, artifact);
+		}
+		final BuildIndex buildIndex = foundBuildIndex.get();
+		final Instant sourceModifiedAt = foundSourceModifiedAt.get();
+		final Optional<String> indexedExcerpt = buildIndex.findExcerpt(artifact.getTargetPath(), sourceModifiedAt);
+		if(indexedExcerpt.isEmpty()) { //the source has changed or has not been listed before
+			final Document sourceDocument = loadSourceDocument(context, artifact);
+			final Optional<Element> foundExcerptElement = findContentElement(sourceDocument).flatMap(this::findExcerptElement);
+			final String excerpt = foundExcerptElement.map(excerptElement -> {
+				final LSSerializer serializer = ((DOMImplementationLS)sourceDocument.getImplementation()).createLSSerializer();
+				serializer.getDomConfig().setParameter("xml-declaration", false);
+				return serializer.writeToString(excerptElement); //namespaces are declared as needed on the excerpt element itself
+			}).orElse("");
+			buildIndex.putExcerpt(artifact.getTargetPath(), sourceModifiedAt, excerpt);
+			return foundExcerptElement.map(XmlDom::extractNode);
+		}
+		final String excerpt = indexedExcerpt.get();
+		if(excerpt.isEmpty()) { //the source content has no excerpt
+			return Optional.empty();
+		}
+		final Document excerptDocument;
+		try {
+			excerptDocument = context.getPageDocumentBuilder().parse(new InputSource(new StringReader(excerpt)));
+		} catch(final SAXException saxException) {
+			throw new IOException("Invalid indexed excerpt of `%s`: %s".formatted(artifact.getSourcePath(), saxException.getLocalizedMessage()), saxException); //TODO i18n
+		}
+		return Optional.of(extractNode(excerptDocument.getDocumentElement()));
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec Relocation to the target and cleansing are performed together in a single traversal of the document using
+	///           [#transformDocument(Document, List)] with the transformations from [#sourceToTargetRelocation(MummyContext, Artifact)] and
+	///           [#cleansing(MummyContext, Artifact)]. Subclasses customize these stages by overriding the methods providing the transformations.
+	/// @implSpec The page is written using a [FingerprintingFileOutputStream], and the resulting fingerprint is recorded in the artifact description using
+	///           [Content#FINGERPRINT_PROPERTY_TAG].
+	/// @implSpec If the build is being profiled, each stage of the page processing pipeline is measured, using the stage names `load`, `normalize`,
+	///           `applyTemplate`, `mesh`, `process`, `relocateAndCleanse`, `ascribe`, and `serialize`.
+	/// @implSpec If [PageMummifier#CONFIG_KEY_MUMMY_PAGE_MINIFY] is enabled, the document is minified using
+	///           [#minifyDocument(MummyContext, Artifact, Document)] before it is serialized without formatting, and the additional stage `minify` is measured
+	///           if the build is being profiled. Otherwise the page is serialized with formatting for readability. Whether the page was minified is recorded in
+	///           the artifact description using [PageMummifier#PROPERTY_TAG_MUMMY_MINIFIED].
 	/// @see GuiseMummy#CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR
+	/// @see PageMummifier#CONFIG_KEY_MUMMY_PAGE_MINIFY
+	/// @see MummyContext#findBuildProfiler()
 	@Override
 	public void mummifyFile(final MummyContext context, final CorporealSourceArtifact artifact) throws IOException {
 
 		try {
 
+			final Optional<BuildProfiler.Laps> foundLaps = context.findBuildProfiler().map(buildProfiler -> buildProfiler.startLaps(artifact));
+
 			//#load source document: get starting content to work with
 			final Document sourceDocument = loadSourceDocument(context, artifact);
 			getLogger().trace("Loaded page source document `{}`.", artifact.getSourcePath());
+			foundLaps.ifPresent(laps -> laps.lap("load"));
 
 			//#normalize: normalize the DOM and remove metadata
 			final Document normalizedDocument = normalizeDocument(context, artifact, sourceDocument);
+			foundLaps.ifPresent(laps -> laps.lap("normalize"));
 
 			//#apply template
 			final Document templatedDocument = applyTemplate(context, artifact, normalizedDocument);
+			foundLaps.ifPresent(laps -> laps.lap("applyTemplate"));
 
 			//#mesh document: evaluate MEXL expressions and perform transformations
 			final MeshContext meshContext = new DefaultMeshContext();
@@ -429,25 +615,42 @@ public void mummifyFile(final MummyContext context, final CorporealSourceArtifac
 			meshContext.setVariable(MESH_CONTEXT_VARIABLE_ARTIFACT, artifact);
 			meshContext.setVariable(MESH_CONTEXT_VARIABLE_PAGE, artifact.getResourceDescription());
 			final Document meshedDocument = getGuiseMesh().meshDocument(meshContext, templatedDocument);
+			foundLaps.ifPresent(laps -> laps.lap("mesh"));
 
 			//#process document: evaluate Guise Mummy directives and widgets; and perform transformations
 			final Document processedDocument = processDocument(context, artifact, meshedDocument);
+			foundLaps.ifPresent(laps -> laps.lap("process"));
 
-			//#relocate document from source to target: translate path references from the source to the target
-			final Document relocatedDocument = relocateSourceDocumentToTarget(context, artifact, processedDocument);
-
-			//#cleanse document: remove all Guise Mummy related elements and attributes
-			final Document cleansedDocument = cleanseDocument(context, artifact, relocatedDocument);
+			//#relocate and cleanse document in a single pass: remove all Guise Mummy related elements and attributes,
+			//and translate path references from the source to the target; cleansing first avoids relocating elements that will be removed
+			final Document cleansedDocument = transformDocument(processedDocument, List.of(cleansing(context, artifact), sourceToTargetRelocation(context, artifact)));
+			foundLaps.ifPresent(laps -> laps.lap("relocateAndCleanse"));
 
 			//#ascribe document: adds metadata not related to Guise Mummy directives
 			final Document ascribedDocument = ascribeDocument(context, artifact, cleansedDocument);
+			foundLaps.ifPresent(laps -> laps.lap("ascribe"));
+
+			//#minify document: remove comments and insignificant whitespace if requested
+			final boolean isMinified = isMinify(context);
+			final Document targetDocument;
+			if(isMinified) {
+				targetDocument = minifyDocument(context, artifact, ascribedDocument);
+				artifact.getResourceDescription().setPropertyValue(PROPERTY_TAG_MUMMY_MINIFIED, true);
+				foundLaps.ifPresent(laps -> laps.lap("minify"));
+			} else {
+				targetDocument = ascribedDocument;
+				artifact.getResourceDescription().removeProperty(PROPERTY_TAG_MUMMY_MINIFIED);
+			}
 
 			//#save target document
-			try (final OutputStream outputStream = new BufferedOutputStream(newOutputStream(artifact.getTargetPath()))) {
-				final HtmlSerializer htmlSerializer = new HtmlSerializer(true, PageFormatProfile.INSTANCE);
+			final FingerprintingFileOutputStream outputStream = new FingerprintingFileOutputStream(artifact.getTargetPath());
+			try (outputStream) {
+				final HtmlSerializer htmlSerializer = new HtmlSerializer(!isMinified, PageFormatProfile.INSTANCE); //a minified page is not formatted
 				htmlSerializer.setLineSeparator(context.getConfiguration().getString(CONFIG_KEY_MUMMY_TEXT_OUTPUT_LINE_SEPARATOR));
-				htmlSerializer.serialize(ascribedDocument, null, null, outputStream); //serialize using the HTML5 doctype (with no public or system ID)
+				htmlSerializer.serialize(targetDocument, null, null, outputStream); //serialize using the HTML5 doctype (with no public or system ID)
 			}
+			artifact.getResourceDescription().setPropertyValue(Content.FINGERPRINT_PROPERTY_TAG, outputStream.getFingerprint()); //no need to read the page again
+			foundLaps.ifPresent(laps -> laps.lap("serialize"));
 			getLogger().trace("Generated page output document `{}`.", artifact.getTargetPath());
 
 		} catch(final IllegalArgumentException | MummifyException | MeshException | DOMException exception) { //convert input errors and XML errors to I/O errors
@@ -456,6 +659,85 @@ public void mummifyFile(final MummyContext context, final CorporealSourceArtifac
 
 	}
 
+	//## transform
+
+	/// A transformation of a single element, without regard to its child elements, which may be applied along with other transformations in a single traversal
+	/// of a document.
+	/// @see AbstractPageMummifier#transformDocument(Document, List)
+	@FunctionalInterface
+	protected interface ElementTransformation {
+
+		/// Transforms a single element. Its child elements are transformed separately, and only if the element itself is neither removed nor replaced.
+		/// @param element The element to transform.
+		/// @return The transformed element(s), if any, to replace the element; a list of only the same element leaves the element in place.
+		/// @throws IOException if there is an error transforming the element.
+		/// @throws DOMException if there is some error manipulating the XML document object model.
+		List<Element> transform(@NonNull Element element) throws IOException, DOMException;
+
+	}
+
+	/// Transforms a document by applying the given transformations to each element in a single traversal of the document.
+	/// @implSpec This implementation does not allow the document element to be removed or replaced.
+	/// @param document The document to transform.
+	/// @param transformations The transformations to apply to each element, in order.
+	/// @return The transformed document, which may or may not be the same document supplied as input.
+	/// @throws IOException if there is an error transforming the document.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @see #transformElement(Element, List)
+	protected Document transformDocument(@NonNull final Document document, @NonNull final List<ElementTransformation> transformations)
+			throws IOException, DOMException {
+		final Element documentElement = document.getDocumentElement();
+		final List<Element> transformedElements = transformElement(documentElement, transformations);
+		if(transformedElements.size() != 1 || transformedElements.get(0) != documentElement) {
+			throw new UnsupportedOperationException("Document element cannot be removed or replaced when transforming a document.");
+		}
+		return document;
+	}
+
+	/// Transforms an element and its descendants by applying the given transformations to each element in a single traversal.
+	/// @implSpec The transformations are applied to the element in order. If a transformation removes or replaces the element, the replacement elements are
+	///           returned without applying the remaining transformations and without traversing any child elements. Otherwise the child elements are
+	///           transformed using [#transformChildElements(Element, List)] after all the transformations have been applied to the element.
+	/// @param element The element to transform.
+	/// @param transformations The transformations to apply to each element, in order.
+	/// @return The transformed element(s), if any, to replace the element.
+	/// @throws IOException if there is an error transforming the element.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected List<Element> transformElement(@NonNull final Element element, @NonNull final List<ElementTransformation> transformations)
+			throws IOException, DOMException {
+		for(final ElementTransformation transformation : transformations) {
+			final List<Element> transformedElements = transformation.transform(element);
+			if(transformedElements.size() != 1 || transformedElements.get(0) != element) {
+				return transformedElements;
+			}
+		}
+		transformChildElements(element, transformations);
+		return List.of(element);
+	}
+
+	/// Transforms child elements of an existing element by applying the given transformations to each descendant element in a single traversal.
+	/// @implSpec Each child element is replaced with the transformed elements returned from calling [#transformElement(Element, List)]. If only the same
+	///           element is returned, no replacement is made. If no element is returned, the child element is removed. Replacement elements are not themselves
+	///           transformed.
+	/// @param element The element the children of which to transform.
+	/// @param transformations The transformations to apply to each element, in order.
+	/// @throws IOException if there is an error transforming the child elements.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected void transformChildElements(@NonNull final Element element, @NonNull final List<ElementTransformation> transformations)
+			throws IOException, DOMException {
+		Node childNode = element.getFirstChild(); //walk the siblings directly, avoiding the indexed lookups of a live `NodeList`
+		while(childNode != null) {
+			final Node nextChildNode = childNode.getNextSibling(); //determine the next node before any replacement
+			if(childNode instanceof Element childElement) {
+				final List<Element> transformedElements = transformElement(childElement, transformations);
+				if(transformedElements.size() != 1 || transformedElements.get(0) != childElement) {
+					replaceChild(element, childElement, transformedElements);
+				}
+			}
+			childNode = nextChildNode;
+		}
+	}
+
 	//## normalize
 
 	/// Normalizes a document after it has been loaded, which includes the following:
@@ -463,7 +745,11 @@ public void mummifyFile(final MummyContext context, final CorporealSourceArtifac
 	/// - Tidies the structure.
 	/// - Removes any named metadata; they will be regenerated later during mummification.
 	///
-	/// @implSpec This implementation does not allow the document element to be removed or replaced.
+	/// @implSpec This implementation applies the transformation from [#normalization(MummyContext, Artifact)] using [#transformDocument(Document, List)], and
+	///           thus does not allow the document element to be removed or replaced.
+	/// @implNote Normalization is performed in its own traversal rather than together with relocation and cleansing, because it must happen before the
+	///           template is applied and the document is meshed and processed, while relocation and cleansing must happen afterwards so that they cover the
+	///           content added by those stages.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @param document The document to normalize.
@@ -476,50 +762,54 @@ protected Document normalizeDocument(@NonNull MummyContext context, @NonNull fin
 		//causing the method to pause and potentially print error messages if entities cannot be found.
 		//See note about `resource-resolver` parameter in `DOMConfiguration` if this needs to be investigated further.
 		document.normalize();
-		final Element documentElement = document.getDocumentElement();
-		final List<Element> normalizedElements = normalizeElement(context, artifact, documentElement);
-		if(normalizedElements.size() != 1 || normalizedElements.get(0) != documentElement) {
-			throw new UnsupportedOperationException("Document element cannot be removed or replaced when normalizing a document.");
-		}
-		return document;
+		return transformDocument(document, List.of(normalization(context, artifact)));
 	}
 
-	/// Normalizes a document element, removing any named metadata (that is, [HTML#ELEMENT_META] elements with a [HTML#ELEMENT_META_ATTRIBUTE_NAME]
-	/// or a [RDFa#ATTRIBUTE_PROPERTY] attribute).
-	/// @implSpec This implementation marks for removal any [HTML#ELEMENT_META] elements with a [HTML#ELEMENT_META_ATTRIBUTE_NAME] or a
+	/// Returns a transformation for normalizing a single element, removing any named metadata (that is, [HTML#ELEMENT_META] elements with a
+	/// [HTML#ELEMENT_META_ATTRIBUTE_NAME] or a [RDFa#ATTRIBUTE_PROPERTY] attribute).
+	/// @implSpec The transformation marks for removal any [HTML#ELEMENT_META] elements with a [HTML#ELEMENT_META_ATTRIBUTE_NAME] or a
 	///           [RDFa#ATTRIBUTE_PROPERTY] attribute. It also removes all [RDFa#ATTRIBUTE_PREFIX] attributes.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
+	/// @return A transformation for normalizing each element.
+	protected ElementTransformation normalization(@NonNull MummyContext context, @NonNull final Artifact artifact) {
+		return element -> {
+			//remove the element itself if it is named metadata
+			if(HTML.XHTML_NAMESPACE_URI_STRING.equals(element.getNamespaceURI()) && ELEMENT_META.equals(element.getLocalName())
+					&& (element.hasAttributeNS(null, ELEMENT_META_ATTRIBUTE_NAME) || element.hasAttributeNS(null, RDFa.ATTRIBUTE_PROPERTY))) { //`<meta name="…">` or `<meta property="…">`
+				return emptyList();
+			}
+
+			//remove all RDFa `prefix` attributes
+			final Iterator<Attr> attrIterator = attributesIterator(element);
+			while(attrIterator.hasNext()) {
+				final Attr attr = attrIterator.next();
+				if(attr.getNamespaceURI() == null && RDFa.ATTRIBUTE_PREFIX.equals(attr.getLocalName())) { //prefix=
+					attrIterator.remove();
+				}
+			}
+
+			return List.of(element);
+		};
+	}
+
+	/// Normalizes a document element and its descendants.
+	/// @implSpec This implementation applies the transformation from [#normalization(MummyContext, Artifact)] using
+	///           [#transformElement(Element, List)].
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact being generated
 	/// @param element The element to normalized.
 	/// @return The normalized element(s), if any, to replace the source element.
 	/// @throws IOException if there is an error normalizing the element.
 	/// @throws DOMException if there is some error manipulating the XML document object model.
 	protected List<Element> normalizeElement(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element element)
 			throws IOException, DOMException {
-
-		//remove the element itself if it is named metadata
-		if(HTML.XHTML_NAMESPACE_URI_STRING.equals(element.getNamespaceURI()) && ELEMENT_META.equals(element.getLocalName())
-				&& (element.hasAttributeNS(null, ELEMENT_META_ATTRIBUTE_NAME) || element.hasAttributeNS(null, RDFa.ATTRIBUTE_PROPERTY))) { //`<meta name="…">` or `<meta property="…">`
-			return emptyList();
-		}
-
-		//remove all RDFa `prefix` attributes
-		final Iterator<Attr> attrIterator = attributesIterator(element);
-		while(attrIterator.hasNext()) {
-			final Attr attr = attrIterator.next();
-			if(attr.getNamespaceURI() == null && RDFa.ATTRIBUTE_PREFIX.equals(element.getLocalName())) { //prefix=
-				attrIterator.remove();
-			}
-		}
-
-		normalizeChildElements(context, artifact, element);
-
-		return List.of(element);
+		return transformElement(element, List.of(normalization(context, artifact)));
 	}
 
 	/// Normalizes child elements of an existing element.
-	/// @implSpec Each child element is replaced with the normalized elements returned from calling [#normalizeElement(MummyContext, Artifact, Element)]. If
-	///           only the same element is returned, no replacement is made. If no element is returned, the source element is removed.
+	/// @implSpec This implementation applies the transformation from [#normalization(MummyContext, Artifact)] using
+	///           [#transformChildElements(Element, List)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @param element The element the children of which to normalize.
@@ -527,22 +817,13 @@ protected List<Element> normalizeElement(@NonNull MummyContext context, @NonNull
 	/// @throws DOMException if there is some error manipulating the XML document object model.
 	protected void normalizeChildElements(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element element)
 			throws IOException, DOMException {
-		final NodeList childNodes = element.getChildNodes();
-		for(int childNodeIndex = 0; childNodeIndex < childNodes.getLength();) { //advance the index manually as needed
-			final Node childNode = childNodes.item(childNodeIndex);
-			if(!(childNode instanceof Element childElement)) { //skip non-elements
-				childNodeIndex++;
-				continue;
-			}
-			final List<Element> normalizedElements = normalizeElement(context, artifact, childElement);
-			replaceChild(element, childElement, normalizedElements);
-			childNodeIndex += normalizedElements.size(); //manually advance the index based upon the replacement nodes
-		}
+		transformChildElements(element, List.of(normalization(context, artifact)));
 	}
 
 	//## apply template
 
 	/// Applies a template if appropriate to a source document before it is processed.
+	/// @implSpec The template document is retrieved using [#loadTemplateDocument(MummyContext, Path, PageMummifier)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @param sourceDocument The source document to process.
@@ -557,11 +838,12 @@ protected Document applyTemplate(@NonNull MummyContext context, @NonNull final A
 					final Path templateFile = templateSource.getKey();
 					final PageMummifier templateMummifier = templateSource.getValue();
 					getLogger().trace("  {*} found template: {}", templateFile);
+					context.addArtifactDependency(artifact, templateFile);
 
 					//#load and relocate the template document
 					final Document templateDocument;
 					{
-						final Document sourceTemplateDocument = templateMummifier.loadSourceDocument(context, templateFile);
+						final Document sourceTemplateDocument = loadTemplateDocument(context, templateFile, templateMummifier);
 						//relocate the template links _within the source tree_ as if it were in the place of the artifact source
 						templateDocument = relocateDocument(context, sourceTemplateDocument, templateFile,
 								referentArtifact -> context.getPlan().referenceInSource(artifact, referentArtifact));
@@ -607,6 +889,86 @@ protected Document applyTemplate(@NonNull MummyContext context, @NonNull final A
 				})).orElse(sourceDocument); //return the source document unchanged if we can't find a template
 	}
 
+	/// Loads a template document, before it is relocated for any page.
+	/// @implSpec Parsed templates are cached by template file, and reparsed only if the modification time of the template file changes. Because the template is
+	///           relocated and filled with content for each page, this implementation returns a deep copy of the cached document, which the caller is free to
+	///           modify. Two threads needing the same uncached template concurrently may each parse it, the last one being cached.
+	/// @param context The context of static site generation.
+	/// @param templateFile The template source file.
+	/// @param templateMummifier The mummifier for loading the template file.
+	/// @return A new copy of the template document, not yet relocated.
+	/// @throws IOException if there is an error loading the template.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Document loadTemplateDocument(@NonNull MummyContext context, @NonNull final Path templateFile, @NonNull final PageMummifier templateMummifier)
+			throws IOException, DOMException {
+		final FileTime modifiedAt = getLastModifiedTime(templateFile);
+		CachedTemplate cachedTemplate = templateCache.get(templateFile);
+		if(cachedTemplate == null || !cachedTemplate.modifiedAt().equals(modifiedAt)) {
+			getLogger().trace("  {*} parsing template: {}", templateFile);
+			cachedTemplate = new CachedTemplate(modifiedAt, templateMummifier.loadSourceDocument(context, templateFile));
+			templateCache.put(templateFile, cachedTemplate);
+		}
+		final Document cachedDocument = cachedTemplate.document();
+		final Document templateDocument;
+		synchronized(cachedDocument) { //even reading a DOM is not thread-safe, as some implementations expand nodes lazily
+			templateDocument = (Document)cachedDocument.cloneNode(true);
+		}
+		identifyNavigationListTemplates(templateDocument, templateFile, cachedTemplate.modifiedAt());
+		return templateDocument;
+	}
+
+	/// Identifies the navigation lists to regenerate in a newly loaded template document, so that the lists generated from them may be shared among the pages
+	/// using the template. Each navigation list is identified using [Node#setUserData(String, Object, UserDataHandler)] with a [NavigationListTemplate],
+	/// unless Guise Mesh could change the list from page to page, as when the list contains Guise Mesh attributes or interpolation expressions.
+	/// @apiNote The identification is not copied if the list is cloned or imported, so a navigation list changed in some other way during mummification will
+	///          simply not be shared.
+	/// @param templateDocument The template document, not yet relocated.
+	/// @param templateFile The template source file.
+	/// @param modifiedAt The last modification time of the template file.
+	/// @see #regenerateNavigationList(MummyContext, Artifact, Element)
+	private void identifyNavigationListTemplates(@NonNull final Document templateDocument, @NonNull final Path templateFile, @NonNull final FileTime modifiedAt) {
+		int index = 0;
+		for(final Element listElement : (Iterable<Element>)streamOf(templateDocument.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, "*"))
+				.map(Element.class::cast).filter(element -> ELEMENT_OL.equals(element.getLocalName()) || ELEMENT_UL.equals(element.getLocalName()))
+				.filter(element -> isPresentAndEquals(findAttribute(element, ATTRIBUTE_REGENERATE), ATTRIBUTE_REGENERATE.getLocalName()))::iterator) {
+			if(isMeshInvariant(listElement)) {
+				listElement.setUserData(USER_DATA_KEY_NAVIGATION_LIST_TEMPLATE, new NavigationListTemplate(templateFile, modifiedAt, index), null);
+			}
+			index++;
+		}
+	}
+
+	/// Determines whether Guise Mesh would leave a node and its descendants unchanged, regardless of the mesh context.
+	/// @param node The node to check.
+	/// @return `true` if neither the node nor any of its descendants has a Guise Mesh attribute or text with an interpolation expression.
+	private boolean isMeshInvariant(@NonNull final Node node) {
+		final MeshInterpolator interpolator = getGuiseMesh().getInterpolator();
+		try {
+			if(node instanceof Element element) {
+				final NamedNodeMap attributes = element.getAttributes();
+				for(int attributeIndex = 0; attributeIndex < attributes.getLength(); attributeIndex++) {
+					final Node attribute = attributes.item(attributeIndex);
+					if(GuiseMesh.NAMESPACE_STRING.equals(attribute.getNamespaceURI()) || interpolator.hasInterpolation(attribute.getNodeValue())) {
+						return false;
+					}
+				}
+			} else if(node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+				if(interpolator.hasInterpolation(node.getNodeValue())) {
+					return false;
+				}
+			}
+		} catch(final MeshInterpolationException meshInterpolationException) { //the mesh will report the error when it reaches the node
+			return false;
+		}
+		final NodeList childNodes = node.getChildNodes();
+		for(int childNodeIndex = 0; childNodeIndex < childNodes.getLength(); childNodeIndex++) {
+			if(!isMeshInvariant(childNodes.item(childNodeIndex))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/// Finds the source file for a template, if there is one, for the given artifact. The template may be specified in the description of the document itself
 	/// using the `mummy:template` property ([Artifact#PROPERTY_TAG_MUMMY_TEMPLATE]). Otherwise a search is made for a template file in the given
 	/// artifact directory and ancestor directories.
@@ -901,22 +1263,6 @@ protected void processChildElements(@NonNull MummyContext context, @NonNull fina
 		}
 	}
 
-	/// Returns the given object as a [Long], converting if necessary.
-	/// @apiNote This conversion is necessary because for Markdown+YAML may encode e.g. the [Artifact#PROPERTY_TAG_MUMMY_ORDER] property as an
-	///          [Integer] value, while parsing the same property from XHTML with knowledge of the Mummy ontology may result in a [Long] value.
-	/// @implSpec This implementation only supports [Integer] and [Long] types.
-	/// @param object The object to return as a [Long].
-	/// @return The object as a [Long] instance.
-	/// @throws IllegalArgumentException if the given object cannot be converted to a [Long].
-	private static Long toLong(@NonNull final Object object) { //TODO switch to a general converter system, including number types, e.g. from Ploop
-		return switch(object) {
-			case Long l -> l;
-			case Integer i -> Long.valueOf(i.longValue());
-			default -> throw new IllegalArgumentException(
-					"Cannot convert object %s of type %s to type %s.".formatted(object, object.getClass().getSimpleName(), Long.class.getSimpleName()));
-		};
-	}
-
 	/// The set of [Font Awesome](https://fontawesome.com/) icon groups.
 	/// @see <a href="https://fontawesome.com/how-to-use">Font Awesome Basic Use</a>
 	private final static Set<String> FONT_AWESOME_ICON_GROUPS = Set.of("fas", "far", "fal", "fad", "fab");
@@ -927,8 +1273,13 @@ private static Long toLong(@NonNull final Object object) { //TODO switch to a ge
 	/// using `href=""`), the link is used as the template for active links; that is, self-links. Any other link (which is not ever required to have an
 	/// `href` attribute) is used as the template for all other links.
 	///
-	/// @implSpec This implementation calls [#generateNavigationList(MummyContext, Artifact, Element, Element, Stream)] for each menu level. See that method
-	///           for a specification of how link templates work.
+	/// @implSpec This implementation generates the list items using [#generateNavigationListItem(Element, NavigationItem)]. See that method for a specification
+	///           of how link templates work.
+	/// @implSpec A navigation list coming unchanged from a template is memoized for the current build, keyed to the template list, the source directory of the
+	///           artifact, and the identity of its navigation as determined by [#findNavigationIdentity(MummyContext, Artifact)], so that the pages in a
+	///           directory with the same navigation do not generate the same list again. Each item is generated in both its active and its inactive form, and
+	///           each page imports a copy of the list, choosing the active form of those items referring to the page. The references of those items referring to
+	///           the page or to the page for which the list was generated, the only references that may differ among such pages, are recalculated for the page.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @param navigationListElement The list element to regenerate.
@@ -937,7 +1288,6 @@ private static Long toLong(@NonNull final Object object) { //TODO switch to a ge
 	/// @throws IOException if there is an error processing the element.
 	/// @throws DOMException if there is some error manipulating the XML document object model.
 	/// @see #navigation(MummyContext, Artifact)
-	/// @see #generateNavigationList(MummyContext, Artifact, Element, Element, Stream)
 	protected List<Element> regenerateNavigationList(@NonNull MummyContext context, @NonNull final Artifact artifact,
 			@NonNull final Element navigationListElement) throws IOException, DOMException {
 
@@ -981,131 +1331,240 @@ protected List<Element> regenerateNavigationList(@NonNull MummyContext context,
 		final Element activeLiTemplate = discoveredActiveLiTemplate != null ? discoveredActiveLiTemplate : inactiveLiTemplate;
 		assert activeLiTemplate != null;
 
+		//find or generate the list for the navigation items and templates, as seen from the directory of the artifact
+		final Artifact principalArtifact = context.getPlan().getPrincipalArtifact(artifact);
+		final Optional<NavigationListTemplate> foundTemplate = Optional.ofNullable(navigationListElement.getUserData(USER_DATA_KEY_NAVIGATION_LIST_TEMPLATE))
+				.map(NavigationListTemplate.class::cast);
+		final Optional<NavigationListKey> foundNavigationListKey = foundTemplate.isPresent() ? findNavigationIdentity(context, artifact)
+				.map(navigationIdentity -> new NavigationListKey(foundTemplate.get(), principalArtifact.getSourceDirectory(), navigationIdentity)) : Optional.empty();
+		final Map<NavigationListKey, GeneratedNavigationList> generatedNavigationListsByKey = getPlanIndex(context).generatedNavigationListsByKey();
+		GeneratedNavigationList generatedNavigationList = foundNavigationListKey.map(generatedNavigationListsByKey::get).orElse(null);
+		if(generatedNavigationList == null) {
+			final Document generationDocument = context.getPageDocumentBuilder().newDocument();
+			generatedNavigationList = new GeneratedNavigationList(generationDocument, principalArtifact,
+					generateNavigationListItems(context, artifact, (Element)generationDocument.importNode(inactiveLiTemplate, true),
+							(Element)generationDocument.importNode(activeLiTemplate, true), navigation(context, artifact).toList()));
+			if(foundNavigationListKey.isPresent()) {
+				generatedNavigationListsByKey.putIfAbsent(foundNavigationListKey.get(), generatedNavigationList);
+			}
+		}
+
 		removeChildren(navigationListElement); //remove existing links
 
-		//regenerate the list and add the new list elements to the navigation list element
-		generateNavigationList(context, artifact, inactiveLiTemplate, activeLiTemplate, navigation(context, artifact)).forEach(navigationListElement::appendChild);
+		//add the list elements, in their active form for those referring to this artifact, to the navigation list element
+		synchronized(generatedNavigationList.document()) { //the DOM makes no guarantee of thread safety, even for reading
+			importNavigationListItems(context, navigationListElement.getOwnerDocument(), generatedNavigationList.principalArtifact(), principalArtifact,
+					generatedNavigationList.items()).forEach(navigationListElement::appendChild);
+		}
 
 		return List.of(navigationListElement);
 	}
 
-	/// Recursively regenerates a navigation list for the given navigation items based following the the given link templates.
-	///
-	/// - Within each `<li>` element, the first `<i></i>` element is considered to be a placeholder for an icon. If the navigation
-	///   artifact has an [Artifact#PROPERTY_HANDLE_ICON] property, it is replaced with a `<span></span>`; otherwise it is removed. The icon property
-	///   value is expected to be in the form `group/name` form, and based upon the specific group the `<span>`
-	///   `class` attribute and content will be updated appropriately. If the icon identification format isn't recognized, the literal value will be used
-	///   as the text content of the `<span>`.
-	/// - Within each `<li>` element, the first `<a></a>` element is considered to be a placeholder for the link. All of its text is
-	///   removed (leaving the icon, if any), and the result of [Artifact#determineLabel()] will be appended as text for the link label.
-	///
+	/// Determines the identity of the navigation of an artifact, so that the navigation lists generated for the artifact may be reused for other artifacts in the
+	/// same source directory with the same navigation identity.
+	/// @apiNote Artifacts in the same source directory with the same navigation identity must have the same navigation items, except for the references to the
+	///          artifacts themselves. Thus a subclass that overrides [#navigation(MummyContext, Artifact)] should override this method as well, returning
+	///          [Optional#empty()] if its navigation cannot be identified.
+	/// @implSpec Navigation loaded from navigation files is identified by the navigation files found by
+	///           [NavigationManager#findNavigationFiles(MummyContext, Artifact)], which are recorded as dependencies of the artifact just as if they had been
+	///           loaded. Default navigation is identified by the parent navigation artifact found by [#findParentNavigationArtifact(MummyContext, Artifact)],
+	///           the children of which are the child navigation artifacts.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
+	/// @return The identity of the navigation of the artifact, which will not be present if the navigation cannot be identified.
+	/// @throws IOException if there is an I/O error discovering the navigation files.
+	/// @see #navigation(MummyContext, Artifact)
+	protected Optional<?> findNavigationIdentity(@NonNull MummyContext context, @NonNull final Artifact artifact) throws IOException {
+		final Optional<List<Path>> foundNavigationFiles = getNavigationManager().findNavigationFiles(context, artifact);
+		if(foundNavigationFiles.isPresent()) {
+			foundNavigationFiles.get().forEach(navigationFile -> context.addArtifactDependency(artifact, navigationFile));
+			return foundNavigationFiles;
+		}
+		return findParentNavigationArtifact(context, artifact);
+	}
+
+	/// Recursively generates the items of a navigation list, each in both its active and its inactive form, along with the artifacts to which they refer, so
+	/// that the list may be imported into any page with the same navigation in the same directory.
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact being generated, against which the references of the navigation items are resolved.
 	/// @param inactiveLiTemplate The element to serve as a template for generating "normal", non-active items.
-	/// @param activeLiTemplate The element to serve as a template for generating active items, those item that reference the principal artifact of that given.
-	/// @param navigation The navigation items for which to generate list item elements.
-	/// @return The elements generated for the list items.
+	/// @param activeLiTemplate The element to serve as a template for generating active items.
+	/// @param navigation The navigation items for which to generate list items.
+	/// @return The generated list items.
 	/// @throws DOMException if there is some error manipulating the XML document object model.
-	protected Stream<Element> generateNavigationList(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element inactiveLiTemplate,
-			@NonNull final Element activeLiTemplate, @NonNull final Stream<NavigationItem> navigation) throws DOMException {
-		final Artifact principalArtifact = context.getPlan().getPrincipalArtifact(artifact); //for comparing the normalizes link target with this artifact
-		return navigation.map(navigationItem -> { //generate navigation elements 
-			//see if the href is a relative link back to this artifact, and if so use the template for an active link;
-			final boolean isSelfHref = navigationItem.findHref().map(URI::create).filter(not(URI::isAbsolute)) //assume absolute (external) URIs do not reference this artifact
-					.filter(not(uri -> uri.getRawFragment() != null)) //ignore fragment references; the static page doesn't know when/if the browser includes the fragment
-					.flatMap(URIs::findUriPath).flatMap(relativeReference -> context.getPlan().findArtifactBySourceRelativeReference(artifact, relativeReference))
-					.map(principalArtifact::equals).orElse(false); //the link target is normalized to the principal artifact, which is what we use to compare
-			final Element liTemplate = isSelfHref ? activeLiTemplate : inactiveLiTemplate;
-			final Element liElement = (Element)liTemplate.cloneNode(true);
-			//update the icon: <li><i> (transform to <span></span>)
-			findFirst(liElement.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_I)).map(Element.class::cast).ifPresent(iElement -> {
-				//if the navigation element has an icon, replace the `<i></i>` with an icon `<span></span>` 
-				navigationItem.findIconId().ifPresentOrElse(iconId -> {
-					final String iconClass;
-					final String iconContent;
-					final String[] iconIdParts = iconId.split("/", -1); //TODO use constant
-					if(iconIdParts.length == 2 && !iconIdParts[0].isBlank() && !iconIdParts[1].isBlank()) {
-						final String iconGroup = iconIdParts[0];
-						final String iconName = iconIdParts[1];
-						if(FONT_AWESOME_ICON_GROUPS.contains(iconGroup)) {
-							iconClass = iconGroup + ' ' + iconName; //e.g. `<span class="fas fa-home"></span>` (Font Awesome)
-							iconContent = null;
-						} else {
-							iconClass = iconGroup; //e.g. `<span class="material-icons">home</span>` (Material Icons)
-							iconContent = iconName;
-						}
-					} else { //if the icon name isn't in the format we expect, just use it as the content
-						iconClass = null;
-						iconContent = iconId;
-					}
-					final Element iconElement = iElement.getOwnerDocument().createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_SPAN);
-					if(iconClass != null) {
-						iconElement.setAttributeNS(null, ATTRIBUTE_CLASS, iconClass);
-					}
-					if(iconContent != null) {
-						appendText(iconElement, iconContent);
-					}
-					iElement.getParentNode().replaceChild(iconElement, iElement);
-				}, () -> iElement.getParentNode().removeChild(iElement)); //if the navigation element has no icon, remove the `<i></i>`
-			});
-			//update the link: <li><a>
-			findFirst(liElement.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_A)).map(Element.class::cast).ifPresent(aElement -> {
-				navigationItem.findHref().ifPresentOrElse(href -> aElement.setAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF, href),
-						() -> aElement.removeAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF));
-				//remove text nodes (leaving the icon or any other element)
-				final Iterator<Node> childNodeIterator = XmlDom.childNodesIterator(aElement);
-				while(childNodeIterator.hasNext()) {
-					final Node childNode = childNodeIterator.next();
-					if(childNode.getNodeType() == Node.TEXT_NODE) {
-						childNodeIterator.remove();
-					}
-				}
-				final String navigationLabel = navigationItem.getLabel();
-				final String linkLabel = aElement.getChildNodes().getLength() > 0 ? " " + navigationLabel : navigationLabel; //add spacing if there are other elements (e.g. an icon)
-				//append the link label
-				appendText(aElement, linkLabel);
-			});
-			//recursively add child lists as needed: <li><ul>
-			final List<NavigationItem> childNavigation = navigationItem.getNavigation();
-			if(!childNavigation.isEmpty()) { //don't even add a sublist if there are no child navigation items
-				final Element ulElement = liElement.getOwnerDocument().createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_UL);
-				//generate navigation list elements and add them to the sublist element
-				generateNavigationList(context, artifact, inactiveLiTemplate, activeLiTemplate, childNavigation.stream()).forEach(ulElement::appendChild);
+	/// @see #generateNavigationListItem(Element, NavigationItem)
+	private List<GeneratedNavigationListItem> generateNavigationListItems(@NonNull MummyContext context, @NonNull final Artifact artifact,
+			@NonNull final Element inactiveLiTemplate, @NonNull final Element activeLiTemplate, @NonNull final List<NavigationItem> navigation)
+			throws DOMException {
+		return navigation.stream().map(navigationItem -> {
+			final Optional<URI> foundRelativeReference = findNavigationRelativeReference(navigationItem);
+			//the referent is normalized to the principal artifact, which is what pages are compared with
+			final Artifact referent = foundRelativeReference.flatMap(URIs::findUriPath)
+					.flatMap(relativeReference -> context.getPlan().findArtifactBySourceRelativeReference(artifact, relativeReference)).orElse(null);
+			final boolean fragmentReference = foundRelativeReference.map(URI::getRawFragment).isPresent();
+			return new GeneratedNavigationListItem(generateNavigationListItem(inactiveLiTemplate, navigationItem),
+					generateNavigationListItem(activeLiTemplate, navigationItem), referent, fragmentReference,
+					generateNavigationListItems(context, artifact, inactiveLiTemplate, activeLiTemplate, navigationItem.getNavigation()));
+		}).toList();
+	}
+
+	/// Recursively imports generated navigation list items into a document, using the active form of those items referring to the artifact being generated.
+	/// @implSpec As relative references are resolved against the principal artifact, the references to the principal artifact of the list and to the principal
+	///           artifact of the page are the only ones that may differ between the two; the path of each is replaced with
+	///           [MummyPlan#referenceInSource(Artifact, Artifact)] from the principal artifact of the page.
+	/// @param context The context of static site generation.
+	/// @param document The document into which to import the list items.
+	/// @param generationPrincipalArtifact The principal artifact of the page for which the list items were generated.
+	/// @param principalArtifact The principal artifact of the artifact being generated.
+	/// @param items The generated list items to import.
+	/// @return The imported list items.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	private static List<Element> importNavigationListItems(@NonNull MummyContext context, @NonNull final Document document,
+			@NonNull final Artifact generationPrincipalArtifact, @NonNull final Artifact principalArtifact, @NonNull final List<GeneratedNavigationListItem> items)
+			throws DOMException {
+		return items.stream().map(item -> {
+			final Element liElement = (Element)document.importNode(item.isActive(principalArtifact) ? item.activeLiElement() : item.inactiveLiElement(), true);
+			final Artifact referent = item.referent();
+			if(referent != null && !principalArtifact.equals(generationPrincipalArtifact)
+					&& (referent.equals(generationPrincipalArtifact) || referent.equals(principalArtifact))) { //recalculate references that may differ for this page
+				final UriPath referencePath = context.getPlan().referenceInSource(principalArtifact, referent);
+				findFirst(liElement.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_A)).map(Element.class::cast)
+						.ifPresent(aElement -> findAttributeNS(aElement, null, ELEMENT_A_ATTRIBUTE_HREF).ifPresent(href -> aElement.setAttributeNS(null,
+								ELEMENT_A_ATTRIBUTE_HREF, URIs.changePath(URI.create(href), referencePath).toString())));
+			}
+			if(!item.navigation().isEmpty()) { //don't even add a sublist if there are no child navigation items
+				final Element ulElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_UL);
+				importNavigationListItems(context, document, generationPrincipalArtifact, principalArtifact, item.navigation()).forEach(ulElement::appendChild);
 				liElement.appendChild(ulElement);
 			}
 			return liElement;
+		}).toList();
+	}
+
+	/// Finds the relative reference by which a navigation item may refer to an artifact in the site.
+	/// @param navigationItem The navigation item.
+	/// @return The relative reference of the navigation item, which will not be present if the item has no reference or if its reference is absolute, as
+	///         external URIs are assumed not to reference artifacts of the site.
+	/// @throws IllegalArgumentException if the reference of the navigation item is not a valid URI.
+	private static Optional<URI> findNavigationRelativeReference(@NonNull final NavigationItem navigationItem) {
+		return navigationItem.findHref().map(URI::create).filter(not(URI::isAbsolute));
+	}
+
+	/// Generates a single navigation list item from a template, without any list of subordinate navigation.
+	///
+	/// - Within the `<li>` element, the first `<i></i>` element is considered to be a placeholder for an icon. If the navigation item has an icon
+	///   identifier, such as from the [Artifact#PROPERTY_HANDLE_ICON] property of its artifact, it is replaced with a `<span></span>`; otherwise it is
+	///   removed. The icon identifier is expected to be in the form `group/name` form, and based upon the specific group the `<span>` `class`
+	///   attribute and content will be updated appropriately. If the icon identification format isn't recognized, the literal value will be used as the text
+	///   content of the `<span>`.
+	/// - Within the `<li>` element, the first `<a></a>` element is considered to be a placeholder for the link. Its `href` attribute is set to the
+	///   reference of the navigation item, or removed if the item has no reference. All of its text is removed (leaving the icon, if any), and the label of
+	///   the navigation item, such as the result of [Artifact#determineLabel()] for its artifact, will be appended as text for the link label.
+	///
+	/// @param liTemplate The element to serve as a template for the item.
+	/// @param navigationItem The navigation item for which to generate a list item element.
+	/// @return The element generated for the list item, owned by the same document as the template.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Element generateNavigationListItem(@NonNull final Element liTemplate, @NonNull final NavigationItem navigationItem) throws DOMException {
+		final Element liElement = (Element)liTemplate.cloneNode(true);
+		//update the icon: <li><i> (transform to <span></span>)
+		findFirst(liElement.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_I)).map(Element.class::cast).ifPresent(iElement -> {
+			//if the navigation element has an icon, replace the `<i></i>` with an icon `<span></span>` 
+			navigationItem.findIconId().ifPresentOrElse(iconId -> {
+				final String iconClass;
+				final String iconContent;
+				final String[] iconIdParts = iconId.split("/", -1); //TODO use constant
+				if(iconIdParts.length == 2 && !iconIdParts[0].isBlank() && !iconIdParts[1].isBlank()) {
+					final String iconGroup = iconIdParts[0];
+					final String iconName = iconIdParts[1];
+					if(FONT_AWESOME_ICON_GROUPS.contains(iconGroup)) {
+						iconClass = iconGroup + ' ' + iconName; //e.g. `<span class="fas fa-home"></span>` (Font Awesome)
+						iconContent = null;
+					} else {
+						iconClass = iconGroup; //e.g. `<span class="material-icons">home</span>` (Material Icons)
+						iconContent = iconName;
+					}
+				} else { //if the icon name isn't in the format we expect, just use it as the content
+					iconClass = null;
+					iconContent = iconId;
+				}
+				final Element iconElement = iElement.getOwnerDocument().createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_SPAN);
+				if(iconClass != null) {
+					iconElement.setAttributeNS(null, ATTRIBUTE_CLASS, iconClass);
+				}
+				if(iconContent != null) {
+					appendText(iconElement, iconContent);
+				}
+				iElement.getParentNode().replaceChild(iconElement, iElement);
+			}, () -> iElement.getParentNode().removeChild(iElement)); //if the navigation element has no icon, remove the `<i></i>`
 		});
+		//update the link: <li><a>
+		findFirst(liElement.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_A)).map(Element.class::cast).ifPresent(aElement -> {
+			navigationItem.findHref().ifPresentOrElse(href -> aElement.setAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF, href),
+					() -> aElement.removeAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF));
+			//remove text nodes (leaving the icon or any other element)
+			final Iterator<Node> childNodeIterator = XmlDom.childNodesIterator(aElement);
+			while(childNodeIterator.hasNext()) {
+				final Node childNode = childNodeIterator.next();
+				if(childNode.getNodeType() == Node.TEXT_NODE) {
+					childNodeIterator.remove();
+				}
+			}
+			final String navigationLabel = navigationItem.getLabel();
+			final String linkLabel = aElement.getChildNodes().getLength() > 0 ? " " + navigationLabel : navigationLabel; //add spacing if there are other elements (e.g. an icon)
+			//append the link label
+			appendText(aElement, linkLabel);
+		});
+		return liElement;
 	}
 
 	//## relocate
 
-	/// Relocates a document by retargeting its references from the artifact source path to the artifact target path.
+	/// Returns a transformation for relocating a single element by retargeting its references from the artifact source path to the artifact target path.
+	/// @implSpec This implementation delegates to [#relocation(MummyContext, Path, Function)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
-	/// @param sourceDocument The source document to relocate.
-	/// @return The relocated document, which may or may not be the same document supplied as input.
-	/// @throws IOException if there is an error relocating the document.
-	/// @throws DOMException if there is some error manipulating the XML document object model.
-	protected Document relocateSourceDocumentToTarget(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Document sourceDocument)
-			throws IOException, DOMException {
-		return relocateDocument(context, sourceDocument, context.getPlan().getPrincipalArtifact(artifact).getSourcePath(), //e.g. consider `foo/` to be the source of `foo/index.html` for reference relocation
+	/// @return A transformation for relocating each element to the target.
+	protected ElementTransformation sourceToTargetRelocation(@NonNull MummyContext context, @NonNull final Artifact artifact) {
+		return relocation(context, context.getPlan().getPrincipalArtifact(artifact).getSourcePath(), //e.g. consider `foo/` to be the source of `foo/index.html` for reference relocation
 				referentArtifact -> context.getPlan().referenceInTarget(artifact, referentArtifact));
 	}
 
 	/// {@inheritDoc}
-	/// @implSpec This implementation does not allow the document element to be removed or replaced.
+	/// @implSpec This implementation applies the transformation from [#relocation(MummyContext, Path, Function)] using
+	///           [#transformDocument(Document, List)], and thus does not allow the document element to be removed or replaced.
 	@Override
 	public Document relocateDocument(@NonNull MummyContext context, @NonNull final Document sourceDocument, @NonNull final Path originalReferrerSourcePath,
 			final Function<Artifact, UriPath> referenceGenerator) throws IOException, DOMException {
-		final List<Element> relocatedElements = relocateElement(context, sourceDocument.getDocumentElement(), originalReferrerSourcePath, referenceGenerator);
-		if(relocatedElements.size() != 1 || relocatedElements.get(0) != sourceDocument.getDocumentElement()) {
-			throw new UnsupportedOperationException("Document element cannot be removed or replaced when relocating a document.");
-		}
-		return sourceDocument;
+		return transformDocument(sourceDocument, List.of(relocation(context, originalReferrerSourcePath, referenceGenerator)));
 	}
 
-	/// Relocates a source document element by retargeting its references relative to a new referrer path location.
-	/// @implSpec This implementation relocates the [#HTML_REFERENCE_ELEMENT_ATTRIBUTES] elements and attributes.
+	/// Returns a transformation for relocating a single element by retargeting its references relative to a new referrer path location.
+	/// @implSpec The transformation relocates the [#HTML_REFERENCE_ELEMENT_ATTRIBUTES] elements and attributes using
+	///           [#relocateReferenceElement(MummyContext, Element, String, Path, Function)].
+	/// @param context The context of static site generation.
+	/// @param originalReferrerSourcePath The absolute original path of the referrer, e.g. `…/foo/page.xhtml`.
+	/// @param referenceGenerator The function for generating a reference to the artifact indicated by the reference path resolved to the original path.
+	/// @return A transformation for relocating each element.
+	/// @see #HTML_REFERENCE_ELEMENT_ATTRIBUTES
+	protected ElementTransformation relocation(@NonNull MummyContext context, @NonNull final Path originalReferrerSourcePath,
+			final Function<Artifact, UriPath> referenceGenerator) {
+		return element -> {
+			//TODO transfer to some system of pluggable element relocating strategies
+			if(XHTML_NAMESPACE_URI_STRING.equals(element.getNamespaceURI())) {
+				//see if this is a referrer element, and get the attribute doing the referencing
+				final String referenceAttributeName = HTML_REFERENCE_ELEMENT_ATTRIBUTES.get(element.getLocalName());
+				if(referenceAttributeName != null) {
+					return relocateReferenceElement(context, element, referenceAttributeName, originalReferrerSourcePath, referenceGenerator);
+				}
+			}
+			return List.of(element);
+		};
+	}
+
+	/// Relocates a source document element and its descendants by retargeting their references relative to a new referrer path location.
+	/// @implSpec This implementation applies the transformation from [#relocation(MummyContext, Path, Function)] using
+	///           [#transformElement(Element, List)].
 	/// @param context The context of static site generation.
 	/// @param sourceElement The source element to relocate.
 	/// @param originalReferrerSourcePath The absolute original path of the referrer, e.g. `…/foo/page.xhtml`.
@@ -1113,28 +1572,14 @@ public Document relocateDocument(@NonNull MummyContext context, @NonNull final D
 	/// @return The relocated element(s), if any, to replace the source element.
 	/// @throws IOException if there is an error relocating the element.
 	/// @throws DOMException if there is some error manipulating the XML document object model.
-	/// @see #HTML_REFERENCE_ELEMENT_ATTRIBUTES
 	protected List<Element> relocateElement(@NonNull MummyContext context, @NonNull final Element sourceElement, @NonNull final Path originalReferrerSourcePath,
 			final Function<Artifact, UriPath> referenceGenerator) throws IOException, DOMException {
-
-		//always relocate child elements, even if this element is to be relocated, to handle e.g. an image within a link
-		relocateChildElements(context, sourceElement, originalReferrerSourcePath, referenceGenerator);
-
-		//TODO transfer to some system of pluggable element relocating strategies
-		if(XHTML_NAMESPACE_URI_STRING.equals(sourceElement.getNamespaceURI())) {
-			//see if this is a referrer element, and get the attribute doing the referencing
-			final String referenceAttributeName = HTML_REFERENCE_ELEMENT_ATTRIBUTES.get(sourceElement.getLocalName());
-			if(referenceAttributeName != null) {
-				return relocateReferenceElement(context, sourceElement, referenceAttributeName, originalReferrerSourcePath, referenceGenerator);
-			}
-		}
-
-		return List.of(sourceElement);
+		return transformElement(sourceElement, List.of(relocation(context, originalReferrerSourcePath, referenceGenerator)));
 	}
 
 	/// Relocates child elements of an existing element by retargeting references relative to a new referrer path location.
-	/// @implSpec Each child element is replaced with the relocated elements returned from calling [#relocateElement(MummyContext, Element, Path, Function)].
-	///           If only the same element is returned, no replacement is made. If no element is returned, the source element is removed.
+	/// @implSpec This implementation applies the transformation from [#relocation(MummyContext, Path, Function)] using
+	///           [#transformChildElements(Element, List)].
 	/// @param context The context of static site generation.
 	/// @param sourceElement The source element the children of which to relocate.
 	/// @param originalReferrerSourcePath The absolute original path of the referrer, e.g. `…/foo/page.xhtml`.
@@ -1143,17 +1588,7 @@ protected List<Element> relocateElement(@NonNull MummyContext context, @NonNull
 	/// @throws DOMException if there is some error manipulating the XML document object model.
 	protected void relocateChildElements(@NonNull MummyContext context, @NonNull final Element sourceElement, @NonNull final Path originalReferrerSourcePath,
 			final Function<Artifact, UriPath> referenceGenerator) throws IOException, DOMException {
-		final NodeList childNodes = sourceElement.getChildNodes();
-		for(int childNodeIndex = 0; childNodeIndex < childNodes.getLength();) { //advance the index manually as needed
-			final Node childNode = childNodes.item(childNodeIndex);
-			if(!(childNode instanceof Element childElement)) { //skip non-elements
-				childNodeIndex++;
-				continue;
-			}
-			final List<Element> relocatedElements = relocateElement(context, childElement, originalReferrerSourcePath, referenceGenerator);
-			replaceChild(sourceElement, childElement, relocatedElements);
-			childNodeIndex += relocatedElements.size(); //manually advance the index based upon the replacement nodes
-		}
+		transformChildElements(sourceElement, List.of(relocation(context, originalReferrerSourcePath, referenceGenerator)));
 	}
 
 	/// Relocates a reference element by retargeting its reference attribute relative to a new referrer path location.
@@ -1161,6 +1596,7 @@ protected void relocateChildElements(@NonNull MummyContext context, @NonNull fin
 	/// A reference to `""` is considered to be a relative self reference as per RFC 3986, and is never modified during relocation, as it is always
 	/// inherently "relocated" regardless of the resource location.
 	///
+	/// @implSpec This implementation only parses and retargets references for which [#isRelocatableReference(CharSequence)] returns `true`.
 	/// @param context The context of static site generation.
 	/// @param referenceElement The reference element such a `<a>` to relocate.
 	/// @param referenceAttributeName The name of the reference attribute such a `href` to relocate.
@@ -1173,29 +1609,67 @@ protected void relocateChildElements(@NonNull MummyContext context, @NonNull fin
 	protected List<Element> relocateReferenceElement(@NonNull MummyContext context, @NonNull final Element referenceElement,
 			@NonNull final String referenceAttributeName, @NonNull final Path originalReferrerSourcePath, final Function<Artifact, UriPath> referenceGenerator)
 			throws IOException, DOMException {
-		findAttributeNS(referenceElement, null, referenceAttributeName).ifPresent(referenceString -> {
+		findAttributeNS(referenceElement, null, referenceAttributeName).filter(AbstractPageMummifier::isRelocatableReference).ifPresent(referenceString -> {
 			getLogger().trace("  - found reference <{} {}=\"{}\" ...>", referenceElement.getNodeName(), referenceAttributeName, referenceString);
-			//TODO check for the empty string and do something appropriate
 			final URI referenceURI;
 			try {
 				referenceURI = new URI(referenceString);
-				if(!referenceURI.isAbsolute()) { //only convert paths
-					final String referencePath = referenceURI.getRawPath();
-					if(referencePath != null && !referencePath.isEmpty() && !URIs.isPathAbsolute(referencePath)) { //only convert relative paths that are not self-references ("")
-						retargetResourceReference(context, referenceURI, originalReferrerSourcePath, referenceGenerator).ifPresentOrElse(retargetedResourceReference -> {
-							getLogger().trace("  -> mapping to : {}", retargetedResourceReference);
-							referenceElement.setAttributeNS(null, referenceAttributeName, retargetedResourceReference.toString());
-						}, () -> getLogger().warn("No target artifact found for source relative reference `{}` in `{}`.", referenceURI, originalReferrerSourcePath));
-					}
-				}
 			} catch(final URISyntaxException uriSyntaxException) {
 				getLogger().warn("Invalid reference `<{} {}=\"{}\" ...>` in `{}`: {}", referenceElement.getNodeName(), referenceAttributeName, referenceString,
 						originalReferrerSourcePath, uriSyntaxException.getLocalizedMessage()); //TODO i18n
+				return;
 			}
+			retargetResourceReference(context, referenceURI, originalReferrerSourcePath, referenceGenerator).ifPresentOrElse(retargetedResourceReference -> {
+				getLogger().trace("  -> mapping to : {}", retargetedResourceReference);
+				referenceElement.setAttributeNS(null, referenceAttributeName, retargetedResourceReference.toString());
+			}, () -> getLogger().warn("No target artifact found for source relative reference `{}` in `{}`.", referenceURI, originalReferrerSourcePath));
 		});
 		return List.of(referenceElement);
 	}
 
+	/// Determines whether a reference may need relocating, that is, whether it is a relative reference with a relative, non-empty path, without parsing the
+	/// reference as a URI.
+	///
+	/// Absolute URIs such as `https://example.com/` and `mailto:jdoe@example.com`; references with absolute paths such as `/foo` and
+	/// `//example.com/foo`; fragment-only references such as `#bar`; query-only references such as `?foo`; and the self reference `""` are never
+	/// relocated.
+	///
+	/// @implSpec A reference is considered absolute if it begins with a scheme as defined in
+	///           [RFC 3986 § 3.1](https://www.rfc-editor.org/rfc/rfc3986#section-3.1), that is a letter followed by any letters, digits, `+`, `-`, or
+	///           `.`, followed by `:`. A reference that would not be a valid URI is still considered relocatable, so that its problem may be reported when it
+	///           is parsed.
+	/// @param reference The reference to check, such as the value of an `href` attribute.
+	/// @return `true` if the reference has a relative path that may need relocating.
+	protected static boolean isRelocatableReference(@NonNull final CharSequence reference) {
+		final int length = reference.length();
+		if(length == 0) { //self reference
+			return false;
+		}
+		final char firstChar = reference.charAt(0);
+		if(firstChar == '/' || firstChar == '?' || firstChar == '#') { //absolute path, network path, query, or fragment
+			return false;
+		}
+		if(isSchemeLetter(firstChar)) {
+			for(int i = 1; i < length; i++) {
+				final char c = reference.charAt(i);
+				if(c == ':') { //scheme, e.g. `https:` or `mailto:`
+					return false;
+				}
+				if(!isSchemeLetter(c) && !(c >= '0' && c <= '9') && c != '+' && c != '-' && c != '.') {
+					break;
+				}
+			}
+		}
+		return true;
+	}
+
+	/// Determines whether a character is an ASCII letter, as allowed in a URI scheme.
+	/// @param c The character to check.
+	/// @return `true` if the character is an ASCII letter.
+	private static boolean isSchemeLetter(final char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
 	/// Retargets a relative resource reference after relocating the referring source path to a new location, based upon the determined path of the referent
 	/// artifact.
 	///
@@ -1237,71 +1711,87 @@ protected Optional<URI> retargetResourceReference(@NonNull MummyContext context,
 	/// @throws IllegalArgumentException if the referent artifact path is not in the same source/target tree as the relocated referrer path.
 	protected Optional<UriPath> retargetResourceReferencePath(@NonNull MummyContext context, @NonNull UriPath resourceReferencePath,
 			@NonNull final Path originalReferrerSourcePath, final Function<Artifact, UriPath> referenceGenerator) {
-		return context.getPlan().findArtifactBySourceRelativeReference(context.checkArgumentSourcePath(originalReferrerSourcePath), resourceReferencePath)
-				.map(referenceGenerator::apply);
+		return findReferentArtifact(context, originalReferrerSourcePath, resourceReferencePath).map(referenceGenerator::apply);
 	}
 
-	//## cleanse
-
-	/// Cleanses a document before it is saved, removing any Mummy-related directives.
-	/// @implSpec This implementation does not allow the document element to be removed or replaced.
+	/// Retrieves an artifact referred to by a URI path source reference relative to some referrer source path.
+	/// @implSpec This implementation delegates to [MummyPlan#findArtifactBySourceRelativeReference(Path, UriPath)], memoizing the result for the current
+	///           build, keyed to the reference and to the directory against which it is resolved, so that references repeated in the pages of a directory or in
+	///           templates and navigation menus are resolved only once per build. The self reference `""`, which resolves to the referrer itself rather than
+	///           to its directory, is not memoized.
 	/// @param context The context of static site generation.
-	/// @param artifact The artifact being generated
-	/// @param document The document to cleanse.
-	/// @return The cleansed document, which may or may not be the same document supplied as input.
-	/// @throws IOException if there is an error cleansing the document.
-	/// @throws DOMException if there is some error manipulating the XML document object model.
-	protected Document cleanseDocument(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Document document)
-			throws IOException, DOMException {
-		final List<Element> cleansedElements = cleanseElement(context, artifact, document.getDocumentElement());
-		if(cleansedElements.size() != 1 || cleansedElements.get(0) != document.getDocumentElement()) {
-			throw new UnsupportedOperationException("Document element cannot be removed or replaced when cleansing a document.");
+	/// @param referrerSourcePath The absolute path of the referrer, e.g. `…/foo/page.xhtml`.
+	/// @param sourceRelativeReference The relative URI path being used as a reference to some artifact, e.g. `example/test.txt`.
+	/// @return The artifact referred to by the relative path source reference.
+	/// @throws IllegalArgumentException if the referrer source path is not absolute and/or is not within the site source tree.
+	/// @throws IllegalArgumentException if the given reference path is absolute.
+	private Optional<Artifact> findReferentArtifact(@NonNull final MummyContext context, @NonNull final Path referrerSourcePath,
+			@NonNull final UriPath sourceRelativeReference) {
+		context.checkArgumentSourcePath(referrerSourcePath);
+		final String reference = sourceRelativeReference.toString();
+		if(reference.isEmpty()) {
+			return context.getPlan().findArtifactBySourceRelativeReference(referrerSourcePath, sourceRelativeReference);
 		}
-		return document;
+		final PlanIndex planIndex = getPlanIndex(context);
+		final Path referrerDirectory = planIndex.referrerDirectoriesBySourcePath().computeIfAbsent(referrerSourcePath,
+				path -> isDirectory(path) ? path : path.getParent()); //as with its URI form, a directory is resolved against itself, not its parent
+		return planIndex.referentArtifactsByReference().computeIfAbsent(new DirectoryReference(referrerDirectory, reference),
+				_ -> planIndex.plan().findArtifactBySourceRelativeReference(referrerSourcePath, sourceRelativeReference));
 	}
 
-	/// Cleanses a document element, removing any Mummy-related directives.
-	/// @implSpec This implementation marks for removal any element in the [GuiseMummy#NAMESPACE] namespace, and for all other elements removes all
+	//## cleanse
+
+	/// Returns a transformation for cleansing a single element, removing any Mummy-related directives.
+	/// @implSpec The transformation marks for removal any element in the [GuiseMummy#NAMESPACE] namespace, and for all other elements removes all
 	///           attributes in the [GuiseMummy#NAMESPACE] namespace.
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
-	/// @param element The element to cleanse.
-	/// @return The cleansed element(s), if any, to replace the source element.
-	/// @throws IOException if there is an error cleansing the element.
-	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @return A transformation for cleansing each element.
 	/// @see GuiseMummy#NAMESPACE
-	protected List<Element> cleanseElement(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element element)
-			throws IOException, DOMException {
+	protected ElementTransformation cleansing(@NonNull MummyContext context, @NonNull final Artifact artifact) {
+		return element -> {
+			//remove the element itself if it is in the Guise Mummy namespace
+			if(GuiseMummy.NAMESPACE_STRING.equals(element.getNamespaceURI())) { //<mummy:*>
+				return emptyList();
+			}
 
-		//remove the element itself if it is in the Guise Mummy namespace
-		if(GuiseMummy.NAMESPACE_STRING.equals(element.getNamespaceURI())) { //<mummy:*>
-			return emptyList();
-		}
+			//remove all attributes in the Guise Mummy namespace and Guise Mummy namespace declarations
+			final Iterator<Attr> attrIterator = attributesIterator(element);
+			while(attrIterator.hasNext()) {
+				final Attr attr = attrIterator.next();
 
-		//remove all attributes in the Guise Mummy namespace and Guise Mummy namespace declarations
-		final Iterator<Attr> attrIterator = attributesIterator(element);
-		while(attrIterator.hasNext()) {
-			final Attr attr = attrIterator.next();
+				if(XML.XMLNS_NAMESPACE_URI_STRING.equals(attr.getNamespaceURI())) { //xmlns:*
+					if(GuiseMummy.NAMESPACE_STRING.equals(attr.getValue())) { //xmlns:mummy
+						attrIterator.remove();
+					}
+				}
 
-			if(XML.XMLNS_NAMESPACE_URI_STRING.equals(attr.getNamespaceURI())) { //xmlns:*
-				if(GuiseMummy.NAMESPACE_STRING.equals(attr.getValue())) { //xmlns:mummy
+				if(GuiseMummy.NAMESPACE_STRING.equals(attr.getNamespaceURI())) { //mummy:*
 					attrIterator.remove();
 				}
 			}
 
-			if(GuiseMummy.NAMESPACE_STRING.equals(attr.getNamespaceURI())) { //mummy:*
-				attrIterator.remove();
-			}
-		}
-
-		cleanseChildElements(context, artifact, element);
+			return List.of(element);
+		};
+	}
 
-		return List.of(element);
+	/// Cleanses a document element and its descendants, removing any Mummy-related directives.
+	/// @implSpec This implementation applies the transformation from [#cleansing(MummyContext, Artifact)] using [#transformElement(Element, List)].
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact being generated
+	/// @param element The element to cleanse.
+	/// @return The cleansed element(s), if any, to replace the source element.
+	/// @throws IOException if there is an error cleansing the element.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @see GuiseMummy#NAMESPACE
+	protected List<Element> cleanseElement(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element element)
+			throws IOException, DOMException {
+		return transformElement(element, List.of(cleansing(context, artifact)));
 	}
 
 	/// Cleanses child elements of an existing element, removing any Mummy-related directives.
-	/// @implSpec Each child element is replaced with the cleansed elements returned from calling [#cleanseElement(MummyContext, Artifact, Element)]. If only
-	///           the same element is returned, no replacement is made. If no element is returned, the source element is removed.
+	/// @implSpec This implementation applies the transformation from [#cleansing(MummyContext, Artifact)] using
+	///           [#transformChildElements(Element, List)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact being generated
 	/// @param element The element the children of which to cleanse.
@@ -1309,17 +1799,7 @@ protected List<Element> cleanseElement(@NonNull MummyContext context, @NonNull f
 	/// @throws DOMException if there is some error manipulating the XML document object model.
 	protected void cleanseChildElements(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Element element)
 			throws IOException, DOMException {
-		final NodeList childNodes = element.getChildNodes();
-		for(int childNodeIndex = 0; childNodeIndex < childNodes.getLength();) { //advance the index manually as needed
-			final Node childNode = childNodes.item(childNodeIndex);
-			if(!(childNode instanceof Element childElement)) { //skip non-elements
-				childNodeIndex++;
-				continue;
-			}
-			final List<Element> cleansedElements = cleanseElement(context, artifact, childElement);
-			replaceChild(element, childElement, cleansedElements);
-			childNodeIndex += cleansedElements.size(); //manually advance the index based upon the replacement nodes
-		}
+		transformChildElements(element, List.of(cleansing(context, artifact)));
 	}
 
 	//## ascribe
@@ -1421,4 +1901,151 @@ protected Document ascribeDocument(@NonNull MummyContext context, @NonNull final
 		return document;
 	}
 
+	//## minify
+
+	/// The local names of XHTML elements within which whitespace is significant, either because it is rendered as is or because the content is not text to be
+	/// rendered at all.
+	private static final Set<String> WHITESPACE_PRESERVING_ELEMENTS = Set.of("pre", "script", "style", "textarea");
+
+	/// The local names of XHTML elements that are not rendered inline, so that whitespace at their boundaries is not rendered. This includes the metadata
+	/// elements of the `<head>`, which are not rendered at all.
+	private static final Set<String> WHITESPACE_BOUNDARY_ELEMENTS = Set.of("address", "article", "aside", "base", "blockquote", "body", "br", "caption", "col",
+			"colgroup", "dd", "details", "dialog", "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "head",
+			"header", "hgroup", "hr", "html", "legend", "li", "link", "main", "menu", "meta", "nav", "ol", "optgroup", "option", "p", "pre", "section", "summary",
+			"table", "tbody", "td", "tfoot", "th", "thead", "title", "tr", "ul");
+
+	/// Determines whether generated pages are to be minified.
+	/// @param context The context of static site generation.
+	/// @return `true` if [PageMummifier#CONFIG_KEY_MUMMY_PAGE_MINIFY] is enabled.
+	protected boolean isMinify(@NonNull final MummyContext context) {
+		return context.getConfiguration().findBoolean(CONFIG_KEY_MUMMY_PAGE_MINIFY).orElse(false);
+	}
+
+	/// {@inheritDoc}
+	/// @implSpec This implementation considers the configuration modified if whether pages are to be [minified][#isMinify(MummyContext)] differs from the
+	///           [PageMummifier#PROPERTY_TAG_MUMMY_MINIFIED] flag recorded in the description, which is considered `false` if absent.
+	@Override
+	protected boolean isTargetConfigurationModified(final MummyContext context, final UrfResourceDescription description) {
+		final boolean wasMinified = description.findPropertyValue(PROPERTY_TAG_MUMMY_MINIFIED).map(Boolean.TRUE::equals).orElse(false);
+		return wasMinified != isMinify(context);
+	}
+
+	/// Minifies a document before it is saved, removing content that does not affect how the page is rendered.
+	/// @implSpec This implementation applies the transformation from [#minification(MummyContext, Artifact)] using [#transformDocument(Document, List)], and
+	///           thus does not allow the document element to be removed or replaced.
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact being generated
+	/// @param document The document to minify.
+	/// @return The minified document, which may or may not be the same document supplied as input.
+	/// @throws IOException if there is an error minifying the document.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @see PageMummifier#CONFIG_KEY_MUMMY_PAGE_MINIFY
+	protected Document minifyDocument(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Document document)
+			throws IOException, DOMException {
+		return transformDocument(document, List.of(minification(context, artifact)));
+	}
+
+	/// Returns a transformation for minifying the child nodes of a single element other than its child elements, removing comments and insignificant
+	/// whitespace.
+	/// @implSpec The transformation leaves the content of XHTML `<script>` and `<style>` elements untouched, and removes all comments from other elements.
+	///           Unless the element is within one of the [#WHITESPACE_PRESERVING_ELEMENTS], or is not in the XHTML namespace, each sequence of whitespace in its
+	///           text is collapsed to a single space, and whitespace following other whitespace or adjoining the boundary of one of the
+	///           [#WHITESPACE_BOUNDARY_ELEMENTS] is removed, along with any text left empty.
+	/// @apiNote Whitespace is only removed where HTML by default would not render it. Content that relies on styling to preserve whitespace, such as using the
+	///          CSS `white-space` property, should not be minified.
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact being generated
+	/// @return A transformation for minifying each element.
+	protected ElementTransformation minification(@NonNull MummyContext context, @NonNull final Artifact artifact) {
+		return element -> {
+			final NsName elementName = NsName.ofNode(element);
+			if(elementName.equals(XHTML_ELEMENT_SCRIPT) || elementName.equals(XHTML_ELEMENT_STYLE)) { //comments may be used to hide scripts and styles
+				return List.of(element);
+			}
+
+			//remove comments
+			Node childNode = element.getFirstChild();
+			while(childNode != null) {
+				final Node nextChildNode = childNode.getNextSibling(); //determine the next node before any removal
+				if(childNode.getNodeType() == Node.COMMENT_NODE) {
+					element.removeChild(childNode);
+				}
+				childNode = nextChildNode;
+			}
+
+			if(!XHTML_NAMESPACE_URI_STRING.equals(element.getNamespaceURI()) || isWhitespacePreserved(element)) {
+				return List.of(element);
+			}
+
+			//collapse whitespace
+			final boolean isBoundary = isWhitespaceBoundary(element);
+			boolean isAfterWhitespace = isBoundary; //whether the preceding content ends with whitespace or a boundary, making leading whitespace insignificant
+			childNode = element.getFirstChild();
+			while(childNode != null) {
+				final Node nextChildNode = childNode.getNextSibling(); //determine the next node before any removal
+				if(childNode.getNodeType() == Node.TEXT_NODE) {
+					final String text = collapseWhitespace(childNode.getNodeValue());
+					final int beginIndex = isAfterWhitespace && text.startsWith(" ") ? 1 : 0;
+					final boolean isBeforeBoundary = nextChildNode != null ? nextChildNode instanceof Element nextChildElement && isWhitespaceBoundary(nextChildElement)
+							: isBoundary;
+					final int endIndex = isBeforeBoundary && text.length() > beginIndex && text.endsWith(" ") ? text.length() - 1 : text.length();
+					if(beginIndex < endIndex) {
+						final String minifiedText = text.substring(beginIndex, endIndex);
+						childNode.setNodeValue(minifiedText);
+						isAfterWhitespace = minifiedText.endsWith(" ");
+					} else { //the text was all insignificant whitespace
+						element.removeChild(childNode);
+					}
+				} else {
+					isAfterWhitespace = childNode instanceof Element childElement && isWhitespaceBoundary(childElement);
+				}
+				childNode = nextChildNode;
+			}
+
+			return List.of(element);
+		};
+	}
+
+	/// Determines whether an element is in the XHTML namespace and is one of the [#WHITESPACE_BOUNDARY_ELEMENTS].
+	/// @param element The element to check.
+	/// @return `true` if whitespace at the boundaries of the element is not rendered.
+	private static boolean isWhitespaceBoundary(@NonNull final Element element) {
+		return XHTML_NAMESPACE_URI_STRING.equals(element.getNamespaceURI()) && WHITESPACE_BOUNDARY_ELEMENTS.contains(element.getLocalName());
+	}
+
+	/// Determines whether an element or one of its ancestors is an XHTML element within which whitespace is significant.
+	/// @param element The element to check.
+	/// @return `true` if the element or one of its ancestors is in the XHTML namespace and is one of the [#WHITESPACE_PRESERVING_ELEMENTS].
+	private static boolean isWhitespacePreserved(@NonNull final Element element) {
+		Node node = element;
+		while(node instanceof Element ancestorElement) {
+			if(XHTML_NAMESPACE_URI_STRING.equals(ancestorElement.getNamespaceURI()) && WHITESPACE_PRESERVING_ELEMENTS.contains(ancestorElement.getLocalName())) {
+				return true;
+			}
+			node = ancestorElement.getParentNode();
+		}
+		return false;
+	}
+
+	/// Collapses each sequence of HTML whitespace in the given text to a single space.
+	/// @param text The text to collapse.
+	/// @return The text with each sequence of space, tab, line feed, form feed, and carriage return characters replaced by a single space.
+	private static String collapseWhitespace(@NonNull final String text) {
+		final StringBuilder stringBuilder = new StringBuilder(text.length());
+		boolean isWhitespace = false;
+		for(int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if(c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r') {
+				if(!isWhitespace) {
+					stringBuilder.append(' ');
+					isWhitespace = true;
+				}
+			} else {
+				stringBuilder.append(c);
+				isWhitespace = false;
+			}
+		}
+		return stringBuilder.toString();
+	}
+
 }
@@ -24,8 +24,10 @@
 
 import java.io.*;
 import java.nio.charset.CodingErrorAction;
-import java.util.Set;
+import java.net.URI;
+import java.util.*;
 
+import org.jspecify.annotations.*;
 import org.w3c.dom.*;
 
 import com.globalmentor.io.*;
@@ -62,19 +64,36 @@ public Set<String> getSupportedFilenameExtensions() {
 	@Override
 	public Document loadSourceDocument(final MummyContext context, final InputStream inputStream, final String name) throws IOException, DOMException {
 		final InputStream markedInputStream = toMarkSupportedInputStream(inputStream); //make sure our input stream supports mark/reset
-		final boolean hasXmlDeclaration;
-		{
-			//Temporarily create a test reader that detects the BOM but will substitute a replacement character for any errors (as we are just testing, not actually parsing).
-			//Create a buffered reader so that we can reset after checking for the XML declaration, but only use a buffer large enough for the text characters.
-			markedInputStream.mark(TEST_BUFFER_SIZE); //save enough room for the number of bytes to read
-			final Reader testReader = new BufferedReader(new BOMInputStreamReader(toMarkSupportedInputStream(inputStream), UTF_8, CodingErrorAction.REPLACE),
-					TEST_BUFFER_SIZE);
-			hasXmlDeclaration = XML_DECL_START.equals(readString(testReader, XML_DECL_START.length())); //just read enough to test the XML declaration
-			markedInputStream.reset(); //reset the original input stream back to the way it was
-		}
-		if(hasXmlDeclaration) {
+		if(hasXmlDeclaration(markedInputStream)) {
 			return super.loadSourceDocument(context, markedInputStream, name); //delegate to the XHTML parsing version _passing our stream we marked and reset_
 		}
 		throw new UnsupportedOperationException("General HTML parsing not yet supported for `%s`.".formatted(name));
 	}
+
+	/// {@inheritDoc}
+	/// @implSpec This version only scans the document if it begins with the XML declaration [XML#XML_DECL_START], delegating to
+	///           [XhtmlPageMummifier#scanSourceMetadata(MummyContext, InputStream, String)].
+	@Override
+	protected Optional<List<Map.Entry<URI, Object>>> scanSourceMetadata(final MummyContext context, final InputStream inputStream, final String name)
+			throws IOException {
+		final InputStream markedInputStream = toMarkSupportedInputStream(inputStream); //make sure our input stream supports mark/reset
+		if(hasXmlDeclaration(markedInputStream)) {
+			return super.scanSourceMetadata(context, markedInputStream, name); //delegate to the XHTML scanning version _passing our stream we marked and reset_
+		}
+		return Optional.empty();
+	}
+
+	/// Determines whether a document begins with the XML declaration [XML#XML_DECL_START], leaving the input stream where it was.
+	/// @param markedInputStream The input stream of the document, which must support mark/reset.
+	/// @return `true` if the document begins with an XML declaration.
+	/// @throws IOException if there is an error reading from the input stream.
+	private static boolean hasXmlDeclaration(@NonNull final InputStream markedInputStream) throws IOException {
+		//Temporarily create a test reader that detects the BOM but will substitute a replacement character for any errors (as we are just testing, not actually parsing).
+		//Create a buffered reader so that we can reset after checking for the XML declaration, but only use a buffer large enough for the text characters.
+		markedInputStream.mark(TEST_BUFFER_SIZE); //save enough room for the number of bytes to read
+		final Reader testReader = new BufferedReader(new BOMInputStreamReader(markedInputStream, UTF_8, CodingErrorAction.REPLACE), TEST_BUFFER_SIZE);
+		final boolean hasXmlDeclaration = XML_DECL_START.equals(readString(testReader, XML_DECL_START.length())); //just read enough to test the XML declaration
+		markedInputStream.reset(); //reset the original input stream back to the way it was
+		return hasXmlDeclaration;
+	}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy.mummify.page;
+
+import static com.globalmentor.html.def.HTML.*;
+import static java.util.Objects.*;
+
+import java.util.Set;
+
+import org.jspecify.annotations.*;
+import org.w3c.dom.*;
+
+import com.vladsch.flexmark.ast.*;
+import com.vladsch.flexmark.ext.superscript.Superscript;
+import com.vladsch.flexmark.parser.ListOptions;
+import com.vladsch.flexmark.util.sequence.Escaping;
+
+/// Renders a Markdown tree directly as XHTML DOM nodes, avoiding serializing the tree as HTML text only to parse it again.
+///
+/// Only the Markdown constructs listed in [#RENDERABLE_NODE_TYPES] are supported, producing the same elements and attributes as the Flexmark
+/// `HtmlRenderer` with its default options. In particular raw HTML, which would require parsing anyway, is not supported; callers should check
+/// [#isRenderable(com.vladsch.flexmark.util.ast.Node)] and fall back to rendering and parsing HTML text otherwise.
+/// @apiNote A Flexmark `NodeRenderer` cannot be used for this purpose, as node renderers write text to an `HtmlWriter`.
+/// @implNote This class is stateless and may be used by multiple threads.
+/// @author Garret Wilson
+public class MarkdownDomRenderer {
+
+	/// The exact types of Markdown nodes that can be rendered. Subclasses of these types are not considered renderable, as they may require special rendering.
+	protected static final Set<Class<? extends com.vladsch.flexmark.util.ast.Node>> RENDERABLE_NODE_TYPES = Set.of(
+			//blocks
+			com.vladsch.flexmark.util.ast.Document.class, Paragraph.class, Heading.class, BlockQuote.class, BulletList.class, OrderedList.class,
+			BulletListItem.class, OrderedListItem.class, FencedCodeBlock.class, IndentedCodeBlock.class, ThematicBreak.class, Reference.class,
+			//inlines
+			com.vladsch.flexmark.ast.Text.class, TextBase.class, HtmlEntity.class, SoftLineBreak.class, HardLineBreak.class, Emphasis.class,
+			StrongEmphasis.class, Code.class, Link.class, Image.class, Superscript.class);
+
+	/// The prefix for the class identifying the language of fenced code.
+	private static final String CODE_LANGUAGE_CLASS_PREFIX = "language-";
+
+	/// Determines whether a Markdown tree can be rendered directly as DOM nodes.
+	/// @param markdownNode The root of the Markdown tree.
+	/// @return `true` if the given node and all its descendants are of one of the [#RENDERABLE_NODE_TYPES].
+	public boolean isRenderable(@NonNull final com.vladsch.flexmark.util.ast.Node markdownNode) {
+		if(!RENDERABLE_NODE_TYPES.contains(markdownNode.getClass())) {
+			return false;
+		}
+		for(com.vladsch.flexmark.util.ast.Node child = markdownNode.getFirstChild(); child != null; child = child.getNext()) {
+			if(!isRenderable(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/// Renders the children of a Markdown node, appending the resulting DOM nodes to a parent DOM node.
+	/// @param markdownNode The Markdown node the children of which to render.
+	/// @param markdownDocument The Markdown document containing the node, providing the options with which it was parsed.
+	/// @param parentNode The DOM node to which the rendered nodes are to be appended.
+	/// @throws IllegalArgumentException if the Markdown tree contains a node that is not renderable.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @see #isRenderable(com.vladsch.flexmark.util.ast.Node)
+	public void renderChildren(@NonNull final com.vladsch.flexmark.util.ast.Node markdownNode,
+			@NonNull final com.vladsch.flexmark.util.ast.Document markdownDocument, @NonNull final Node parentNode) throws DOMException {
+		for(com.vladsch.flexmark.util.ast.Node child = markdownNode.getFirstChild(); child != null; child = child.getNext()) {
+			render(child, markdownDocument, parentNode);
+		}
+	}
+
+	/// Renders a Markdown node, appending the resulting DOM nodes to a parent DOM node.
+	/// @implSpec Each block element is followed by a line break, as with the Flexmark `HtmlRenderer`.
+	/// @param markdownNode The Markdown node to render.
+	/// @param markdownDocument The Markdown document containing the node, providing the options with which it was parsed.
+	/// @param parentNode The DOM node to which the rendered nodes are to be appended.
+	/// @throws IllegalArgumentException if the Markdown tree contains a node that is not renderable.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	/// @see #isRenderable(com.vladsch.flexmark.util.ast.Node)
+	protected void render(@NonNull final com.vladsch.flexmark.util.ast.Node markdownNode,
+			@NonNull final com.vladsch.flexmark.util.ast.Document markdownDocument, @NonNull final Node parentNode) throws DOMException {
+		final Document document = getDocument(parentNode);
+		switch(markdownNode) {
+			//blocks
+			case com.vladsch.flexmark.util.ast.Document _ -> renderChildren(markdownNode, markdownDocument, parentNode);
+			case Paragraph paragraph -> {
+				if(paragraph.getParent() instanceof ParagraphItemContainer container
+						&& container.isParagraphWrappingDisabled(paragraph, ListOptions.get(markdownDocument), markdownDocument)) { //tight list item
+					renderChildren(paragraph, markdownDocument, parentNode);
+				} else {
+					renderChildren(paragraph, markdownDocument, appendBlockElement(parentNode, ELEMENT_P, false));
+				}
+			}
+			case Heading heading -> renderChildren(heading, markdownDocument, appendBlockElement(parentNode, "h" + heading.getLevel(), false));
+			case BlockQuote _ -> renderChildren(markdownNode, markdownDocument, appendBlockElement(parentNode, ELEMENT_BLOCKQUOTE, true));
+			case BulletList _ -> renderChildren(markdownNode, markdownDocument, appendBlockElement(parentNode, ELEMENT_UL, true));
+			case OrderedList orderedList -> {
+				final Element olElement = appendBlockElement(parentNode, ELEMENT_OL, true);
+				if(orderedList.getStartNumber() != 1) {
+					olElement.setAttributeNS(null, "start", Integer.toString(orderedList.getStartNumber()));
+				}
+				renderChildren(orderedList, markdownDocument, olElement);
+			}
+			case ListItem listItem -> { //only loose list items contain blocks on separate lines
+				final boolean isLoose = !ListOptions.get(markdownDocument).isTightListItem(listItem);
+				renderChildren(listItem, markdownDocument, appendBlockElement(parentNode, ELEMENT_LI, isLoose));
+			}
+			case FencedCodeBlock fencedCodeBlock -> {
+				final Element codeElement = appendCodeBlock(parentNode);
+				final String info = fencedCodeBlock.getInfo().unescape().trim();
+				if(!info.isEmpty()) {
+					codeElement.setAttributeNS(null, ATTRIBUTE_CLASS, CODE_LANGUAGE_CLASS_PREFIX + info.split("\\s+", 2)[0]); //the language is the first word
+				}
+				codeElement.appendChild(document.createTextNode(fencedCodeBlock.getContentChars().normalizeEOL()));
+			}
+			case IndentedCodeBlock indentedCodeBlock -> appendCodeBlock(parentNode)
+					.appendChild(document.createTextNode(indentedCodeBlock.getContentChars().trimTailBlankLines().normalizeEndWithEOL()));
+			case ThematicBreak _ -> appendBlockElement(parentNode, ELEMENT_HR, false);
+			case Reference _ -> {} //link reference definitions produce no output
+			//inlines
+			case com.vladsch.flexmark.ast.Text text -> parentNode.appendChild(document.createTextNode(Escaping.normalizeEOL(text.getChars().unescape())));
+			case HtmlEntity htmlEntity -> parentNode.appendChild(document.createTextNode(htmlEntity.getChars().unescape()));
+			case TextBase _ -> renderChildren(markdownNode, markdownDocument, parentNode);
+			case SoftLineBreak _ -> parentNode.appendChild(document.createTextNode("\n"));
+			case HardLineBreak _ -> {
+				appendElement(parentNode, ELEMENT_BR);
+				parentNode.appendChild(document.createTextNode("\n"));
+			}
+			case Emphasis _ -> renderChildren(markdownNode, markdownDocument, appendElement(parentNode, ELEMENT_EM));
+			case StrongEmphasis _ -> renderChildren(markdownNode, markdownDocument, appendElement(parentNode, ELEMENT_STRONG));
+			case Superscript _ -> renderChildren(markdownNode, markdownDocument, appendElement(parentNode, ELEMENT_SUP));
+			case Code code -> appendElement(parentNode, ELEMENT_CODE).appendChild(document.createTextNode(Escaping.collapseWhitespace(code.getText(), true)));
+			case Link link -> {
+				final Element aElement = appendElement(parentNode, ELEMENT_A);
+				aElement.setAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF, link.getUrl().unescape());
+				if(link.getTitle().isNotNull()) {
+					aElement.setAttributeNS(null, ATTRIBUTE_TITLE, link.getTitle().unescape());
+				}
+				renderChildren(link, markdownDocument, aElement);
+			}
+			case Image image -> {
+				final Element imgElement = appendElement(parentNode, ELEMENT_IMG);
+				imgElement.setAttributeNS(null, ELEMENT_IMG_ATTRIBUTE_SRC, image.getUrl().unescape());
+				final DocumentFragment altFragment = document.createDocumentFragment(); //the alternate text is the text of the rendered image description
+				renderChildren(image, markdownDocument, altFragment);
+				imgElement.setAttributeNS(null, ELEMENT_IMG_ATTRIBUTE_ALT, altFragment.getTextContent());
+				if(image.getTitle().isNotNull()) {
+					imgElement.setAttributeNS(null, ATTRIBUTE_TITLE, image.getTitle().unescape());
+				}
+			}
+			default -> throw new IllegalArgumentException("Markdown node type `%s` cannot be rendered directly.".formatted(markdownNode.getClass().getName()));
+		}
+	}
+
+	/// Returns the document to which a DOM node belongs.
+	/// @param node The DOM node, which may itself be a document.
+	/// @return The node if it is a document, or otherwise its owner document.
+	private static Document getDocument(@NonNull final Node node) {
+		return node instanceof Document document ? document : requireNonNull(node.getOwnerDocument());
+	}
+
+	/// Appends an XHTML element to a parent node.
+	/// @param parentNode The node to which the element should be appended.
+	/// @param localName The local name of the XHTML element.
+	/// @return The appended element.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Element appendElement(@NonNull final Node parentNode, @NonNull final String localName) throws DOMException {
+		final Document document = getDocument(parentNode);
+		return (Element)parentNode.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, localName));
+	}
+
+	/// Appends an XHTML block element to a parent node, followed by a line break. If the block follows inline text not ending in a line break, such as the
+	/// content of a tight list item, a line break is first added so that the block starts on a new line.
+	/// @param parentNode The node to which the element should be appended.
+	/// @param localName The local name of the XHTML element.
+	/// @param isContainer Whether the element contains other blocks, in which case its content also starts with a line break.
+	/// @return The appended element.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Element appendBlockElement(@NonNull final Node parentNode, @NonNull final String localName, final boolean isContainer) throws DOMException {
+		final Document document = getDocument(parentNode);
+		if(parentNode.getLastChild() instanceof org.w3c.dom.Text text && !text.getData().endsWith("\n")) {
+			parentNode.appendChild(document.createTextNode("\n"));
+		}
+		final Element element = appendElement(parentNode, localName);
+		if(isContainer) {
+			element.appendChild(document.createTextNode("\n"));
+		}
+		parentNode.appendChild(document.createTextNode("\n"));
+		return element;
+	}
+
+	/// Appends the `<pre><code>` elements of a code block to a parent node.
+	/// @param parentNode The node to which the code block should be appended.
+	/// @return The appended `<code>` element, to which the code should be added.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Element appendCodeBlock(@NonNull final Node parentNode) throws DOMException {
+		return appendElement(appendBlockElement(parentNode, ELEMENT_PRE, false), ELEMENT_CODE);
+	}
+
+}
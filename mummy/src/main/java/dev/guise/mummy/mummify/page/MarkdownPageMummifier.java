@@ -16,6 +16,7 @@
 
 package dev.guise.mummy.mummify.page;
 
+import static com.globalmentor.html.def.HTML.*;
 import static com.globalmentor.io.Filenames.*;
 import static com.globalmentor.io.InputStreams.*;
 import static com.globalmentor.io.Readers.*;
@@ -68,6 +69,10 @@ public class MarkdownPageMummifier extends AbstractPageMummifier {
 	/// The matching group for Markdown content in a Markdown document with YAML. The value of the group may be the empty string but will never be
 	/// `null`.
 	static final int MARKDOWN_WITH_YAML_PATTERN_MARKDOWN_GROUP = 2;
+	/// The delimiter opening and closing YAML front matter.
+	private static final String YAML_FRONT_MATTER_DELIMITER = "---";
+	/// Pattern for the content of the line closing YAML front matter, as recognized by [#MARKDOWN_WITH_YAML_PATTERN].
+	private static final Pattern YAML_FRONT_MATTER_CLOSING_LINE_PATTERN = Pattern.compile(YAML_FRONT_MATTER_DELIMITER + "[ \\t]*");
 
 	/// The template for wrapping an XHTML document around the generated HTML. It has the following parameters:
 	/// 1. Page `<title>` content.
@@ -110,6 +115,14 @@ protected HtmlRenderer getHtmlRenderer() {
 		return htmlRenderer;
 	}
 
+	private final MarkdownDomRenderer domRenderer = new MarkdownDomRenderer();
+
+	/// Returns the renderer that renders a Markdown tree directly as XHTML DOM nodes, if the tree contains only supported constructs.
+	/// @return The renderer that renders a Markdown tree as XHTML DOM nodes.
+	protected MarkdownDomRenderer getDomRenderer() {
+		return domRenderer;
+	}
+
 	/// Constructor.
 	public MarkdownPageMummifier() {
 		final MutableDataHolder parserOptions = new MutableDataSet()
@@ -127,6 +140,8 @@ public MarkdownPageMummifier() {
 
 	/// {@inheritDoc}
 	/// @implSpec This version loads a document in Markdown format.
+	/// @implSpec If the Markdown contains only constructs supported by [#getDomRenderer()], this version renders it directly as DOM nodes; otherwise it
+	///           renders the Markdown as XHTML text and parses the result.
 	/// @implSpec This version uses the filename as a title. It will be replaced later by any title indicated in the metadata during mummification.
 	@Override
 	public Document loadSourceDocument(final MummyContext context, final InputStream inputStream, final String name) throws IOException, DOMException {
@@ -138,13 +153,21 @@ public Document loadSourceDocument(final MummyContext context, final InputStream
 
 		//parse Markdown
 		final String markdown = matcher.group(MARKDOWN_WITH_YAML_PATTERN_MARKDOWN_GROUP);
-		com.vladsch.flexmark.util.ast.Document markdownDocument = getParser().parse(markdown);
+		final com.vladsch.flexmark.util.ast.Document markdownDocument = getParser().parse(markdown);
 
 		//generate XHTML
+		final DocumentBuilder documentBuilder = context.getPageDocumentBuilder();
+		final MarkdownDomRenderer domRenderer = getDomRenderer();
+		if(domRenderer.isRenderable(markdownDocument)) { //render directly to the DOM if possible, avoiding generating and reparsing XHTML
+			final Document document = createXhtmlDocument(documentBuilder, removeExtension(name));
+			final Element bodyElement = (Element)document.getElementsByTagNameNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_BODY).item(0);
+			domRenderer.renderChildren(markdownDocument, markdownDocument, bodyElement);
+			bodyElement.normalize(); //merge adjacent text nodes, as would be produced by parsing
+			return document;
+		}
 		final Document document;
 		final String htmlBodyContent = getHtmlRenderer().render(markdownDocument);
 		final String xhtmlDocumentString = XHTML_TEMPLATE.apply(removeExtension(name), htmlBodyContent);
-		final DocumentBuilder documentBuilder = context.newPageDocumentBuilder();
 		try {
 			document = documentBuilder.parse(new ByteArrayInputStream(xhtmlDocumentString.getBytes(UTF_8)));
 		} catch(final SAXException saxException) { //we don't expect this error, so checking for the locations using SAXParseException isn't that useful
@@ -154,8 +177,83 @@ public Document loadSourceDocument(final MummyContext context, final InputStream
 		return document;
 	}
 
+	/// Creates an empty XHTML document with the same structure as [#XHTML_TEMPLATE], to which body content may be added.
+	/// @param documentBuilder The document builder for creating the document.
+	/// @param title The page `<title>` content.
+	/// @return A new XHTML document with an empty `<body>` element.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	protected Document createXhtmlDocument(final DocumentBuilder documentBuilder, final String title) throws DOMException {
+		final DOMImplementation domImplementation = documentBuilder.getDOMImplementation();
+		final Document document = domImplementation.createDocument(XHTML_NAMESPACE_URI_STRING, ELEMENT_HTML,
+				domImplementation.createDocumentType(ELEMENT_HTML, null, null));
+		final Element htmlElement = document.getDocumentElement();
+		htmlElement.appendChild(document.createTextNode("\n"));
+		final Element headElement = (Element)htmlElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_HEAD));
+		headElement.appendChild(document.createTextNode("\n"));
+		headElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_TITLE)).appendChild(document.createTextNode(title));
+		headElement.appendChild(document.createTextNode("\n"));
+		htmlElement.appendChild(document.createTextNode("\n"));
+		htmlElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_BODY)).appendChild(document.createTextNode("\n"));
+		return document;
+	}
+
+	/// Reads the YAML front matter, if any, from the beginning of a Markdown document, reading no further than the line with its closing `---` delimiter.
+	/// @implSpec The front matter is recognized exactly as by [#MARKDOWN_WITH_YAML_PATTERN], so that the result is the same as the
+	///           [#MARKDOWN_WITH_YAML_PATTERN_YAML_GROUP] of the pattern matched against the entire document. Line beginnings are determined as by the pattern in
+	///           [Pattern#MULTILINE] mode.
+	/// @param reader The reader positioned at the beginning of the document.
+	/// @return The YAML content of the front matter including its trailing newline, which will not be present if the document has no front matter.
+	/// @throws IOException if there is an error reading the document.
+	static Optional<String> readYamlFrontMatter(@NonNull final Reader reader) throws IOException {
+		final BufferedReader bufferedReader = new BufferedReader(reader);
+		final StringBuilder lineBuilder = new StringBuilder();
+		//the opening delimiter must be followed by exactly one CR, LF, or CRLF line ending
+		final String openingLineEnding = readLine(bufferedReader, lineBuilder);
+		if(!YAML_FRONT_MATTER_DELIMITER.contentEquals(lineBuilder) || !(openingLineEnding.equals("\n") || openingLineEnding.startsWith("\r"))) {
+			return Optional.empty();
+		}
+		final StringBuilder yamlBuilder = new StringBuilder();
+		while(true) {
+			lineBuilder.setLength(0);
+			final String lineEnding = readLine(bufferedReader, lineBuilder);
+			if(YAML_FRONT_MATTER_CLOSING_LINE_PATTERN.matcher(lineBuilder).matches()) {
+				return Optional.of(yamlBuilder.toString());
+			}
+			if(lineEnding.isEmpty()) { //end of document without a closing delimiter
+				return Optional.empty();
+			}
+			yamlBuilder.append(lineBuilder).append(lineEnding);
+		}
+	}
+
+	/// Reads a line of text, recognizing the same line terminators as a [Pattern] does in [Pattern#MULTILINE] mode.
+	/// @param bufferedReader The reader from which to read the line.
+	/// @param lineBuilder The string builder to which the content of the line, without its terminator, will be appended.
+	/// @return The line terminator, or the empty string if the end of the reader was reached.
+	/// @throws IOException if there is an error reading the line.
+	private static String readLine(@NonNull final BufferedReader bufferedReader, @NonNull final StringBuilder lineBuilder) throws IOException {
+		int c;
+		while((c = bufferedReader.read()) != -1) {
+			switch(c) {
+				case '\r' -> {
+					bufferedReader.mark(1);
+					if(bufferedReader.read() == '\n') {
+						return "\r\n";
+					}
+					bufferedReader.reset();
+					return "\r";
+				}
+				case '\n', '\u0085', '\u2028', '\u2029' -> {
+					return String.valueOf((char)c);
+				}
+				default -> lineBuilder.append((char)c);
+			}
+		}
+		return "";
+	}
+
 	/// {@inheritDoc}
-	/// @implSpec This implementation reads the entire document and then parses any YAML front matter using SnakeYAML Engine.
+	/// @implSpec This implementation reads only the YAML front matter, if any, using [#readYamlFrontMatter(Reader)], and then parses it using SnakeYAML Engine.
 	/// @implSpec Only YAML mappings (name-value pairs) are supported. Names should be in `camelCase`. Namespace prefixes of predefined vocabularies in
 	///           [AbstractPageMummifier#PREDEFINED_VOCABULARIES] are supported for names in the form `eg:name`.
 	/// @implSpec If the value is a string, this implementation delegates to [#parseMetadataPropertyValue(URI, CharSequence)] to determine the final value,
@@ -163,15 +261,12 @@ public Document loadSourceDocument(final MummyContext context, final InputStream
 	/// @see AbstractPageMummifier#PREDEFINED_VOCABULARIES
 	@Override
 	protected List<Map.Entry<URI, Object>> loadSourceMetadata(final MummyContext context, final InputStream inputStream, final String name) throws IOException {
-		final String content = readString(new BOMInputStreamReader(toMarkSupportedInputStream(inputStream))); //detect the BOM and to throw errors if the encoding is invalid
-		final Matcher matcher = MARKDOWN_WITH_YAML_PATTERN.matcher(content);
-		if(!matcher.matches()) {
-			throw new IOException("Invalid markdown in `%s`.".formatted(name));
-		}
-		final String yaml = matcher.group(MARKDOWN_WITH_YAML_PATTERN_YAML_GROUP);
-		if(yaml == null) { //no YAML front matter present
+		//detect the BOM and to throw errors if the encoding is invalid
+		final Optional<String> foundYaml = readYamlFrontMatter(new BOMInputStreamReader(toMarkSupportedInputStream(inputStream)));
+		if(foundYaml.isEmpty()) { //no YAML front matter present
 			return emptyList();
 		}
+		final String yaml = foundYaml.get();
 		final Object object;
 		try {
 			object = new Load(LoadSettings.builder().build()).loadFromString("\n" + yaml); // prepend `\n` so SnakeYAML line numbers match the source document (depends on opener `---` being on line 1)
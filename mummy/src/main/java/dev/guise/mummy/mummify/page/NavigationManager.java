@@ -32,9 +32,12 @@
 import java.net.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.*;
+import org.zalando.fauxpas.ThrowingSupplier;
 
 import com.globalmentor.java.Objects;
 import com.globalmentor.net.*;
@@ -64,13 +67,38 @@ public NavigationManager() {
 	/// @see GuiseMummy#CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME
 	public static final String NAVIGATION_ADD_NAME_SUFFIX = "+";
 
-	/// Loads a supported navigation by discovering and loading the appropriate navigation files `.navigation.lst`.
-	///
-	/// - This method searches up the directory hierarchy and loads the first supported navigation definition file with the configured navigation base
-	///   filename.
-	/// - Then in reverse order, starting at the directory of the navigation file and ascending back to the artifact source directory, the navigation from any
-	///   additive navigation file (following the same rules as the main navigation definition file, except that its base name ends in
-	///   [#NAVIGATION_ADD_NAME_SUFFIX]) is loaded and appended to the original defined navigation.
+	/// Index of navigation resolved during a single build, so that navigation files need only be located and parsed once for all the pages sharing them.
+	/// @param plan The plan of the build for which navigation is indexed.
+	/// @param dotfilenamesByDirectory The names of the regular dotfiles in each directory, among which are any navigation files in the directory.
+	/// @param navigationFilesByDirectory The general navigation definition file resolved for each directory, followed by any additive navigation files.
+	/// @param navigationObjectsByFile The navigation objects, such as reference strings, parsed from each navigation file.
+	private record NavigationIndex(@NonNull MummyPlan plan, @NonNull Map<Path, Set<String>> dotfilenamesByDirectory,
+			@NonNull Map<Path, Optional<List<Path>>> navigationFilesByDirectory, @NonNull Map<Path, List<?>> navigationObjectsByFile) {
+
+		/// Creates an empty index for a build.
+		/// @param plan The plan of the build for which navigation is indexed.
+		NavigationIndex(@NonNull final MummyPlan plan) {
+			this(plan, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+		}
+
+	}
+
+	private final AtomicReference<NavigationIndex> navigationIndexReference = new AtomicReference<>();
+
+	/// Returns the index of navigation for the current build, as identified by the plan of the context.
+	/// @implNote A new index is created whenever the site is planned again, such as when its source changes while being watched, so that navigation files
+	///           added, removed, or modified since the last build are taken into account.
+	/// @param context The context of static site generation.
+	/// @return The navigation index for the current build.
+	/// @throws IllegalStateException if the site has not yet been planned.
+	private NavigationIndex getNavigationIndex(@NonNull final MummyContext context) {
+		final MummyPlan plan = context.getPlan();
+		return navigationIndexReference.updateAndGet(navigationIndex -> navigationIndex != null && navigationIndex.plan() == plan ? navigationIndex
+				: new NavigationIndex(plan));
+	}
+
+	/// Loads a supported navigation by discovering and loading the appropriate navigation files `.navigation.lst`, as found by
+	/// [#findNavigationFiles(MummyContext, Artifact)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact for which navigation is being managed.
 	/// @return The navigation items loaded from the appropriate file(s). The stream will not throw an [IOException] during iteration.
@@ -78,57 +106,159 @@ public NavigationManager() {
 	/// @see GuiseMummy#CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME
 	/// @see #NAVIGATION_ADD_NAME_SUFFIX
 	public Optional<Stream<NavigationItem>> loadNavigation(@NonNull MummyContext context, @NonNull final Artifact artifact) throws IOException {
+		final Optional<List<Path>> foundNavigationFiles = findNavigationFiles(context, artifact);
+		if(foundNavigationFiles.isEmpty()) {
+			return Optional.empty();
+		}
+		final List<NavigationItem> navigation = new ArrayList<>();
+		for(final Path navigationFile : foundNavigationFiles.get()) { //tack all the added navigation items on the end of the original defined navigation
+			loadNavigationFile(context, artifact, navigationFile).forEach(navigation::add);
+		}
+		return Optional.of(navigation.stream());
+	}
+
+	/// Finds the navigation files from which the navigation of an artifact is loaded.
+	///
+	/// - This method first looks for a per-page navigation definition file in the form `.filename.ext.navigation.*`.
+	/// - Otherwise this method searches up the directory hierarchy for the first supported navigation definition file with the configured navigation base
+	///   filename. Then in reverse order, starting at the directory of the navigation file and ascending back to the artifact source directory, any additive
+	///   navigation file (following the same rules as the main navigation definition file, except that its base name ends in [#NAVIGATION_ADD_NAME_SUFFIX])
+	///   is added after the original navigation definition file.
+	/// - Finally, if a navigation definition file was found, any per-page navigation addition file in the form `.filename.ext.navigation+.*` is added.
+	///
+	/// @apiNote Because navigation files are resolved by directory, artifacts in the same directory without per-page navigation files will have the same
+	///          navigation files.
+	/// @implSpec The navigation files in each directory are discovered by listing the directory only once per build, and the general navigation files
+	///           resolved for each directory are likewise indexed, so that the pages in a directory need not search the directory hierarchy again.
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact for which navigation is being managed.
+	/// @return The navigation definition file followed by any additive navigation files, in the order in which they should be loaded, which will not be present
+	///         if there is no navigation definition file.
+	/// @throws IOException if there is an I/O error discovering the navigation files.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME
+	/// @see #NAVIGATION_ADD_NAME_SUFFIX
+	public Optional<List<Path>> findNavigationFiles(@NonNull MummyContext context, @NonNull final Artifact artifact) throws IOException {
+		final NavigationIndex navigationIndex = getNavigationIndex(context);
 		final String navigationBaseName = context.getConfiguration().getString(CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME);
 		final String navigationAddBaseName = navigationBaseName + NAVIGATION_ADD_NAME_SUFFIX;
 		final Path sourceDirectory = artifact.getSourceDirectory();
 		final Optional<String> pageFilename = artifact.isSourcePathFile() ? findFilename(artifact.getSourcePath()) : Optional.empty();
 
 		//look for a per-page navigation definition file in the form `.filename.ext.navigation.*`
-		final Optional<Stream<NavigationItem>> pageNavigationDefinition = pageFilename.flatMap(throwingFunction(filename -> {
+		final Optional<List<Path>> pageNavigationDefinitionFiles = pageFilename.flatMap(throwingFunction(filename -> {
 			final Set<String> navigationFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream()
 					.map(ext -> addExtension(DOTFILE_PREFIX + filename + navigationBaseName, ext)).collect(toCollection(LinkedHashSet::new));
-			return findAncestorFileByName(sourceDirectory, navigationFilenames, Files::isRegularFile, sourceDirectory)
-					.map(file -> loadNavigationFileUnchecked(context, artifact, file));
+			return findNavigationFile(context, navigationIndex, sourceDirectory, navigationFilenames).map(List::of);
 		}));
 
 		//if there is no per-page definition, look for a general definition `.navigation.*` up the hierarchy, with any additions `.navigation+.*`
-		final Optional<Stream<NavigationItem>> navigationDefinition = pageNavigationDefinition.or(throwingSupplier(() -> {
-			final Set<String> navigationFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream().map(ext -> addExtension(navigationBaseName, ext))
-					.collect(toCollection(LinkedHashSet::new));
-			return findAncestorFileByName(sourceDirectory, navigationFilenames, Files::isRegularFile, context.getSiteSourceDirectory()).map(navigationFile -> {
-				final Stream<NavigationItem> navigation = loadNavigationFileUnchecked(context, artifact, navigationFile);
-				final Set<String> navigationAddFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream().map(ext -> addExtension(navigationAddBaseName, ext))
-						.collect(toCollection(LinkedHashSet::new));
-				final LinkedList<Path> addNavigationFiles = new LinkedList<>();
-				for(Path directory = sourceDirectory; !directory.equals(context.getSiteSourceDirectory()); directory = directory.getParent()) {
-					assert directory != null : "Unexpectedly ran out of directories between the artifact source directory and the ancestor navigation file directory.";
-					//search for an "ancestor" additive navigation file but only at this level in the hierarchy, pushing onto the stack to produce reverse order
-					try {
-						findAncestorFileByName(directory, navigationAddFilenames, Files::isRegularFile, directory).ifPresent(addNavigationFiles::push);
-					} catch(final IOException ioException) {
-						//TODO replace with FauxPas.throwingFunction() when OpenJDK supports it; see https://github.com/zalando/faux-pas/issues/144
-						throw new UncheckedIOException(ioException);
-					}
-				}
-				final Stream<NavigationItem> addNavigation = addNavigationFiles.stream()
-						.flatMap(throwingFunction(navigationAddFile -> loadNavigationFileUnchecked(context, artifact, navigationAddFile)));
-				return Stream.concat(navigation, addNavigation); //tack all the added navigation items on the end of the original defined navigation
-			});
-		}));
+		final Optional<List<Path>> navigationDefinitionFiles = pageNavigationDefinitionFiles
+				.or(throwingSupplier(() -> resolveNavigationFiles(context, navigationIndex, sourceDirectory)));
 
 		//finally if we found a navigation definition, append any per-page navigation addition file in the form `.filename.ext.navigation+.*`
-		return navigationDefinition.flatMap(navigation -> {
+		return navigationDefinitionFiles.flatMap(navigationFiles -> {
 			return pageFilename.flatMap(throwingFunction(filename -> {
 				final Set<String> navigationAddFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream()
 						.map(ext -> addExtension(DOTFILE_PREFIX + filename + navigationAddBaseName, ext)).collect(toCollection(LinkedHashSet::new));
-				return findAncestorFileByName(sourceDirectory, navigationAddFilenames, Files::isRegularFile, sourceDirectory)
-						.map(throwingFunction(file -> loadNavigationFile(context, artifact, file))) //load the navigation addition file
-						.map(addNavigation -> Stream.concat(navigation, addNavigation)); //tack all the added navigation items on the end of the original defined navigation 
+				return findNavigationFile(context, navigationIndex, sourceDirectory, navigationAddFilenames)
+						.map(addNavigationFile -> Stream.concat(navigationFiles.stream(), Stream.of(addNavigationFile)).toList()); //tack the added navigation file on the end
 
-			})).or(() -> navigationDefinition);
+			})).or(() -> navigationDefinitionFiles);
 		});
 	}
 
+	/// Resolves the general navigation files applying to a directory: the first navigation definition file `.navigation.*` found searching up the directory
+	/// hierarchy to the site source directory, followed by any additive navigation files `.navigation+.*` in the directories from below the site source
+	/// directory down to the given directory, in that order.
+	/// @implSpec The resolved navigation files are indexed by directory for the current build.
+	/// @param context The context of static site generation.
+	/// @param navigationIndex The navigation index for the current build.
+	/// @param sourceDirectory The source directory for which navigation files should be resolved.
+	/// @return The navigation definition file followed by any additive navigation files, which will not be present if there is no navigation definition file.
+	/// @throws IOException if there is an I/O error discovering the navigation files.
+	private Optional<List<Path>> resolveNavigationFiles(@NonNull final MummyContext context, @NonNull final NavigationIndex navigationIndex,
+			@NonNull final Path sourceDirectory) throws IOException {
+		final Optional<List<Path>> indexedNavigationFiles = navigationIndex.navigationFilesByDirectory().get(sourceDirectory);
+		if(indexedNavigationFiles != null) {
+			return indexedNavigationFiles;
+		}
+		final String navigationBaseName = context.getConfiguration().getString(CONFIG_KEY_MUMMY_NAVIGATION_BASE_NAME);
+		final Set<String> navigationFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream().map(ext -> addExtension(navigationBaseName, ext))
+				.collect(toCollection(LinkedHashSet::new));
+		final Path siteSourceDirectory = context.getSiteSourceDirectory();
+		Optional<Path> foundNavigationFile = Optional.empty();
+		//search up the hierarchy, including the site source directory itself
+		for(Path directory = sourceDirectory; directory != null && foundNavigationFile.isEmpty(); directory = directory.equals(siteSourceDirectory) ? null
+				: directory.getParent()) {
+			foundNavigationFile = findNavigationFile(context, navigationIndex, directory, navigationFilenames);
+		}
+		final Optional<List<Path>> navigationFiles;
+		if(foundNavigationFile.isPresent()) {
+			final Set<String> navigationAddFilenames = SUPPORTED_NAVIGATION_FILE_EXTENSIONS.stream()
+					.map(ext -> addExtension(navigationBaseName + NAVIGATION_ADD_NAME_SUFFIX, ext)).collect(toCollection(LinkedHashSet::new));
+			final LinkedList<Path> addNavigationFiles = new LinkedList<>();
+			for(Path directory = sourceDirectory; !directory.equals(siteSourceDirectory); directory = directory.getParent()) {
+				assert directory != null : "Unexpectedly ran out of directories between the artifact source directory and the ancestor navigation file directory.";
+				//search for an "ancestor" additive navigation file but only at this level in the hierarchy, pushing onto the stack to produce reverse order
+				findNavigationFile(context, navigationIndex, directory, navigationAddFilenames).ifPresent(addNavigationFiles::push);
+			}
+			addNavigationFiles.push(foundNavigationFile.get()); //the navigation definition comes before all the additions
+			navigationFiles = Optional.of(List.copyOf(addNavigationFiles));
+		} else {
+			navigationFiles = Optional.empty();
+		}
+		navigationIndex.navigationFilesByDirectory().put(sourceDirectory, navigationFiles);
+		return navigationFiles;
+	}
+
+	/// Finds the first of the given navigation files present in a directory.
+	/// @implSpec The regular dotfiles of each directory are determined once and indexed for the current build, from the directory paths recorded during
+	///           planning if available, or otherwise by listing the directory.
+	/// @param context The context of static site generation.
+	/// @param navigationIndex The navigation index for the current build.
+	/// @param directory The directory in which to look for the navigation files.
+	/// @param navigationFilenames The filenames of the navigation files to find, all of which are dotfiles, in order of precedence.
+	/// @return The path to the first of the navigation files found in the directory, if any.
+	/// @throws IOException if there is an I/O error listing the directory.
+	private Optional<Path> findNavigationFile(@NonNull final MummyContext context, @NonNull final NavigationIndex navigationIndex,
+			@NonNull final Path directory, @NonNull final Set<String> navigationFilenames) throws IOException {
+		Set<String> dotfilenames = navigationIndex.dotfilenamesByDirectory().get(directory);
+		if(dotfilenames == null) {
+			final Optional<Collection<Path>> foundSourceDirectoryPaths = context.findSourceDirectoryPaths(directory);
+			if(foundSourceDirectoryPaths.isPresent() || Files.isDirectory(directory)) {
+				try (final Stream<Path> paths = foundSourceDirectoryPaths.isPresent() ? foundSourceDirectoryPaths.get().stream() : Files.list(directory)) {
+					dotfilenames = paths.filter(path -> path.getFileName().toString().startsWith(DOTFILE_PREFIX)).filter(Files::isRegularFile)
+							.map(path -> path.getFileName().toString()).collect(toUnmodifiableSet());
+				} catch(final UncheckedIOException uncheckedIOException) { //possibly thrown by `list()` during iteration
+					throw uncheckedIOException.getCause();
+				}
+			} else {
+				dotfilenames = emptySet();
+			}
+			navigationIndex.dotfilenamesByDirectory().put(directory, dotfilenames);
+		}
+		return navigationFilenames.stream().filter(dotfilenames::contains).findFirst().map(directory::resolve);
+	}
+
+	/// Retrieves the navigation objects parsed from a navigation file, parsing and indexing them for the current build if they have not yet been parsed.
+	/// @param <T> The type of navigation object.
+	/// @param context The context of static site generation.
+	/// @param navigationFile The navigation file.
+	/// @param parser The strategy for parsing the navigation objects from the file if needed.
+	/// @return The navigation objects parsed from the file.
+	/// @throws IOException if there is an I/O error parsing the navigation file.
+	@SuppressWarnings("unchecked")
+	private <T> List<T> getNavigationObjects(@NonNull final MummyContext context, @NonNull final Path navigationFile,
+			@NonNull final ThrowingSupplier<List<T>, IOException> parser) throws IOException {
+		final Map<Path, List<?>> navigationObjectsByFile = getNavigationIndex(context).navigationObjectsByFile();
+		List<T> navigationObjects = (List<T>)navigationObjectsByFile.get(navigationFile);
+		if(navigationObjects == null) {
+			navigationObjects = List.copyOf(parser.tryGet());
+			navigationObjectsByFile.put(navigationFile, navigationObjects);
+		}
+		return navigationObjects;
+	}
+
 	/// Loads a single navigation file such as `.navigation.lst`.
 	/// @apiNote This is a convenience method for calling [#loadNavigationFile(MummyContext, Artifact, Path)] and wraps any [IOException] in an
 	///          [UncheckedIOException]; see that method for a more complete explanation of functionality. *The caller should detect the
@@ -156,6 +286,7 @@ protected final Stream<NavigationItem> loadNavigationFileUnchecked(@NonNull Mumm
 	///
 	/// - Text list.
 	/// - TURF
+	/// @implSpec This implementation records the navigation file as a dependency of the artifact using [MummyContext#addArtifactDependency(Artifact, Path)].
 	/// @param context The context of static site generation.
 	/// @param artifact The artifact for which navigation is being managed.
 	/// @param navigationFile The file to load.
@@ -164,6 +295,7 @@ protected final Stream<NavigationItem> loadNavigationFileUnchecked(@NonNull Mumm
 	/// @throws IOException if there is an I/O error loading the navigation list file.
 	protected Stream<NavigationItem> loadNavigationFile(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Path navigationFile)
 			throws IOException {
+		context.addArtifactDependency(artifact, navigationFile);
 		return switch(findFilenameExtension(navigationFile)
 				.orElseThrow(() -> new IllegalArgumentException("Navigation file `%s` has no extension.".formatted(navigationFile)))) {
 			case Text.LST_FILENAME_EXTENSION -> loadNavigationFileList(context, artifact, navigationFile);
@@ -183,8 +315,15 @@ public Stream<NavigationItem> loadNavigationFileList(@NonNull MummyContext conte
 			throws IOException {
 		final Path navigationListFileParent = navigationFile.getParent(); //each line reference is relative to the directory of the navigation file
 		checkState(navigationListFileParent != null, "Navigation list file `%s` has no parent.", navigationFile);
-		try (final Stream<String> lines = lines(navigationFile, UTF_8)) { //trailing empty lines are ignored, as desired
-			return lines.<NavigationItem>flatMap(line -> { //map lines to Optional<NavigationItem>, warning if there is no artifact for a reference
+		final List<String> lines = getNavigationObjects(context, navigationFile, () -> {
+			try (final Stream<String> fileLines = lines(navigationFile, UTF_8)) { //trailing empty lines are ignored, as desired
+				return fileLines.toList();
+			} catch(final UncheckedIOException uncheckedIOException) { //possibly thrown by `lines()`
+				throw uncheckedIOException.getCause();
+			}
+		});
+		try {
+			return lines.stream().<NavigationItem>flatMap(line -> { //map lines to Optional<NavigationItem>, warning if there is no artifact for a reference
 				final Optional<NavigationItem> foundNavigationItem = createNavigationItemFromReference(context, artifact, navigationFile, line, null, emptyList());
 				if(!foundNavigationItem.isPresent()) {
 					getLogger().warn("No target artifact found for relative reference `{}` in navigation file `{}`.", line, navigationFile);
@@ -193,8 +332,6 @@ public Stream<NavigationItem> loadNavigationFileList(@NonNull MummyContext conte
 			}).toList().stream(); //(important) collect the artifacts to a list to prevent any exceptions upon stream iteration after method return
 		} catch(final IllegalArgumentException illegalArgumentException) {
 			throw new IOException(illegalArgumentException.getLocalizedMessage(), illegalArgumentException);
-		} catch(final UncheckedIOException uncheckedIOException) { //possibly thrown by `lines()`
-			throw uncheckedIOException.getCause();
 		}
 	}
 
@@ -304,18 +441,20 @@ protected Optional<NavigationItem> createNavigationItemFromReference(@NonNull Mu
 	/// @throws IOException if there is an I/O error loading the navigation file.
 	public Stream<NavigationItem> loadNavigationFileTurf(@NonNull MummyContext context, @NonNull final Artifact artifact, @NonNull final Path navigationFile)
 			throws IOException {
-		final List<?> navigationObjects;
-		try (final InputStream inputStream = new BufferedInputStream(newInputStream(navigationFile))) {
-			navigationObjects = new TurfParser<List<Object>>(new SimpleGraphUrfProcessor()).parseDocument(inputStream).stream()
-					//ensure there is only one root object
-					.reduce(Streams.toFindOnly(
-							() -> new UncheckedIOException(new IOException("Navigation file `%s` cannot contain more than one root object.".formatted(navigationFile)))))
-					//make sure the root object is a list
-					.flatMap(Objects.asInstance(List.class)).orElseThrow(() -> new UncheckedIOException(
-							new IOException("Navigation file `%s` must contain a single list to describe navigation.".formatted(navigationFile))));
-		} catch(final UncheckedIOException uncheckedIOException) {
-			throw uncheckedIOException.getCause();
-		}
+		final List<?> navigationObjects = getNavigationObjects(context, navigationFile, () -> {
+			try (final InputStream inputStream = new BufferedInputStream(newInputStream(navigationFile))) {
+				final List<?> rootList = new TurfParser<List<Object>>(new SimpleGraphUrfProcessor()).parseDocument(inputStream).stream()
+						//ensure there is only one root object
+						.reduce(Streams.toFindOnly(() -> new UncheckedIOException(
+								new IOException("Navigation file `%s` cannot contain more than one root object.".formatted(navigationFile)))))
+						//make sure the root object is a list
+						.flatMap(Objects.asInstance(List.class)).orElseThrow(() -> new UncheckedIOException(
+								new IOException("Navigation file `%s` must contain a single list to describe navigation.".formatted(navigationFile))));
+				return List.<Object>copyOf(rootList);
+			} catch(final UncheckedIOException uncheckedIOException) {
+				throw uncheckedIOException.getCause();
+			}
+		});
 		try {
 			return navigationItemsFromUrfList(context, artifact, navigationFile, navigationObjects);
 		} catch(final IllegalArgumentException illegalArgumentException) {
@@ -22,6 +22,7 @@
 import static java.nio.file.Files.*;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Function;
@@ -52,6 +53,14 @@ public interface PageMummifier extends Mummifier {
 	@Deprecated
 	public static final String OBSOLETE_CONFIG_KEY_MUMMY_PAGE_NAMES_BARE = "mummy.pageNamesBare";
 
+	/// The configuration indicating `true` if generated pages should be minified, omitting comments and whitespace that does not affect rendering, rather than
+	/// formatted for readability.
+	public static final String CONFIG_KEY_MUMMY_PAGE_MINIFY = "mummy.page.minify";
+
+	/// The property tag of the `mummy/minified` flag of a page, recorded as `true` if the page was generated minified.
+	/// @see #CONFIG_KEY_MUMMY_PAGE_MINIFY
+	public static final URI PROPERTY_TAG_MUMMY_MINIFIED = NAMESPACE.resolve("minified");
+
 	/// The standard Internet media types for generated pages: `text/html` in UTF-8.
 	public static final MediaType PAGE_MEDIA_TYPE = HTML_MEDIA_TYPE.withCharset(UTF_8);
 
@@ -274,6 +283,25 @@ public default Optional<DocumentFragment> loadSourceExcerpt(@NonNull MummyContex
 	public Optional<DocumentFragment> loadSourceExcerpt(@NonNull MummyContext context, @NonNull InputStream inputStream, @NonNull final String name)
 			throws IOException, DOMException;
 
+	/// Loads an excerpt of some artifact and returns it as a document fragment, using any excerpt already determined for the current source content.
+	///
+	/// The document fragment must be in XHTML using the HTML namespace.
+	/// @apiNote This method is preferred over [#loadSourceExcerpt(MummyContext, CorporealSourceArtifact)] for listing other pages, as an implementation may
+	///          avoid loading the source document of the artifact again if its excerpt was already determined, such as when the artifact was listed by
+	///          another page in this or an earlier build and its source has not changed since.
+	/// @implSpec The default implementation loads the excerpt by calling [#loadSourceExcerpt(MummyContext, CorporealSourceArtifact)].
+	/// @implNote The returned document fragment will not yet have been processed. For example, no expressions will have been evaluated and links will still
+	///           reference source paths. This will likely be changed or otherwise improved in the future.
+	/// @param context The context of static site generation.
+	/// @param artifact The artifact for which to load the excerpt.
+	/// @return A document fragment providing an excerpt, if available, of the source content of the artifact to generate.
+	/// @throws IOException if there is an error loading and/or converting the source file contents.
+	/// @throws DOMException if there is some error manipulating the XML document object model.
+	public default Optional<DocumentFragment> loadExcerpt(@NonNull MummyContext context, @NonNull CorporealSourceArtifact artifact)
+			throws IOException, DOMException {
+		return loadSourceExcerpt(context, artifact);
+	}
+
 	//# relocate
 
 	/// Relocates a document by retargeting its references relative to a new referrer path location.
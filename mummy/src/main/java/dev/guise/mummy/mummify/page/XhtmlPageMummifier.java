@@ -17,17 +17,27 @@
 package dev.guise.mummy.mummify.page;
 
 import static com.globalmentor.html.def.HTML.*;
+import static dev.guise.mummy.Artifact.*;
+import static java.nio.file.Files.*;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import java.io.*;
-import java.util.Set;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.*;
 
 import javax.xml.parsers.*;
+import javax.xml.stream.*;
 
+import org.jspecify.annotations.*;
 import org.w3c.dom.*;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
+import com.globalmentor.rdfa.def.RDFa;
+
 import dev.guise.mummy.MummyContext;
+import io.urf.URF.Handle;
 
 /// Mummifier for XHTML documents, such as HTML5 documents stored as XML.
 /// @implNote This mummifier only works with XHTML documents.
@@ -47,7 +57,7 @@ public Set<String> getSupportedFilenameExtensions() {
 	/// @implSpec This version loads a document in XHTML format.
 	@Override
 	public Document loadSourceDocument(final MummyContext context, final InputStream inputStream, final String name) throws IOException, DOMException {
-		final DocumentBuilder documentBuilder = context.newPageDocumentBuilder();
+		final DocumentBuilder documentBuilder = context.getPageDocumentBuilder();
 		try {
 			return documentBuilder.parse(inputStream);
 		} catch(final SAXException saxException) {
@@ -82,4 +92,94 @@ public Document loadSourceDocument(final MummyContext context, final InputStream
 		}
 	}
 
+	/// {@inheritDoc}
+	/// @implSpec This implementation first attempts to read the metadata from the document `<head>` alone using
+	///           [#scanSourceMetadata(MummyContext, InputStream, String)]. Only if the head cannot be scanned is the entire document loaded by the parent
+	///           implementation.
+	@Override
+	protected List<Map.Entry<URI, Object>> loadSourceMetadata(final MummyContext context, final Path sourceFile) throws IOException {
+		final Optional<List<Map.Entry<URI, Object>>> foundMetadata;
+		try (final InputStream inputStream = new BufferedInputStream(newInputStream(sourceFile))) {
+			foundMetadata = scanSourceMetadata(context, inputStream, sourceFile.toString());
+		}
+		if(foundMetadata.isPresent()) {
+			return foundMetadata.get();
+		}
+		getLogger().debug("Unable to scan the head of `{}` for metadata; loading the entire document.", sourceFile);
+		return super.loadSourceMetadata(context, sourceFile);
+	}
+
+	/// Scans the `<head>` of an XHTML document for metadata as a stream of events, without reading the remainder of the document or building a document tree.
+	/// The metadata is the same that [#extractMetadata(MummyContext, Document)] would extract from the loaded document.
+	/// @implSpec This implementation reads the document using [MummyContext#getPageXmlInputFactory()], converting `<meta>` elements using
+	///           [#htmlMetaAttributesToProperties(String, String, String, java.util.function.Function)] with the namespace prefixes in scope for each element.
+	///           Reading stops at the end of the `<head>` element, or at the start of the `<body>` element if there is no head.
+	/// @param context The context of static site generation.
+	/// @param inputStream The input stream from which to to scan the source metadata.
+	/// @param name The full identifier of the source, such as a path or URL.
+	/// @return Metadata stored in the source document, consisting of resolved URI tag names and values, which will not be present if the document could not
+	///         be scanned; for example if the document is not well-formed XML, or if its document element is not an XHTML `<html>` element.
+	/// @throws IOException if there is an I/O error reading the document, or if the metadata is not formatted correctly.
+	protected Optional<List<Map.Entry<URI, Object>>> scanSourceMetadata(@NonNull final MummyContext context, @NonNull final InputStream inputStream,
+			@NonNull final String name) throws IOException {
+		try {
+			final XMLStreamReader reader = context.getPageXmlInputFactory().createXMLStreamReader(inputStream);
+			try {
+				String title = null;
+				final List<Map.Entry<URI, Object>> metaProperties = new ArrayList<>();
+				int depth = 0;
+				boolean isHead = false; //whether we are in the `<head>` element
+				scan: while(reader.hasNext()) {
+					final int eventType = reader.next();
+					if(eventType == START_ELEMENT) {
+						depth++;
+						final boolean isXhtml = XHTML_NAMESPACE_URI_STRING.equals(reader.getNamespaceURI());
+						final String localName = reader.getLocalName();
+						if(depth == 1) {
+							if(!isXhtml || !ELEMENT_HTML.equals(localName)) { //leave anything but XHTML documents to the DOM
+								return Optional.empty();
+							}
+						} else if(depth == 2 && isXhtml) {
+							if(ELEMENT_HEAD.equals(localName)) {
+								isHead = true;
+							} else if(ELEMENT_BODY.equals(localName)) { //no `<head>` element
+								break scan;
+							}
+						} else if(depth == 3 && isHead && isXhtml) {
+							if(ELEMENT_TITLE.equals(localName)) {
+								final String titleText = reader.getElementText(); //leaves the reader at the end of the element
+								depth--;
+								if(title == null) { //only the first title is used
+									title = titleText;
+								}
+							} else if(ELEMENT_META.equals(localName)) {
+								htmlMetaAttributesToProperties(reader.getAttributeValue(null, ELEMENT_META_ATTRIBUTE_NAME),
+										reader.getAttributeValue(null, RDFa.ATTRIBUTE_PROPERTY), reader.getAttributeValue(null, ELEMENT_META_ATTRIBUTE_CONTENT),
+										prefix -> Optional.ofNullable(reader.getNamespaceURI(prefix))).forEach(metaProperties::add); //resolve prefixes while at the element
+							}
+						}
+					} else if(eventType == END_ELEMENT) {
+						if(depth == 2 && isHead) { //`</head>`
+							break scan;
+						}
+						depth--;
+					}
+				}
+				final List<Map.Entry<URI, Object>> metadata = new ArrayList<>(metaProperties.size() + 1);
+				if(title != null) { //the title is listed first, as when extracted from the document
+					metadata.add(Map.entry(Handle.toTag(PROPERTY_HANDLE_TITLE), title));
+				}
+				metadata.addAll(metaProperties);
+				return Optional.of(metadata);
+			} finally {
+				reader.close();
+			}
+		} catch(final XMLStreamException xmlStreamException) {
+			getLogger().debug("Error scanning the head of `{}`: {}", name, xmlStreamException.getLocalizedMessage());
+			return Optional.empty();
+		} catch(final IllegalArgumentException illegalArgumentException) {
+			throw new IOException("Error processing metadata in `%s`: %s".formatted(name, illegalArgumentException.getLocalizedMessage()), illegalArgumentException); //TODO i18n
+		}
+	}
+
 }
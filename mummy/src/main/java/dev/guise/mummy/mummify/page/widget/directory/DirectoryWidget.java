@@ -26,7 +26,6 @@
 import static org.zalando.fauxpas.FauxPas.*;
 
 import java.io.IOException;
-import java.text.Collator;
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
@@ -39,8 +38,10 @@
 import com.globalmentor.xml.def.NsName;
 
 import dev.guise.mummy.Artifact;
+import dev.guise.mummy.ArtifactView;
 import dev.guise.mummy.GuiseMummy;
 import dev.guise.mummy.MummyContext;
+import dev.guise.mummy.MummyPlan;
 import dev.guise.mummy.CorporealSourceArtifact;
 import dev.guise.mummy.mummify.page.PageMummifier;
 import dev.guise.mummy.mummify.page.widget.*;
@@ -63,6 +64,8 @@
 /// @implSpec If no archetype is specified, the items are presented in a simple list, ordered by publication and then by title, both in ascending order. A
 ///           `group-by` attribute may be specified with either of the values `publication-date` or `publication-year`,
 ///           optionally prepended with `+` or `-` to indicate if the groupings should be sorted in ascending or descending order.
+/// @implSpec This implementation records the directory and each listed item as dependencies of the artifact using
+///           [MummyContext#addArtifactDependency(Artifact, java.nio.file.Path)], so that incremental mummification regenerates the listing when items change.
 /// @author Garret Wilson
 public class DirectoryWidget implements Widget {
 
@@ -100,7 +103,11 @@ public NsName getWidgetElementName() {
 	public List<Element> processElement(final PageMummifier mummifier, final MummyContext context, final Artifact artifact, final Element widgetElement)
 			throws IOException, DOMException {
 		final Document document = widgetElement.getOwnerDocument();
-		final Stream<Artifact> items = mummifier.childNavigationArtifacts(context, artifact);
+		final List<Artifact> itemArtifacts = mummifier.childNavigationArtifacts(context, artifact).toList();
+		//the listing changes if items are added to or removed from the directory, or if any item is modified
+		context.addArtifactDependency(artifact, artifact.getSourceDirectory());
+		itemArtifacts.forEach(item -> context.addArtifactDependency(artifact, item.getSourcePath()));
+		final Stream<Artifact> items = itemArtifacts.stream();
 		return findAttribute(widgetElement, ATTRIBUTE_GROUP_BY) //group-by
 				.map(groupBy -> {
 					final List<Element> groupedItemElements = new ArrayList<>();
@@ -168,9 +175,7 @@ public List<Element> processElement(final PageMummifier mummifier, final MummyCo
 	public List<Element> generateItemElements(@NonNull final PageMummifier mummifier, @NonNull final MummyContext context, @NonNull final Artifact artifact,
 			@NonNull final Element widgetElement, final int headingLevel, Stream<Artifact> items) throws IOException, MummifyWidgetException, DOMException {
 		final Document document = widgetElement.getOwnerDocument();
-		final Collator titleCollator = Collator.getInstance(); //TODO i18n: get locale for page, defaulting to site locale
-		titleCollator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
-		titleCollator.setStrength(Collator.PRIMARY); //ignore accents and case
+		final MummyPlan plan = context.getPlan();
 		return findAttribute(widgetElement, ATTRIBUTE_ARCHETYPE) //archetype
 				.map(archetype -> {
 					switch(archetype) {
@@ -179,32 +184,30 @@ public List<Element> generateItemElements(@NonNull final PageMummifier mummifier
 								throw new MummifyWidgetException(
 										"Attribute `%s` not allowed with attribute `%s` value `%s`.".formatted(ATTRIBUTE_GROUP_BY, ATTRIBUTE_ARCHETYPE, archetype));
 							}
-							return items.sorted( //sort the items in reverse order of (published-on date followed by undated artifacts), secondarily by determined title
-									Comparator
-											.<Artifact, LocalDate>comparing(item -> item.getResourceDescription().findPropertyValueByHandle(PROPERTY_HANDLE_PUBLISHED_ON)
-													.flatMap(asInstance(LocalDate.class)).orElse(null), nullsFirst(naturalOrder()))
-											.reversed().thenComparing(Artifact::determineTitle, titleCollator))
-									.flatMap(item -> {
+							return items.map(plan::getArtifactView).sorted( //sort the items in reverse order of (published-on date followed by undated artifacts), secondarily by determined title
+									Comparator.comparing(ArtifactView::publishedOn, nullsFirst(Comparator.<LocalDate>naturalOrder())).reversed()
+											.thenComparing(ArtifactView::titleCollationKey))
+									.flatMap(itemView -> {
+										final Artifact item = itemView.artifact();
 										//separator (will be ignored for the first item)
 										final Element separatorElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_HR); //<hr/>
 										//title
-										final String postHref = context.getPlan().referenceInSource(artifact, item).toString();
+										final String postHref = plan.referenceInSource(artifact, item).toString();
 										final Element titleElement = createElement(document, ELEMENT_H(headingLevel)); //<h1>
 										final Element titleElementLink = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_A); //<h1><a>
 										titleElementLink.setAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF, postHref);
-										appendText(titleElementLink, item.determineTitle()); //<h1><a>title</a></h1>
+										appendText(titleElementLink, itemView.title()); //<h1><a>title</a></h1>
 										titleElement.appendChild(titleElementLink);
 										//publication date
-										final Optional<Element> publishedOnElement = item.getResourceDescription().findPropertyValueByHandle(PROPERTY_HANDLE_PUBLISHED_ON)
-												.flatMap(asInstance(LocalDate.class)).map(publishedOn -> {
-													final Element element = createElement(document, ELEMENT_H(headingLevel + 1)); //<h2>
-													appendText(element, PUBLISHED_ON_FORMATTER.format(publishedOn));
-													return element;
-												});
+										final Optional<Element> publishedOnElement = itemView.findPublishedOn().map(publishedOn -> {
+											final Element element = createElement(document, ELEMENT_H(headingLevel + 1)); //<h2>
+											appendText(element, PUBLISHED_ON_FORMATTER.format(publishedOn));
+											return element;
+										});
 										//excerpt; only included if the item is a corporeal source artifact with a page mummifier
 										final Optional<Element> excerptElement = asInstance(item, CorporealSourceArtifact.class)
 												.flatMap(sourceFileItem -> asInstance(sourceFileItem.getMummifier(), PageMummifier.class)
-														.<DocumentFragment>flatMap(throwingFunction(pageMummifier -> pageMummifier.loadSourceExcerpt(context, sourceFileItem))))
+														.<DocumentFragment>flatMap(throwingFunction(pageMummifier -> pageMummifier.loadExcerpt(context, sourceFileItem))))
 												.map(excerpt -> {
 													//Wrap the excerpt in a <div>. The other option would be to import the document fragment children directly into the document,
 													//but wrapping the excerpt may be more semantically correct and more useful for styling in the future.
@@ -226,16 +229,15 @@ public List<Element> generateItemElements(@NonNull final PageMummifier mummifier
 					}
 				}).orElseGet(() -> { //no archetype
 					final Element ulElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_UL); //<ul>
-					items.sorted(Comparator //sort the items in order of published-on date followed by undated artifacts;, secondarily by determined title
-							.<Artifact, LocalDate>comparing(item -> item.getResourceDescription().findPropertyValueByHandle(PROPERTY_HANDLE_PUBLISHED_ON)
-									.flatMap(asInstance(LocalDate.class)).orElse(null), nullsLast(naturalOrder()))
-							.thenComparing(Artifact::determineTitle, titleCollator)).map(item -> { //map each item to `<li><a>title</a></li>`
+					items.map(plan::getArtifactView).sorted(Comparator //sort the items in order of published-on date followed by undated artifacts;, secondarily by determined title
+							.comparing(ArtifactView::publishedOn, nullsLast(Comparator.<LocalDate>naturalOrder())).thenComparing(ArtifactView::titleCollationKey))
+							.map(itemView -> { //map each item to `<li><a>title</a></li>`
 								final Element liElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_LI); //<li>
 
-								final String postHref = context.getPlan().referenceInSource(artifact, item).toString();
+								final String postHref = plan.referenceInSource(artifact, itemView.artifact()).toString();
 								final Element liElementLink = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_A); //<li><a>
 								liElementLink.setAttributeNS(null, ELEMENT_A_ATTRIBUTE_HREF, postHref);
-								appendText(liElementLink, item.determineTitle()); //<li><a>title</a></li>
+								appendText(liElementLink, itemView.title()); //<li><a>title</a></li>
 								liElement.appendChild(liElementLink);
 								return liElement;
 							}).forEach(ulElement::appendChild);
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.urf.model.*;
+
+/// Tests of [BuildIndex].
+/// @author Garret Wilson
+public class BuildIndexTest {
+
+	private static final URI PROPERTY_TAG_TITLE = URI.create("https://urf.name/title");
+
+	private static UrfResourceDescription createDescription(final String title, final Instant modifiedAt) {
+		final UrfObject description = new UrfObject();
+		description.setPropertyValue(PROPERTY_TAG_TITLE, title);
+		description.setPropertyValue(Artifact.PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT, modifiedAt);
+		return description;
+	}
+
+	/// Verifies that descriptions survive saving and reloading the index.
+	@Test
+	void verifySaveLoadRoundTrip(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = tempDir.resolve("site-description").resolve(BuildIndex.FILENAME);
+		final Instant modifiedAt = Instant.parse("2026-01-02T03:04:05Z");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, indexFile);
+		buildIndex.putDescription(siteTargetDirectory.resolve("index.html"), createDescription("Home", modifiedAt));
+		buildIndex.putDescription(siteTargetDirectory.resolve("foo").resolve("bar.html"), createDescription("Bar", modifiedAt));
+		buildIndex.save();
+		assertThat(isRegularFile(indexFile), is(true));
+
+		final BuildIndex loadedBuildIndex = BuildIndex.load(siteTargetDirectory, indexFile);
+		final Optional<UrfResourceDescription> foundBarDescription = loadedBuildIndex.findDescription(siteTargetDirectory.resolve("foo").resolve("bar.html"));
+		assertThat(foundBarDescription.flatMap(description -> description.findPropertyValue(PROPERTY_TAG_TITLE)), is(Optional.of("Bar")));
+		assertThat(foundBarDescription.flatMap(description -> description.findPropertyValue(Artifact.PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT)),
+				is(Optional.of(modifiedAt)));
+		assertThat(loadedBuildIndex.findDescription(siteTargetDirectory.resolve("missing.html")), is(Optional.empty()));
+	}
+
+	/// Verifies that entries neither looked up nor updated are discarded when the index is saved.
+	@Test
+	void verifySaveDiscardsUnusedEntries(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = tempDir.resolve(BuildIndex.FILENAME);
+		final Instant modifiedAt = Instant.parse("2026-01-02T03:04:05Z");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, indexFile);
+		buildIndex.putDescription(siteTargetDirectory.resolve("kept.html"), createDescription("Kept", modifiedAt));
+		buildIndex.putDescription(siteTargetDirectory.resolve("removed.html"), createDescription("Removed", modifiedAt));
+		buildIndex.save();
+
+		final BuildIndex nextBuildIndex = BuildIndex.load(siteTargetDirectory, indexFile);
+		assertThat(nextBuildIndex.findDescription(siteTargetDirectory.resolve("kept.html")).isPresent(), is(true));
+		nextBuildIndex.save();
+
+		final BuildIndex lastBuildIndex = BuildIndex.load(siteTargetDirectory, indexFile);
+		assertThat(lastBuildIndex.findDescription(siteTargetDirectory.resolve("kept.html")).isPresent(), is(true));
+		assertThat(lastBuildIndex.findDescription(siteTargetDirectory.resolve("removed.html")).isPresent(), is(false));
+	}
+
+	/// Verifies that an index kept across builds is not written again when unchanged since it was last saved.
+	@Test
+	void verifySaveSkippedWhenUnchangedSinceLastSave(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = tempDir.resolve(BuildIndex.FILENAME);
+		final Instant modifiedAt = Instant.parse("2026-01-02T03:04:05Z");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, indexFile);
+		buildIndex.putDescription(siteTargetDirectory.resolve("index.html"), createDescription("Home", modifiedAt));
+		buildIndex.save();
+		final FileTime savedAt = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+		setLastModifiedTime(indexFile, savedAt);
+		buildIndex.save();
+		assertThat(getLastModifiedTime(indexFile), is(savedAt));
+	}
+
+	/// Verifies that retaining the descriptions of a later plan discards entries of target paths no longer present in an index kept across builds, while
+	/// keeping entries of other target paths without their being looked up again.
+	@Test
+	void verifyRetainDescriptionsDiscardsStaleEntries(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = tempDir.resolve(BuildIndex.FILENAME);
+		final Instant modifiedAt = Instant.parse("2026-01-02T03:04:05Z");
+		final Path keptTargetPath = siteTargetDirectory.resolve("kept.html");
+		final Path removedTargetPath = siteTargetDirectory.resolve("removed.html");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, indexFile);
+		buildIndex.putDescription(keptTargetPath, createDescription("Kept", modifiedAt));
+		buildIndex.putDescription(removedTargetPath, createDescription("Removed", modifiedAt));
+		buildIndex.save();
+
+		buildIndex.retainDescriptions(Set.of(keptTargetPath));
+		buildIndex.save();
+
+		final BuildIndex loadedBuildIndex = BuildIndex.load(siteTargetDirectory, indexFile);
+		assertThat(loadedBuildIndex.findDescription(keptTargetPath).isPresent(), is(true));
+		assertThat(loadedBuildIndex.findDescription(removedTargetPath).isPresent(), is(false));
+	}
+
+	/// Verifies that the index is only considered modified when a description is updated or discarded since it was last saved.
+	@Test
+	void verifyIsModified(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path targetPath = siteTargetDirectory.resolve("index.html");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, tempDir.resolve(BuildIndex.FILENAME));
+		assertThat(buildIndex.isModified(), is(false));
+		buildIndex.putDescription(targetPath, createDescription("Home", Instant.parse("2026-01-02T03:04:05Z")));
+		assertThat(buildIndex.isModified(), is(true));
+		buildIndex.save();
+		assertThat(buildIndex.isModified(), is(false));
+		buildIndex.findDescription(targetPath);
+		buildIndex.retainDescriptions(Set.of(targetPath));
+		assertThat(buildIndex.isModified(), is(false));
+		buildIndex.retainDescriptions(Set.of());
+		assertThat(buildIndex.isModified(), is(true));
+	}
+
+	/// Verifies that the index keeps its own copy of each description, so that changes to a description put in the index or found in the index do not affect
+	/// the indexed description.
+	@Test
+	void verifyDescriptionsCopied(@TempDir final Path tempDir) {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path targetPath = siteTargetDirectory.resolve("index.html");
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, tempDir.resolve(BuildIndex.FILENAME));
+		final UrfResourceDescription description = createDescription("Home", Instant.parse("2026-01-02T03:04:05Z"));
+		buildIndex.putDescription(targetPath, description);
+		description.setPropertyValue(PROPERTY_TAG_TITLE, "Changed After Put");
+		final UrfResourceDescription foundDescription = buildIndex.findDescription(targetPath).orElseThrow();
+		assertThat(foundDescription.findPropertyValue(PROPERTY_TAG_TITLE), is(Optional.of("Home")));
+		foundDescription.setPropertyValue(PROPERTY_TAG_TITLE, "Changed After Find");
+		assertThat(buildIndex.findDescription(targetPath).flatMap(indexed -> indexed.findPropertyValue(PROPERTY_TAG_TITLE)), is(Optional.of("Home")));
+	}
+
+	/// Verifies that excerpts survive saving and reloading the index, are only found for the source modification time from which they were determined, and are
+	/// kept when the description of the same target is updated.
+	@Test
+	void verifyExcerptSaveLoadRoundTrip(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = tempDir.resolve(BuildIndex.FILENAME);
+		final Instant sourceModifiedAt = Instant.parse("2026-01-02T03:04:05Z");
+		final Path postTargetPath = siteTargetDirectory.resolve("post.html");
+		final Path pageTargetPath = siteTargetDirectory.resolve("page.html");
+		final String excerpt = "<p xmlns=\"http://www.w3.org/1999/xhtml\">Caf\u00E9 &amp; more.</p>";
+		final BuildIndex buildIndex = new BuildIndex(siteTargetDirectory, indexFile);
+		buildIndex.putExcerpt(postTargetPath, sourceModifiedAt, excerpt);
+		buildIndex.putExcerpt(pageTargetPath, sourceModifiedAt, "");
+		assertThat(buildIndex.isModified(), is(true));
+		assertThat(buildIndex.findDescription(postTargetPath), is(Optional.empty()));
+		buildIndex.putDescription(postTargetPath, createDescription("Post", sourceModifiedAt));
+		buildIndex.save();
+
+		final BuildIndex loadedBuildIndex = BuildIndex.load(siteTargetDirectory, indexFile);
+		assertThat(loadedBuildIndex.findExcerpt(postTargetPath, sourceModifiedAt), is(Optional.of(excerpt)));
+		assertThat(loadedBuildIndex.findExcerpt(postTargetPath, Instant.parse("2026-01-02T03:04:06Z")), is(Optional.empty()));
+		assertThat(loadedBuildIndex.findExcerpt(pageTargetPath, sourceModifiedAt), is(Optional.of("")));
+		assertThat(loadedBuildIndex.findDescription(pageTargetPath), is(Optional.empty()));
+		assertThat(loadedBuildIndex.findDescription(postTargetPath).flatMap(description -> description.findPropertyValue(PROPERTY_TAG_TITLE)),
+				is(Optional.of("Post")));
+	}
+
+	/// Verifies that an unreadable index is ignored.
+	@Test
+	void verifyLoadIgnoresInvalidIndex(@TempDir final Path tempDir) throws IOException {
+		final Path siteTargetDirectory = tempDir.resolve("site");
+		final Path indexFile = writeString(tempDir.resolve(BuildIndex.FILENAME), "not valid TURF {{{", UTF_8);
+		assertThat(BuildIndex.load(siteTargetDirectory, indexFile).findDescription(siteTargetDirectory.resolve("index.html")), is(Optional.empty()));
+	}
+
+}
@@ -23,12 +23,15 @@
 import static org.mockito.Mockito.*;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Set;
 
 import org.junit.jupiter.api.*;
 
 import dev.guise.mummy.mummify.*;
 import dev.guise.mummy.mummify.collection.DirectoryArtifact;
+import io.urf.URF.Handle;
+import io.urf.model.UrfObject;
 
 /// Tests of [DefaultMummyPlan].
 /// @author Garret Wilson
@@ -98,4 +101,40 @@ void testFindParentArtifact() {
 				isPresentAndIs(fooDirectoryArtifact));
 	}
 
+	/// Verifies that an artifact view provides the title, label, publication date, and order of the artifact, and that it is determined only once per plan.
+	/// @see MummyPlan#getArtifactView(Artifact)
+	@Test
+	void testGetArtifactView() {
+		final Path sourceDirectory = getTempDirectory().resolve("source"); //used only for identification; no I/O
+		final Path targetDirectory = getTempDirectory().resolve("target");
+		final Mummifier mummifier = mock(Mummifier.class);
+		final UrfObject appleDescription = new UrfObject();
+		appleDescription.setPropertyValue(Handle.toTag(Artifact.PROPERTY_HANDLE_TITLE), "apple");
+		appleDescription.setPropertyValue(Handle.toTag(Artifact.PROPERTY_HANDLE_PUBLISHED_ON), LocalDate.of(2020, 1, 2));
+		appleDescription.setPropertyValue(Artifact.PROPERTY_TAG_MUMMY_ORDER, Integer.valueOf(3)); //e.g. as parsed from YAML
+		final Artifact appleArtifact = new DummyArtifact(mummifier, sourceDirectory.resolve("apple.html"), targetDirectory.resolve("apple.html"),
+				appleDescription);
+		final UrfObject bananaDescription = new UrfObject();
+		bananaDescription.setPropertyValue(Handle.toTag(Artifact.PROPERTY_HANDLE_LABEL), "Banana");
+		final Artifact bananaArtifact = new DummyArtifact(mummifier, sourceDirectory.resolve("banana.html"), targetDirectory.resolve("banana.html"),
+				bananaDescription);
+		final DirectoryArtifact directoryArtifact = new DirectoryArtifact(mummifier, sourceDirectory, targetDirectory, null,
+				Set.of(appleArtifact, bananaArtifact));
+		final MummyPlan plan = new DefaultMummyPlan(directoryArtifact);
+		final ArtifactView appleView = plan.getArtifactView(appleArtifact);
+		assertThat(appleView.artifact(), is(appleArtifact));
+		assertThat(appleView.title(), is("apple"));
+		assertThat(appleView.label(), is("apple"));
+		assertThat(appleView.findPublishedOn(), isPresentAndIs(LocalDate.of(2020, 1, 2)));
+		assertThat(appleView.order(), is(3L));
+		assertThat("View is determined only once.", plan.getArtifactView(appleArtifact), is(sameInstance(appleView)));
+		final ArtifactView bananaView = plan.getArtifactView(bananaArtifact);
+		assertThat(bananaView.title(), is("banana"));
+		assertThat(bananaView.label(), is("Banana"));
+		assertThat(bananaView.findPublishedOn(), isEmpty());
+		assertThat(bananaView.order(), is(Artifact.MUMMY_ORDER_DEFAULT));
+		assertThat("Labels are collated ignoring case.", appleView.labelCollationKey().compareTo(bananaView.labelCollationKey()), is(lessThan(0)));
+		assertThat(appleView.titleCollationKey().compareTo(bananaView.titleCollationKey()), is(lessThan(0)));
+	}
+
 }
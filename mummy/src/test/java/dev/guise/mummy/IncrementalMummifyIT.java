@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static com.globalmentor.io.Filenames.*;
+import static dev.guise.mummy.GuiseMummy.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.*;
+
+import dev.guise.mummy.mummify.Mummifier;
+
+/// Integration test of incremental mummification.
+/// @author Garret Wilson
+/// @see Artifact#PROPERTY_TAG_MUMMY_DEPENDENCIES
+public class IncrementalMummifyIT extends BaseEndToEndIT {
+
+	private static final String TEMPLATE_FORMAT = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<!DOCTYPE html>
+			<html xmlns="http://www.w3.org/1999/xhtml">
+			<head><title>Template</title></head>
+			<body><header>%s</header><main></main></body>
+			</html>
+			""";
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve(".template.xhtml"), TEMPLATE_FORMAT.formatted("Root Header"), UTF_8);
+		writeString(siteSourceDirectory.resolve("page.md"), "# Root Page", UTF_8);
+		writeString(siteSourceDirectory.resolve("sibling.md"), "# Sibling Page", UTF_8);
+		final Path otherDirectory = createDirectory(siteSourceDirectory.resolve("other"));
+		writeString(otherDirectory.resolve(".template.xhtml"), TEMPLATE_FORMAT.formatted("Other Header"), UTF_8);
+		writeString(otherDirectory.resolve("page.md"), "# Other Page", UTF_8);
+	}
+
+	/// Verifies that modifying a template regenerates only the pages that were generated using that template.
+	@Test
+	public void testModifiedTemplateRegeneratesDependentPages() throws IOException {
+		mummify(LifeCyclePhase.MUMMIFY);
+		final Path rootPage = getSiteTargetDirectory().resolve("page.html");
+		final Path otherPage = getSiteTargetDirectory().resolve("other").resolve("page.html");
+		assertThat(readString(rootPage, UTF_8), containsString("Root Header"));
+		assertThat(readString(otherPage, UTF_8), containsString("Other Header"));
+		final FileTime otherPageModifiedAt = getLastModifiedTime(otherPage);
+
+		final Path rootTemplate = getSiteSourceDirectory().resolve(".template.xhtml");
+		writeString(rootTemplate, TEMPLATE_FORMAT.formatted("Updated Header"), UTF_8);
+		//make sure the template is considered newer regardless of file system timestamp granularity
+		setLastModifiedTime(rootTemplate, FileTime.from(getLastModifiedTime(rootPage).toInstant().plus(Duration.ofMinutes(1))));
+		mummify(LifeCyclePhase.MUMMIFY);
+
+		assertThat(readString(rootPage, UTF_8), containsString("Updated Header"));
+		assertThat(readString(otherPage, UTF_8), containsString("Other Header"));
+		assertThat("Page with unrelated template was not regenerated.", getLastModifiedTime(otherPage), is(otherPageModifiedAt));
+	}
+
+	/// Verifies that pages sharing a template each receive their own content, even though the parsed template is reused.
+	@Test
+	public void testPagesSharingTemplateReceiveOwnContent() throws IOException {
+		mummify(LifeCyclePhase.MUMMIFY);
+		final String rootPageContent = readString(getSiteTargetDirectory().resolve("page.html"), UTF_8);
+		final String siblingPageContent = readString(getSiteTargetDirectory().resolve("sibling.html"), UTF_8);
+		assertThat(rootPageContent, allOf(containsString("Root Header"), containsString("Root Page"), not(containsString("Sibling Page"))));
+		assertThat(siblingPageContent, allOf(containsString("Root Header"), containsString("Sibling Page"), not(containsString("Root Page"))));
+	}
+
+	/// Verifies that with description sidecars disabled, no sidecars are generated, and the build index alone allows unchanged pages to be skipped.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS
+	@Test
+	public void testDescriptionSidecarsDisabledUsesBuildIndex() throws IOException {
+		getFixtureProjectSettings().put(CONFIG_KEY_MUMMY_DESCRIPTION_SIDECARS, false);
+		mummify(LifeCyclePhase.MUMMIFY);
+		final Path siteDescriptionTargetDirectory = getFixtureProject().getConfiguration().getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
+		assertThat(isRegularFile(siteDescriptionTargetDirectory.resolve(BuildIndex.FILENAME)), is(true));
+		assertThat(isRegularFile(siteDescriptionTargetDirectory.resolve(addExtension("page.html", Mummifier.DESCRIPTION_FILE_SIDECAR_EXTENSION))), is(false));
+		final Path rootPage = getSiteTargetDirectory().resolve("page.html");
+		final FileTime rootPageModifiedAt = getLastModifiedTime(rootPage);
+
+		mummify(LifeCyclePhase.MUMMIFY);
+		assertThat("Unchanged page was not regenerated.", getLastModifiedTime(rootPage), is(rootPageModifiedAt));
+	}
+
+	/// Verifies that with hash change detection, sources and dependencies with new timestamps but unchanged content do not cause pages to be regenerated.
+	/// @see GuiseMummy#CONFIG_KEY_MUMMY_CHANGE_DETECTION
+	@Test
+	public void testHashChangeDetectionIgnoresTimestampOnlyChanges() throws IOException {
+		getFixtureProjectSettings().put(CONFIG_KEY_MUMMY_CHANGE_DETECTION, "hash");
+		mummify(LifeCyclePhase.MUMMIFY);
+		final Path rootPage = getSiteTargetDirectory().resolve("page.html");
+		final FileTime rootPageModifiedAt = getLastModifiedTime(rootPage);
+
+		//simulate a fresh checkout, which updates timestamps without changing content
+		final FileTime touchedAt = FileTime.from(rootPageModifiedAt.toInstant().plus(Duration.ofMinutes(1)));
+		setLastModifiedTime(getSiteSourceDirectory().resolve("page.md"), touchedAt);
+		setLastModifiedTime(getSiteSourceDirectory().resolve(".template.xhtml"), touchedAt);
+		mummify(LifeCyclePhase.MUMMIFY);
+		assertThat("Page with unchanged content was not regenerated.", getLastModifiedTime(rootPage), is(rootPageModifiedAt));
+
+		//an actual content change must still be detected
+		final Path rootTemplate = getSiteSourceDirectory().resolve(".template.xhtml");
+		writeString(rootTemplate, TEMPLATE_FORMAT.formatted("Updated Header"), UTF_8);
+		setLastModifiedTime(rootTemplate, FileTime.from(touchedAt.toInstant().plus(Duration.ofMinutes(1))));
+		mummify(LifeCyclePhase.MUMMIFY);
+		assertThat(readString(rootPage, UTF_8), containsString("Updated Header"));
+	}
+
+}
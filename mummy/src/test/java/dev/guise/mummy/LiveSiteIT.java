@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.*;
+import java.util.Optional;
+
+import org.junit.jupiter.api.*;
+
+/// Integration test of mummifying a live site on demand.
+/// @author Garret Wilson
+/// @see GuiseMummy#openLiveSite(GuiseProject)
+public class LiveSiteIT extends BaseEndToEndIT {
+
+	/// The maximum time to wait for a change to be detected; generous, because some platforms poll for file system changes.
+	private static final Duration CHANGE_TIMEOUT = Duration.ofSeconds(30);
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve("requested.md"), "# Original Page", UTF_8);
+		writeString(siteSourceDirectory.resolve("unrequested.md"), "# Unrequested Page", UTF_8);
+	}
+
+	/// Verifies that only requested pages are mummified, and that a requested page reflects later source changes.
+	@Test
+	public void testMummifyTargetOnDemand() throws Exception {
+		try (final LiveSite liveSite = new GuiseMummy().openLiveSite(getFixtureProject())) {
+			final Path requestedPage = liveSite.getSiteTargetDirectory().resolve("requested.html");
+			final Path unrequestedPage = liveSite.getSiteTargetDirectory().resolve("unrequested.html");
+			assertThat("Nothing is mummified before being requested.", isRegularFile(requestedPage), is(false));
+
+			assertThat(liveSite.mummifyTarget(requestedPage), is(not(Optional.empty())));
+			assertThat("Requested page was mummified.", readString(requestedPage, UTF_8), containsString("Original Page"));
+			assertThat("Unrequested page was not mummified.", isRegularFile(unrequestedPage), is(false));
+			assertThat("Unknown target is not found.", liveSite.mummifyTarget(liveSite.getSiteTargetDirectory().resolve("missing.html")), is(Optional.empty()));
+
+			final Path buildIndexFile = getFixtureProject().getConfiguration().getPath(GuiseMummy.PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY)
+					.resolve(BuildIndex.FILENAME);
+			final FileTime buildIndexSavedAt = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+			setLastModifiedTime(buildIndexFile, buildIndexSavedAt);
+			liveSite.mummifyTarget(requestedPage);
+			assertThat("Build index is not saved when nothing was mummified.", getLastModifiedTime(buildIndexFile), is(buildIndexSavedAt));
+
+			final Path requestedSourceFile = getSiteSourceDirectory().resolve("requested.md");
+			writeString(requestedSourceFile, "# Updated Page", UTF_8);
+			//make sure the source is considered newer regardless of file system timestamp granularity
+			setLastModifiedTime(requestedSourceFile, FileTime.from(getLastModifiedTime(requestedPage).toInstant().plus(Duration.ofMinutes(1))));
+			final Instant timeoutAt = Instant.now().plus(CHANGE_TIMEOUT);
+			do { //the change may not yet have been reported by the watcher
+				liveSite.mummifyTarget(requestedPage);
+				if(readString(requestedPage, UTF_8).contains("Updated Page")) {
+					break;
+				}
+				Thread.sleep(50);
+			} while(Instant.now().isBefore(timeoutAt));
+			assertThat("Requested page reflects source change.", readString(requestedPage, UTF_8), containsString("Updated Page"));
+			assertThat("Unrequested page was still not mummified.", isRegularFile(unrequestedPage), is(false));
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static dev.guise.mummy.GuiseMummy.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.*;
+
+import dev.guise.mummy.mummify.page.PageMummifier;
+
+/// Integration test of minified page output, comparing the size of a small corpus of pages with and without minification.
+/// @author Garret Wilson
+/// @see PageMummifier#CONFIG_KEY_MUMMY_PAGE_MINIFY
+public class MinifyMummifyIT extends BaseEndToEndIT {
+
+	private static final String TEMPLATE = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<!DOCTYPE html>
+			<html xmlns="http://www.w3.org/1999/xhtml" xmlns:mummy="https://guise.dev/name/mummy/">
+			  <head>
+			    <title>Template</title>
+			    <!-- shared site styles -->
+			    <style>
+			      body {  margin: 0; }
+			    </style>
+			  </head>
+			  <body>
+			    <header>
+			      <!-- site navigation -->
+			      <nav>
+			        <ul mummy:regenerate="regenerate">
+			          <li class="active"><a href="">Self</a></li>
+			          <li><a href="other.html">Other</a></li>
+			        </ul>
+			      </nav>
+			    </header>
+			    <main></main>
+			    <footer>
+			      <p>
+			        Copyright   <em>Example</em>   Inc.
+			      </p>
+			    </footer>
+			  </body>
+			</html>
+			""";
+
+	private static final String PAGE_FORMAT = """
+			# Page %d
+
+			This is  the first paragraph
+			of page %d, with some *emphasis*  and **strong** text.
+
+			* One
+			* Two
+			* Three
+
+			```
+			  int  x = %d;
+			    return  x;
+			```
+			""";
+
+	/// The number of pages in the corpus.
+	private static final int PAGE_COUNT = 10;
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve(".template.xhtml"), TEMPLATE, UTF_8);
+		for(int pageNumber = 1; pageNumber <= PAGE_COUNT; pageNumber++) {
+			writeString(siteSourceDirectory.resolve("page-%d.md".formatted(pageNumber)), PAGE_FORMAT.formatted(pageNumber, pageNumber, pageNumber), UTF_8);
+		}
+	}
+
+	/// Verifies that minified pages are smaller than formatted pages, without comments but with their preformatted content intact.
+	/// @implNote The pages are generated into the same target tree each time, verifying that incremental mummification regenerates them when the setting is
+	///           toggled even though their sources are unchanged.
+	@Test
+	public void testMinifiedPagesSmaller() throws IOException {
+		mummify(LifeCyclePhase.MUMMIFY);
+		final long formattedSize = getPagesSize();
+
+		getFixtureProjectSettings().put(PageMummifier.CONFIG_KEY_MUMMY_PAGE_MINIFY, true);
+		mummify(LifeCyclePhase.MUMMIFY);
+		final long minifiedSize = getPagesSize();
+
+		assertThat("Minified corpus of %d bytes is smaller than formatted corpus of %d bytes.".formatted(minifiedSize, formattedSize), minifiedSize,
+				is(lessThan(formattedSize)));
+		final String minifiedPage = readString(getSiteTargetDirectory().resolve("page-1.html"), UTF_8);
+		assertThat(minifiedPage, not(containsString("<!--")));
+		assertThat(minifiedPage, containsString("Copyright <em>Example</em> Inc."));
+		assertThat(minifiedPage, containsString("  int  x = 1;\n    return  x;"));
+
+		getFixtureProjectSettings().put(PageMummifier.CONFIG_KEY_MUMMY_PAGE_MINIFY, false);
+		mummify(LifeCyclePhase.MUMMIFY);
+		assertThat("Formatted pages are generated again when minification is turned off.", getPagesSize(), is(greaterThan(minifiedSize)));
+	}
+
+	/// Determines the total size of the pages in the site target directory.
+	/// @return The total number of bytes of the generated pages in the corpus.
+	/// @throws IOException if there is an error determining a page size.
+	private long getPagesSize() throws IOException {
+		long pagesSize = 0;
+		for(int pageNumber = 1; pageNumber <= PAGE_COUNT; pageNumber++) {
+			pagesSize += size(getSiteTargetDirectory().resolve("page-%d.html".formatted(pageNumber)));
+		}
+		return pagesSize;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.regex.*;
+
+import org.junit.jupiter.api.*;
+
+/// Integration test of navigation list regeneration.
+/// @author Garret Wilson
+/// @see dev.guise.mummy.mummify.page.AbstractPageMummifier#regenerateNavigationList(MummyContext, Artifact, org.w3c.dom.Element)
+public class NavigationMummifyIT extends BaseEndToEndIT {
+
+	private static final String TEMPLATE = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<!DOCTYPE html>
+			<html xmlns="http://www.w3.org/1999/xhtml" xmlns:mummy="https://guise.dev/name/mummy/">
+			<head><title>Template</title></head>
+			<body>
+			<nav><ul mummy:regenerate="regenerate"><li class="active"><a href="">Self</a></li><li><a href="other.html">Other</a></li></ul></nav>
+			<main></main>
+			</body>
+			</html>
+			""";
+
+	/// The pattern for finding the active list items in the output.
+	private static final Pattern ACTIVE_LI_PATTERN = Pattern.compile("<li class=\"active\">(.*?)</li>", Pattern.DOTALL);
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve(".template.xhtml"), TEMPLATE, UTF_8);
+		writeString(siteSourceDirectory.resolve("apple.md"), "# Apple", UTF_8);
+		writeString(siteSourceDirectory.resolve("banana.md"), "# Banana", UTF_8);
+	}
+
+	/// Verifies that pages sharing the same generated navigation list each mark only their own item as active.
+	@Test
+	public void testSharedNavigationListMarksEachPageActive() throws IOException {
+		mummify(GuiseMummy.LifeCyclePhase.MUMMIFY);
+		final String appleHtml = readString(getSiteTargetDirectory().resolve("apple.html"), UTF_8);
+		final String bananaHtml = readString(getSiteTargetDirectory().resolve("banana.html"), UTF_8);
+		assertThat(appleHtml, containsString("Banana"));
+		assertThat(findActiveLiContent(appleHtml), allOf(containsString("Apple"), not(containsString("Banana"))));
+		assertThat(bananaHtml, containsString("Apple"));
+		assertThat(findActiveLiContent(bananaHtml), allOf(containsString("Banana"), not(containsString("Apple"))));
+	}
+
+	/// Returns the content of the single active list item in the given output.
+	/// @param html The serialized page output.
+	/// @return The content of the only active list item.
+	private static String findActiveLiContent(final String html) {
+		final Matcher matcher = ACTIVE_LI_PATTERN.matcher(html);
+		assertThat("active list item", matcher.find(), is(true));
+		final String content = matcher.group(1);
+		assertThat("single active list item", matcher.find(), is(false));
+		return content;
+	}
+
+	/// Verifies that pages sharing the same generated navigation list each refer to the other pages correctly, regardless of the page for which the list was
+	/// generated.
+	@Test
+	public void testSharedNavigationListRefersToOtherPages() throws IOException {
+		mummify(GuiseMummy.LifeCyclePhase.MUMMIFY);
+		final String appleHtml = readString(getSiteTargetDirectory().resolve("apple.html"), UTF_8);
+		final String bananaHtml = readString(getSiteTargetDirectory().resolve("banana.html"), UTF_8);
+		assertThat(appleHtml, containsString("href=\"banana.html\""));
+		assertThat(bananaHtml, containsString("href=\"apple.html\""));
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static dev.guise.mummy.GuiseMummy.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.*;
+
+/// Integration test of profiling mummification.
+/// @author Garret Wilson
+/// @see BuildProfiler
+public class ProfileMummifyIT extends BaseEndToEndIT {
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve("index.md"), "# Home", UTF_8);
+		final Path fooDirectory = createDirectory(siteSourceDirectory.resolve("foo"));
+		writeString(fooDirectory.resolve("bar.md"), "# Bar", UTF_8);
+	}
+
+	/// Verifies that profiling writes reports covering the phases, the page processing stages, and the mummified pages.
+	@Test
+	public void testProfileReports() throws IOException {
+		final GuiseMummy mummy = new GuiseMummy();
+		mummy.setProfile(true);
+		mummy.mummify(getFixtureProject(), LifeCyclePhase.MUMMIFY, EnumSet.noneOf(GuiseMummy.MummyExecution.class));
+
+		final Path siteDescriptionTargetDirectory = getFixtureProject().getConfiguration().getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
+		final String jsonReport = readString(siteDescriptionTargetDirectory.resolve(BuildProfiler.JSON_REPORT_FILENAME), UTF_8);
+		assertThat(jsonReport, containsString("{\"phase\": \"INITIALIZE\""));
+		assertThat(jsonReport, containsString("{\"phase\": \"MUMMIFY\""));
+		assertThat(jsonReport, containsString("{\"stage\": \"applyTemplate\""));
+		assertThat(jsonReport, containsString("{\"stage\": \"serialize\""));
+		assertThat(jsonReport, containsString("\"sourcePath\": \"foo/bar.md\""));
+
+		final String textReport = readString(siteDescriptionTargetDirectory.resolve(BuildProfiler.TEXT_REPORT_FILENAME), UTF_8);
+		assertThat(textReport, containsString("Slowest artifacts"));
+		assertThat(textReport, containsString("foo/bar.md"));
+	}
+
+	/// Verifies that no reports are written unless profiling is enabled.
+	@Test
+	public void testNoProfileReportsByDefault() throws IOException {
+		mummify(LifeCyclePhase.MUMMIFY);
+
+		final Path siteDescriptionTargetDirectory = getFixtureProject().getConfiguration().getPath(PROJECT_CONFIG_KEY_SITE_DESCRIPTION_TARGET_DIRECTORY);
+		assertThat(exists(siteDescriptionTargetDirectory.resolve(BuildProfiler.JSON_REPORT_FILENAME)), is(false));
+		assertThat(exists(siteDescriptionTargetDirectory.resolve(BuildProfiler.TEXT_REPORT_FILENAME)), is(false));
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.*;
+import java.util.EnumSet;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.*;
+
+/// Integration test of watching a site and mummifying it as it changes.
+/// @author Garret Wilson
+/// @see GuiseMummy#watch(GuiseProject, java.util.Set)
+public class WatchMummifyIT extends BaseEndToEndIT {
+
+	/// The maximum time to wait for a change to be mummified; generous, because some platforms poll for file system changes.
+	private static final Duration CHANGE_TIMEOUT = Duration.ofSeconds(30);
+
+	@Override
+	protected void populateSiteSourceDirectory(final Path siteSourceDirectory) throws IOException {
+		super.populateSiteSourceDirectory(siteSourceDirectory);
+		writeString(siteSourceDirectory.resolve("changed.md"), "# Original Page", UTF_8);
+		final Path otherDirectory = createDirectory(siteSourceDirectory.resolve("other"));
+		writeString(otherDirectory.resolve("unchanged.md"), "# Unchanged Page", UTF_8);
+	}
+
+	/// Waits until a condition is met or the [#CHANGE_TIMEOUT] elapses.
+	/// @param condition The condition to wait for.
+	/// @return `true` if the condition was met.
+	/// @throws InterruptedException if interrupted while waiting.
+	private static boolean await(final BooleanSupplier condition) throws InterruptedException {
+		final Instant timeoutAt = Instant.now().plus(CHANGE_TIMEOUT);
+		while(!condition.getAsBoolean()) {
+			if(Instant.now().isAfter(timeoutAt)) {
+				return false;
+			}
+			Thread.sleep(50);
+		}
+		return true;
+	}
+
+	/// Verifies that changed and added pages are mummified while watching, and that unrelated pages are not regenerated.
+	@Test
+	public void testWatchMummifiesChanges() throws Exception {
+		final Path changedPage = getSiteTargetDirectory().resolve("changed.html");
+		final Path unchangedPage = getSiteTargetDirectory().resolve("other").resolve("unchanged.html");
+		final Path addedPage = getSiteTargetDirectory().resolve("other").resolve("added.html");
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<?> watching = executor.submit(() -> {
+				new GuiseMummy().watch(getFixtureProject(), EnumSet.noneOf(GuiseMummy.MummyExecution.class));
+				return null;
+			});
+			assertThat("Site was initially mummified.", await(() -> isRegularFile(unchangedPage) && isRegularFile(changedPage)), is(true));
+			final FileTime unchangedPageModifiedAt = getLastModifiedTime(unchangedPage);
+
+			final Path changedSourceFile = getSiteSourceDirectory().resolve("changed.md");
+			writeString(changedSourceFile, "# Updated Page", UTF_8);
+			//make sure the source is considered newer regardless of file system timestamp granularity
+			setLastModifiedTime(changedSourceFile, FileTime.from(getLastModifiedTime(changedPage).toInstant().plus(Duration.ofMinutes(1))));
+			assertThat("Changed page was mummified.", await(() -> {
+				try {
+					return readString(changedPage, UTF_8).contains("Updated Page");
+				} catch(final IOException ioException) { //the file may be in the process of being written
+					return false;
+				}
+			}), is(true));
+
+			writeString(getSiteSourceDirectory().resolve("other").resolve("added.md"), "# Added Page", UTF_8);
+			assertThat("Added page was mummified.", await(() -> isRegularFile(addedPage)), is(true));
+
+			assertThat("Unrelated page was not regenerated.", getLastModifiedTime(unchangedPage), is(unchangedPageModifiedAt));
+			assertThat("Watching continues until interrupted.", watching.isDone(), is(false));
+		} finally {
+			executor.shutdownNow(); //interrupts watching
+			assertThat("Watching stopped when interrupted.", executor.awaitTermination(CHANGE_TIMEOUT.toSeconds(), TimeUnit.SECONDS), is(true));
+		}
+	}
+
+}
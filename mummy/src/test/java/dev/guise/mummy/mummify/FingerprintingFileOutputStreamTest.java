@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.guise.mummy.mummify;
+
+import static dev.guise.mummy.mummify.Mummifier.*;
+import static java.nio.file.Files.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+/// Tests of [FingerprintingFileOutputStream].
+/// @author Garret Wilson
+public class FingerprintingFileOutputStreamTest {
+
+	/// Verifies that the content is written and fingerprinted, whether written as single bytes, small arrays, or arrays larger than the buffer.
+	@Test
+	void verifyWrittenContentMatchesFingerprint(@TempDir final Path tempDir) throws IOException {
+		final byte[] largeBytes = new byte[FingerprintingFileOutputStream.BUFFER_SIZE * 2 + 3];
+		Arrays.fill(largeBytes, (byte)'x');
+		final Path file = tempDir.resolve("test.html");
+		final FingerprintingFileOutputStream outputStream = new FingerprintingFileOutputStream(file);
+		try (outputStream) {
+			outputStream.write('<');
+			outputStream.write("html>".getBytes());
+			outputStream.write(largeBytes);
+			outputStream.write("</html>".getBytes());
+		}
+		final byte[] content = readAllBytes(file);
+		assertThat(content.length, is(largeBytes.length + 12));
+		assertThat(outputStream.getFingerprint(), is(FINGERPRINT_ALGORITHM.digest(content)));
+	}
+
+	/// Verifies that reusing the pooled buffer and digest for a later file does not carry over content from an earlier one, and that an existing file is
+	/// truncated.
+	@Test
+	void verifyLaterFileIndependentOfEarlierFile(@TempDir final Path tempDir) throws IOException {
+		final Path file = tempDir.resolve("test.html");
+		try (final FingerprintingFileOutputStream outputStream = new FingerprintingFileOutputStream(file)) {
+			outputStream.write("first content".getBytes());
+		}
+		final FingerprintingFileOutputStream outputStream = new FingerprintingFileOutputStream(file);
+		try (outputStream) {
+			outputStream.write("second".getBytes());
+		}
+		assertThat(readString(file), is("second"));
+		assertThat(outputStream.getFingerprint(), is(FINGERPRINT_ALGORITHM.digest("second".getBytes())));
+	}
+
+	/// Verifies that the fingerprint is not available until the stream is closed.
+	@Test
+	void verifyFingerprintRequiresClose(@TempDir final Path tempDir) throws IOException {
+		try (final FingerprintingFileOutputStream outputStream = new FingerprintingFileOutputStream(tempDir.resolve("test.html"))) {
+			assertThrows(IllegalStateException.class, outputStream::getFingerprint);
+		}
+	}
+
+}
@@ -25,6 +25,8 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -66,4 +68,54 @@ void verifyPlannedComprisedArtifacts(@TempDir final Path tempDir) throws IOExcep
 				directoryArtifact.getSubsumedArtifacts().stream().map(Artifact::getSourcePath).collect(toSet()), containsInAnyOrder(indexFile));
 	}
 
+	/// Ensures that child artifacts are planned in a deterministic order, both sequentially and when planned concurrently in a fork/join pool.
+	/// @param tempDir A temporary directory to serve as the project base directory for the planning test.
+	/// @see DirectoryMummifier#plan(MummyContext, Path, Path)
+	@Test
+	void verifyPlannedChildArtifactsDeterministicOrder(@TempDir final Path tempDir) throws IOException {
+		final Path realTempDir = tempDir.toRealPath(NOFOLLOW_LINKS);
+		final GuiseProject project = new DefaultGuiseProject(realTempDir);
+		final Path sourceDirectory = createDirectories(realTempDir.resolve("src").resolve("site"));
+		final Path targetDirectory = createDirectory(realTempDir.resolve("target"));
+		final MummyContext mummyContext = new FakeMummyContext(project, sourceDirectory, targetDirectory.resolve("site"),
+				targetDirectory.resolve("site-description"));
+		final List<Path> childFiles = new ArrayList<>();
+		for(int i = 0; i < 20; i++) {
+			childFiles.add(writeString(sourceDirectory.resolve("child%02d.md".formatted(i)), "# Child %d".formatted(i), UTF_8));
+		}
+		final Path subdirectory = createDirectory(sourceDirectory.resolve("sub"));
+		writeString(subdirectory.resolve("grandchild.md"), "# Grandchild", UTF_8);
+		final List<Path> expectedChildPaths = new ArrayList<>(childFiles);
+		expectedChildPaths.add(subdirectory);
+		final DirectoryMummifier directoryMummifier = new DirectoryMummifier();
+		final DirectoryArtifact sequentialArtifact = directoryMummifier.plan(mummyContext, sourceDirectory, targetDirectory);
+		assertThat(sequentialArtifact.getChildArtifacts().stream().map(Artifact::getSourcePath).toList(), is(expectedChildPaths));
+		try (final ForkJoinPool pool = new ForkJoinPool(4)) {
+			final DirectoryArtifact concurrentArtifact = pool.submit(() -> directoryMummifier.plan(mummyContext, sourceDirectory, targetDirectory)).join();
+			assertThat(concurrentArtifact.getChildArtifacts().stream().map(Artifact::getSourcePath).toList(), is(expectedChildPaths));
+		}
+	}
+
+	/// Ensures that page source files such as templates are found in the directory paths recorded during planning, including in ancestor directories.
+	/// @param tempDir A temporary directory to serve as the project base directory for the planning test.
+	/// @see DirectoryMummifier#plan(MummyContext, Path, Path)
+	/// @see MummyContext#findPageSourceFile(Path, String, boolean)
+	@Test
+	void verifyPageSourceFilesFoundInRecordedDirectoryPaths(@TempDir final Path tempDir) throws IOException {
+		final Path realTempDir = tempDir.toRealPath(NOFOLLOW_LINKS);
+		final GuiseProject project = new DefaultGuiseProject(realTempDir);
+		final Path sourceDirectory = createDirectories(realTempDir.resolve("src").resolve("site"));
+		final Path targetDirectory = createDirectory(realTempDir.resolve("target"));
+		final MummyContext mummyContext = new FakeMummyContext(project, sourceDirectory, targetDirectory.resolve("site"),
+				targetDirectory.resolve("site-description"));
+		final Path templateFile = writeString(sourceDirectory.resolve(".template.xhtml"), "<html xmlns=\"http://www.w3.org/1999/xhtml\"></html>", UTF_8);
+		final Path subdirectory = createDirectory(sourceDirectory.resolve("sub"));
+		writeString(subdirectory.resolve("page.md"), "# Page", UTF_8);
+		new DirectoryMummifier().plan(mummyContext, sourceDirectory, targetDirectory);
+		assertThat(mummyContext.findSourceDirectoryPaths(subdirectory).map(List::copyOf), OptionalMatchers.isPresentAndIs(List.of(subdirectory.resolve("page.md"))));
+		assertThat(mummyContext.findPageSourceFile(subdirectory, ".template", true).map(Map.Entry::getKey), OptionalMatchers.isPresentAndIs(templateFile));
+		writeString(subdirectory.resolve("other.md"), "# Other", UTF_8); //added after planning
+		assertThat("Directory is not listed again after planning.", mummyContext.findPageSourceFile(subdirectory, "other"), OptionalMatchers.isEmpty());
+	}
+
 }
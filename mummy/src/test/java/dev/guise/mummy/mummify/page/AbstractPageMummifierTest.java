@@ -31,8 +31,11 @@
 import org.junit.jupiter.api.*;
 import org.w3c.dom.*;
 
+import com.globalmentor.rdfa.def.RDFa;
 import com.globalmentor.xml.def.NsName;
 
+import dev.guise.mummy.*;
+
 /// Tests of [AbstractPageMummifier].
 /// @author Garret Wilson
 public class AbstractPageMummifierTest {
@@ -75,6 +78,113 @@ public void testMergeHeadLinks() {
 				Map.entry("b", FROM_SOURCE_DOCUMENT), Map.entry("a", FROM_SOURCE_DOCUMENT), Map.entry("c", FROM_TEMPLATE), Map.entry("y", FROM_SOURCE_DOCUMENT)));
 	}
 
+	/// @see AbstractPageMummifier#isRelocatableReference(CharSequence)
+	@Test
+	public void testIsRelocatableReference() {
+		//relative paths
+		assertThat(AbstractPageMummifier.isRelocatableReference("foo"), is(true));
+		assertThat(AbstractPageMummifier.isRelocatableReference("foo/bar.html"), is(true));
+		assertThat(AbstractPageMummifier.isRelocatableReference("../foo/"), is(true));
+		assertThat(AbstractPageMummifier.isRelocatableReference("./foo:bar"), is(true));
+		assertThat(AbstractPageMummifier.isRelocatableReference("foo.html?bar#baz"), is(true));
+		assertThat(AbstractPageMummifier.isRelocatableReference("foo-1.2+3/bar:baz"), is(true));
+		//absolute URIs
+		assertThat(AbstractPageMummifier.isRelocatableReference("https://example.com/foo"), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("mailto:jdoe@example.com"), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("tel:+1-555-0100"), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("urn:isbn:0451450523"), is(false));
+		//absolute and network paths
+		assertThat(AbstractPageMummifier.isRelocatableReference("/foo/bar.html"), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("//example.com/foo"), is(false));
+		//no path
+		assertThat(AbstractPageMummifier.isRelocatableReference(""), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("#foo"), is(false));
+		assertThat(AbstractPageMummifier.isRelocatableReference("?foo"), is(false));
+	}
+
+	/// Verifies that transformations are applied together in a single traversal, in order, and that the children of a removed element are not traversed.
+	/// @see AbstractPageMummifier#transformDocument(Document, List)
+	@Test
+	public void testTransformDocument() throws Exception {
+		final Document document = createXHTMLDocument("test");
+		final Element bodyElement = findHtmlBodyElement(document).orElseThrow(IllegalStateException::new);
+		final Element divElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_DIV);
+		divElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_P));
+		bodyElement.appendChild(divElement);
+		bodyElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_SPAN));
+		final AbstractPageMummifier mummifier = mock(AbstractPageMummifier.class, CALLS_REAL_METHODS);
+		final List<String> visitedElementNames = new ArrayList<>();
+		final AbstractPageMummifier.ElementTransformation removeDiv = element -> ELEMENT_DIV.equals(element.getLocalName()) ? List.of() : List.of(element);
+		final AbstractPageMummifier.ElementTransformation recordVisit = element -> {
+			visitedElementNames.add(element.getLocalName());
+			return List.of(element);
+		};
+
+		assertThat(mummifier.transformDocument(document, List.of(removeDiv, recordVisit)), is(sameInstance(document)));
+		assertThat(visitedElementNames, hasItems(ELEMENT_HTML, ELEMENT_BODY, ELEMENT_SPAN));
+		assertThat("Later transformations skip a removed element.", visitedElementNames, not(hasItem(ELEMENT_DIV)));
+		assertThat("Children of a removed element are not traversed.", visitedElementNames, not(hasItem(ELEMENT_P)));
+		assertThat(childElementsOf(bodyElement).map(Element::getLocalName).collect(toList()), contains(ELEMENT_SPAN));
+	}
+
+	/// Verifies that normalization removes named metadata and RDFa `prefix` attributes, while leaving other metadata and attributes.
+	/// @see AbstractPageMummifier#normalizeDocument(MummyContext, Artifact, Document)
+	@Test
+	public void testNormalizeDocument() throws Exception {
+		final Document document = createXHTMLDocument("test");
+		final Element htmlElement = document.getDocumentElement();
+		htmlElement.setAttributeNS(null, RDFa.ATTRIBUTE_PREFIX, "og: https://ogp.me/ns#");
+		htmlElement.setAttributeNS(null, "lang", "en");
+		final Element headElement = findHtmlHeadElement(document).orElseThrow(IllegalStateException::new);
+		final int headChildNodeCount = headElement.getChildNodes().getLength();
+		final Element namedMetaElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_META);
+		namedMetaElement.setAttributeNS(null, ELEMENT_META_ATTRIBUTE_NAME, "description");
+		headElement.appendChild(namedMetaElement);
+		final Element propertyMetaElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_META);
+		propertyMetaElement.setAttributeNS(null, RDFa.ATTRIBUTE_PROPERTY, "og:title");
+		headElement.appendChild(propertyMetaElement);
+		final Element charsetMetaElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_META);
+		charsetMetaElement.setAttributeNS(null, "charset", "UTF-8");
+		headElement.appendChild(charsetMetaElement);
+		final AbstractPageMummifier mummifier = mock(AbstractPageMummifier.class, CALLS_REAL_METHODS);
+
+		assertThat(mummifier.normalizeDocument(mock(MummyContext.class), mock(Artifact.class), document), is(sameInstance(document)));
+		assertThat("RDFa `prefix` attributes are removed.", htmlElement.hasAttributeNS(null, RDFa.ATTRIBUTE_PREFIX), is(false));
+		assertThat("Other attributes are retained.", htmlElement.getAttributeNS(null, "lang"), is("en"));
+		assertThat("Named metadata is removed, while other metadata is retained.", headElement.getChildNodes().getLength(), is(headChildNodeCount + 1));
+		assertThat(headElement.getLastChild(), is(sameInstance(charsetMetaElement)));
+	}
+
+	/// Verifies that minification removes comments and insignificant whitespace, while leaving whitespace that would be rendered.
+	/// @see AbstractPageMummifier#minifyDocument(MummyContext, Artifact, Document)
+	@Test
+	public void testMinifyDocument() throws Exception {
+		final Document document = createXHTMLDocument("test");
+		final Element bodyElement = findHtmlBodyElement(document).orElseThrow(IllegalStateException::new);
+		final int bodyChildNodeCount = bodyElement.getChildNodes().getLength();
+		bodyElement.appendChild(document.createTextNode("\n  "));
+		final Element pElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_P);
+		bodyElement.appendChild(pElement);
+		pElement.appendChild(document.createTextNode("\n  Hello \t"));
+		pElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_EM)).appendChild(document.createTextNode("big"));
+		pElement.appendChild(document.createTextNode("  new "));
+		pElement.appendChild(document.createComment("comment"));
+		pElement.appendChild(document.createTextNode(" world!\n"));
+		bodyElement.appendChild(document.createTextNode("\n  "));
+		bodyElement.appendChild(document.createComment("comment"));
+		final Element preElement = document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_PRE);
+		bodyElement.appendChild(preElement);
+		preElement.appendChild(document.createElementNS(XHTML_NAMESPACE_URI_STRING, ELEMENT_CODE)).appendChild(document.createTextNode("  foo\n    bar  "));
+		bodyElement.appendChild(document.createTextNode("\n"));
+		final AbstractPageMummifier mummifier = mock(AbstractPageMummifier.class, CALLS_REAL_METHODS);
+
+		assertThat(mummifier.minifyDocument(mock(MummyContext.class), mock(Artifact.class), document), is(sameInstance(document)));
+		assertThat("Whitespace between block elements is removed.", bodyElement.getChildNodes().getLength(), is(bodyChildNodeCount + 2));
+		assertThat("Whitespace is collapsed, and comments are removed.", pElement.getTextContent(), is("Hello big new world!"));
+		assertThat("Whitespace before an inline element is retained.", pElement.getFirstChild().getNodeValue(), is("Hello "));
+		assertThat("Whitespace in preformatted content is retained.", preElement.getTextContent(), is("  foo\n    bar  "));
+	}
+
 	/// A convenience encapsulation of the LINK element namespace and local name.
 	private static final NsName LINK_ELEMENT = NsName.of(XHTML_NAMESPACE_URI_STRING, ELEMENT_LINK);
 
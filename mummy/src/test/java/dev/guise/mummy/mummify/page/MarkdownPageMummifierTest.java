@@ -40,6 +40,7 @@
 import org.junit.jupiter.api.*;
 import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 import org.w3c.dom.*;
+import org.xml.sax.SAXException;
 
 import io.confound.config.Configuration;
 import dev.guise.mummy.*;
@@ -186,6 +187,50 @@ public void testMarkdownWithYamlPatternCloserWithNonWhitespaceNotRecognized() {
 		assertThat(matcher.group(MARKDOWN_WITH_YAML_PATTERN_MARKDOWN_GROUP), is("---\ntitle: Test\n---extra\n# Heading\n"));
 	}
 
+	/// Tests that reading front matter produces the same YAML content as matching the entire document against the pattern.
+	/// @see MarkdownPageMummifier#readYamlFrontMatter(Reader)
+	/// @see MarkdownPageMummifier#MARKDOWN_WITH_YAML_PATTERN
+	@Test
+	public void testReadYamlFrontMatterMatchesPattern() throws IOException {
+		for(final String markdown : List.of("# Heading\n\nBody text.", "---\n---\n# Heading", "---\n\nfoo: bar\n---\nbody", "---foo:bar---\n# Heading",
+				"Body text.\n---\nfoo: bar\n---\n", "---\nfoo:bar\nexample:test\n---", "---\r\nfoo: bar\r\n---\r\nbody", "---\rfoo: bar\r--- \t\rbody",
+				"---\ntitle: Test\n---extra\n# Heading\n", "---\nfoo: bar\n", "---\n---\n---\n", "---\n")) {
+			final Matcher matcher = MARKDOWN_WITH_YAML_PATTERN.matcher(markdown);
+			assertThat(matcher.matches(), is(true));
+			assertThat(markdown, readYamlFrontMatter(new StringReader(markdown)), is(Optional.ofNullable(matcher.group(MARKDOWN_WITH_YAML_PATTERN_YAML_GROUP))));
+		}
+	}
+
+	/// Tests that reading front matter reads nothing after the line closing the front matter.
+	/// @see MarkdownPageMummifier#readYamlFrontMatter(Reader)
+	@Test
+	public void testReadYamlFrontMatterStopsAtCloser() throws IOException {
+		final String frontMatter = "---\ntitle: Test\n---\n";
+		final Reader reader = new StringReader(frontMatter + "# Heading\n\nBody text.") {
+			private int readCount = 0;
+
+			@Override
+			public int read() throws IOException {
+				if(readCount++ >= frontMatter.length()) {
+					throw new AssertionError("Read past front matter.");
+				}
+				return super.read();
+			}
+
+			@Override
+			public int read(final char[] buffer, final int offset, final int length) throws IOException {
+				final int limitedLength = Math.min(length, frontMatter.length() - readCount);
+				if(limitedLength <= 0) {
+					throw new AssertionError("Read past front matter.");
+				}
+				final int count = super.read(buffer, offset, limitedLength);
+				readCount += Math.max(count, 0);
+				return count;
+			}
+		};
+		assertThat(readYamlFrontMatter(reader), isPresentAndIs("title: Test\n"));
+	}
+
 	/// Tests that a YAML syntax error in front matter is wrapped as an [IOException]
 	/// with the original [YamlEngineException] preserved as the cause.
 	/// @see MarkdownPageMummifier#loadSourceMetadata(MummyContext, InputStream, String)
@@ -360,4 +405,59 @@ public void testTypographicConversions() throws IOException {
 		assertThat(findFirstParagraphText(document), isPresentAndIs("it's working --- or not"));
 	}
 
+	/// Tests that Markdown rendered directly as DOM nodes results in the same body content as rendering the Markdown as HTML and parsing the result.
+	/// @see MarkdownPageMummifier#loadSourceDocument(MummyContext, InputStream, String)
+	/// @see MarkdownDomRenderer
+	@Test
+	void testDirectDomRenderingMatchesParsedHtml() throws IOException, SAXException {
+		final String markdown = """
+				# Heading *emphasized*
+
+				Paragraph with **strong**, `code`, a [link](https://example.com/ "Title"), an ![image *alt*](image.png), x^2^ and &copy; &amp; entities.\s\s
+				After a hard break
+				and a soft break.
+
+				> Quoted paragraph.
+
+				- one
+				- two
+				  1. nested
+
+				3. three
+				4. four
+
+				Paragraph between lists and code.
+
+				    indented code
+
+				```java
+				fenced code
+				```
+
+				---
+				""";
+		final MarkdownPageMummifier mummifier = new MarkdownPageMummifier();
+		final com.vladsch.flexmark.util.ast.Document markdownDocument = mummifier.getParser().parse(markdown);
+		assertThat(mummifier.getDomRenderer().isRenderable(markdownDocument), is(true));
+		final Document document;
+		try (final InputStream inputStream = new ByteArrayInputStream(markdown.getBytes(UTF_8))) {
+			document = mummifier.loadSourceDocument(mummyContext, inputStream, "test.md");
+		}
+		assertThat(findTitle(document), isPresentAndIs("test"));
+		final String htmlBody = "<body xmlns=\"%s\">\n%s</body>".formatted(XHTML_NAMESPACE_URI_STRING, mummifier.getHtmlRenderer().render(markdownDocument));
+		final Element expectedBody = mummyContext.getPageDocumentBuilder().parse(new ByteArrayInputStream(htmlBody.getBytes(UTF_8))).getDocumentElement();
+		expectedBody.normalize();
+		final Element body = findHtmlBodyElement(document).orElseThrow(AssertionError::new);
+		assertThat(body.isEqualNode(expectedBody), is(true));
+	}
+
+	/// Tests that Markdown containing raw HTML is not rendered directly as DOM nodes.
+	/// @see MarkdownDomRenderer#isRenderable(com.vladsch.flexmark.util.ast.Node)
+	@Test
+	void testRawHtmlNotDirectlyRenderable() {
+		final MarkdownPageMummifier mummifier = new MarkdownPageMummifier();
+		assertThat(mummifier.getDomRenderer().isRenderable(mummifier.getParser().parse("Some <em>inline</em> HTML.")), is(false));
+		assertThat(mummifier.getDomRenderer().isRenderable(mummifier.getParser().parse("<div>\nBlock HTML.\n</div>\n")), is(false));
+	}
+
 }
@@ -16,21 +16,28 @@
 
 package dev.guise.mummy.mummify.page;
 
+import static com.github.npathai.hamcrestopt.OptionalMatchers.*;
+import static com.globalmentor.html.def.HTML.*;
 import static com.globalmentor.java.OperatingSystem.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.Files.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.io.*;
 import java.net.URI;
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.time.*;
 import java.util.*;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
 
 import io.confound.config.Configuration;
 import dev.guise.mummy.*;
 import io.urf.URF.Handle;
+import io.urf.model.UrfObject;
 
 /// Tests of [XhtmlPageMummifier].
 /// @author Garret Wilson
@@ -71,4 +78,158 @@ public void testSimpleXhtmlMetadata() throws IOException {
 		}
 	}
 
+	/// Verifies that documents declaring an XHTML DOCTYPE can be parsed repeatedly on the same thread, reusing the page document builder, with the DTD entities
+	/// resolved each time.
+	/// @see MummyContext#getPageDocumentBuilder()
+	@Test
+	public void testLoadXhtmlDoctypeDocumentRepeatedly() throws IOException {
+		final String xhtml = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<!DOCTYPE html PUBLIC "-//W3C//DTD XHTML 1.0 Strict//EN" "http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd">
+				<html xmlns="http://www.w3.org/1999/xhtml"><head><title>Test</title></head><body><p>caf&eacute;</p></body></html>
+				""";
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		for(int i = 0; i < 2; i++) {
+			final org.w3c.dom.Document document = mummifier.loadSourceDocument(mummyContext, new ByteArrayInputStream(xhtml.getBytes(UTF_8)), "test.xhtml");
+			assertThat(document.getDocumentElement().getTextContent(), containsString("caf\u00E9"));
+		}
+		assertThat(mummyContext.getPageDocumentBuilder(), is(sameInstance(mummyContext.getPageDocumentBuilder())));
+	}
+
+	/// Verifies that scanning the head of a document finds the same metadata, in the same order, as extracting it from the loaded document.
+	/// @see XhtmlPageMummifier#scanSourceMetadata(MummyContext, InputStream, String)
+	/// @see #SIMPLE_METADATA_XHTML_RESOURCE_NAME
+	@Test
+	public void testScanSimpleXhtmlMetadataMatchesLoadedMetadata() throws IOException {
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		final List<Map.Entry<URI, Object>> loadedMetadata;
+		try (final InputStream inputStream = getClass().getResourceAsStream(SIMPLE_METADATA_XHTML_RESOURCE_NAME)) {
+			loadedMetadata = mummifier.loadSourceMetadata(mummyContext, inputStream, SIMPLE_METADATA_XHTML_RESOURCE_NAME);
+		}
+		try (final InputStream inputStream = getClass().getResourceAsStream(SIMPLE_METADATA_XHTML_RESOURCE_NAME)) {
+			assertThat(mummifier.scanSourceMetadata(mummyContext, inputStream, SIMPLE_METADATA_XHTML_RESOURCE_NAME), isPresentAndIs(loadedMetadata));
+		}
+	}
+
+	/// Verifies that scanning the head of a document declaring an XHTML DOCTYPE resolves entities using the DTD, and does not read past the head.
+	/// @see XhtmlPageMummifier#scanSourceMetadata(MummyContext, InputStream, String)
+	@Test
+	public void testScanXhtmlDoctypeMetadata() throws IOException {
+		final String xhtml = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<!DOCTYPE html PUBLIC "-//W3C//DTD XHTML 1.0 Strict//EN" "http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd">
+				<html xmlns="http://www.w3.org/1999/xhtml"><head><title>Caf&eacute;</title><meta name="label" content="Menu" /></head><body><p>&undefined;</p></body></html>
+				""";
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		assertThat(mummifier.scanSourceMetadata(mummyContext, new ByteArrayInputStream(xhtml.getBytes(UTF_8)), "test.xhtml"),
+				isPresentAndIs(List.of(Map.entry(Handle.toTag("title"), "Caf\u00E9"), Map.entry(Handle.toTag("label"), "Menu"))));
+	}
+
+	/// Verifies that a document with a document element outside the XHTML namespace is not scanned, so that it will be loaded instead.
+	/// @see XhtmlPageMummifier#scanSourceMetadata(MummyContext, InputStream, String)
+	@Test
+	public void testScanNonXhtmlDocumentNotScanned() throws IOException {
+		final String xml = "<html><head><title>Test</title></head></html>";
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		assertThat(mummifier.scanSourceMetadata(mummyContext, new ByteArrayInputStream(xml.getBytes(UTF_8)), "test.xhtml"), isEmpty());
+	}
+
+	/// Verifies that the excerpt determined when a page is first listed is provided from the build index without loading the source document again, and that
+	/// the artifact description is not modified.
+	/// @see PageMummifier#loadExcerpt(MummyContext, CorporealSourceArtifact)
+	/// @see BuildIndex#findExcerpt(Path, Instant)
+	@Test
+	public void testIndexedExcerptLoadedWithoutSource(@TempDir final Path tempDir) throws IOException {
+		final Path sourceFile = writeString(tempDir.resolve("post.xhtml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<html xmlns="http://www.w3.org/1999/xhtml">
+				<head><title>Post</title></head>
+				<body>
+				<p> </p>
+				<section><p>Caf\u00E9 &amp; <a href="other.xhtml">more</a>.</p></section>
+				<p>Second paragraph.</p>
+				</body>
+				</html>
+				""", UTF_8);
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		final DefaultSourceFileArtifact artifact = new DefaultSourceFileArtifact(mummifier, sourceFile, tempDir.resolve("post.html"),
+				createDescription(SOURCE_MODIFIED_AT));
+		final BuildIndex buildIndex = new BuildIndex(tempDir, tempDir.resolve(BuildIndex.FILENAME));
+		final MummyContext indexedContext = createIndexedContext(buildIndex);
+		final Element sourceExcerptElement = (Element)mummifier.loadExcerpt(indexedContext, artifact).orElseThrow().getFirstChild();
+		assertThat(buildIndex.findExcerpt(artifact.getTargetPath(), SOURCE_MODIFIED_AT).isPresent(), is(true));
+		assertThat(artifact.getResourceDescription().getProperties(),
+				contains(Map.entry(Artifact.PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT, SOURCE_MODIFIED_AT)));
+		delete(sourceFile);
+		final Element excerptElement = (Element)mummifier.loadExcerpt(indexedContext, artifact).orElseThrow().getFirstChild();
+		assertThat(excerptElement.getNamespaceURI(), is(XHTML_NAMESPACE_URI_STRING));
+		assertThat(excerptElement.getLocalName(), is(ELEMENT_P));
+		assertThat(excerptElement.getTextContent(), is(sourceExcerptElement.getTextContent()));
+		assertThat(excerptElement.getTextContent(), is("Caf\u00E9 & more."));
+	}
+
+	/// Verifies that a page without an excerpt is indexed as having no excerpt.
+	/// @see PageMummifier#loadExcerpt(MummyContext, CorporealSourceArtifact)
+	@Test
+	public void testIndexedNoExcerpt(@TempDir final Path tempDir) throws IOException {
+		final Path sourceFile = writeString(tempDir.resolve("page.xhtml"),
+				"<html xmlns=\"http://www.w3.org/1999/xhtml\"><head><title>Page</title></head><body><h1>Heading</h1></body></html>", UTF_8);
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		final DefaultSourceFileArtifact artifact = new DefaultSourceFileArtifact(mummifier, sourceFile, tempDir.resolve("page.html"),
+				createDescription(SOURCE_MODIFIED_AT));
+		final BuildIndex buildIndex = new BuildIndex(tempDir, tempDir.resolve(BuildIndex.FILENAME));
+		final MummyContext indexedContext = createIndexedContext(buildIndex);
+		assertThat(mummifier.loadExcerpt(indexedContext, artifact), isEmpty());
+		assertThat(buildIndex.findExcerpt(artifact.getTargetPath(), SOURCE_MODIFIED_AT), isPresentAndIs(""));
+		delete(sourceFile);
+		assertThat(mummifier.loadExcerpt(indexedContext, artifact), isEmpty());
+	}
+
+	/// Verifies that an indexed excerpt is only used while the source has the modification time from which it was determined, and that the source is loaded
+	/// each time if there is no build index.
+	/// @see PageMummifier#loadExcerpt(MummyContext, CorporealSourceArtifact)
+	@Test
+	public void testIndexedExcerptReloadedWhenSourceModified(@TempDir final Path tempDir) throws IOException {
+		final Path sourceFile = writeString(tempDir.resolve("post.xhtml"),
+				"<html xmlns=\"http://www.w3.org/1999/xhtml\"><head><title>Post</title></head><body><p>Original.</p></body></html>", UTF_8);
+		final XhtmlPageMummifier mummifier = new XhtmlPageMummifier();
+		final Path targetFile = tempDir.resolve("post.html");
+		final BuildIndex buildIndex = new BuildIndex(tempDir, tempDir.resolve(BuildIndex.FILENAME));
+		final MummyContext indexedContext = createIndexedContext(buildIndex);
+		final DefaultSourceFileArtifact artifact = new DefaultSourceFileArtifact(mummifier, sourceFile, targetFile, createDescription(SOURCE_MODIFIED_AT));
+		assertThat(mummifier.loadExcerpt(indexedContext, artifact).orElseThrow().getTextContent(), is("Original."));
+		writeString(sourceFile, "<html xmlns=\"http://www.w3.org/1999/xhtml\"><head><title>Post</title></head><body><p>Updated.</p></body></html>", UTF_8);
+		assertThat(mummifier.loadExcerpt(indexedContext, artifact).orElseThrow().getTextContent(), is("Original."));
+		final DefaultSourceFileArtifact modifiedArtifact = new DefaultSourceFileArtifact(mummifier, sourceFile, targetFile,
+				createDescription(SOURCE_MODIFIED_AT.plusSeconds(1)));
+		assertThat(mummifier.loadExcerpt(indexedContext, modifiedArtifact).orElseThrow().getTextContent(), is("Updated."));
+		assertThat(mummifier.loadExcerpt(mummyContext, artifact).orElseThrow().getTextContent(), is("Updated."));
+	}
+
+	/// The source modification time used for artifacts with indexed excerpts.
+	private static final Instant SOURCE_MODIFIED_AT = Instant.parse("2026-01-02T03:04:05Z");
+
+	/// Creates an artifact description as planned for a source file with the given modification time.
+	/// @param sourceModifiedAt The modification time of the source.
+	/// @return A new description with the source modification time.
+	private static UrfObject createDescription(final Instant sourceModifiedAt) {
+		final UrfObject description = new UrfObject();
+		description.setPropertyValue(Artifact.PROPERTY_TAG_MUMMY_SOURCE_CONTENT_MODIFIED_AT, sourceModifiedAt);
+		return description;
+	}
+
+	/// Creates a context providing the given build index, for testing values kept across builds.
+	/// @param buildIndex The build index to provide.
+	/// @return A new context with the build index.
+	/// @throws IOException if there is an error creating the context.
+	private MummyContext createIndexedContext(final BuildIndex buildIndex) throws IOException {
+		final Path workingDirectory = getWorkingDirectory();
+		return new FakeMummyContext(new DefaultGuiseProject(workingDirectory, Configuration.empty()), workingDirectory, workingDirectory, workingDirectory) {
+			@Override
+			public Optional<BuildIndex> findBuildIndex() {
+				return Optional.of(buildIndex);
+			}
+		};
+	}
+
 }
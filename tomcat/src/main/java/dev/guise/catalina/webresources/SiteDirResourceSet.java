@@ -25,6 +25,7 @@
 import java.io.*;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.catalina.*;
 import org.apache.catalina.webresources.*;
@@ -117,6 +118,24 @@ public void setDescriptionFileSidecarExtension(@NonNull final String extension)
 		descriptionFileSidecarExtension = requireNonNull(extension);
 	}
 
+	@Nullable
+	private Consumer<Path> filePreparer = null;
+
+	/// Returns the strategy for preparing a file before it is served, such as by generating it on demand.
+	/// @return The file preparer, or `null` if files are served as they are.
+	public Consumer<Path> getFilePreparer() {
+		return filePreparer;
+	}
+
+	/// Sets the strategy for preparing a file before it is served, such as by generating it on demand if it is missing or out of date. The preparer is called
+	/// with the path of the file whether or not the file exists. Any runtime exception thrown by the preparer is logged, and the file is served in whatever
+	/// state it is.
+	/// @apiNote When files are generated on demand, caching should be turned off for the web resource root so that generated files are not served stale.
+	/// @param filePreparer The file preparer, or `null` if files should be served as they are.
+	public void setFilePreparer(@Nullable final Consumer<Path> filePreparer) {
+		this.filePreparer = filePreparer;
+	}
+
 	/// No-arguments constructor. The description base directory, if not changed before initialization, will be assumed to be be the same as the site base.
 	/// @apiNote This constructor is necessary if used with the [Digester].
 	public SiteDirResourceSet() {
@@ -149,6 +168,8 @@ protected void initInternal() throws LifecycleException {
 	/// {@inheritDoc}
 	/// @implSpec If creating a [FileResource], this detects Guise metadata and uses it to initialize the resource with custom Internet media type
 	///           information.
+	/// @implSpec If a file preparer has been set, it is given the opportunity to prepare the file before the file is checked.
+	/// @see #getFilePreparer()
 	@Override
 	public WebResource getResource(String path) {
 		checkPath(path);
@@ -156,6 +177,14 @@ public WebResource getResource(String path) {
 		final WebResourceRoot root = getRoot();
 		if(path.startsWith(webAppMount)) {
 			final File file = file(path.substring(webAppMount.length()), false);
+			final Consumer<Path> filePreparer = getFilePreparer();
+			if(file != null && filePreparer != null) {
+				try {
+					filePreparer.accept(file.toPath());
+				} catch(final RuntimeException runtimeException) {
+					log.error("Error preparing resource %s.".formatted(file), runtimeException);
+				}
+			}
 			if(file != null && file.exists()) {
 				if(file.isDirectory() && !isCollectionPath(path)) {
 					path += PATH_SEPARATOR;
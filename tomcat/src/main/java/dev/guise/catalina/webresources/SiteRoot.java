@@ -21,7 +21,9 @@
 import static java.util.Objects.*;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.apache.catalina.*;
 import org.apache.catalina.webresources.*;
@@ -35,6 +37,7 @@
 ///           metadata in an optional sidecar file for each file. The identification of each sidecar file is configurable using
 ///           [#setDescriptionFileSidecarPrefix(String)] and [#setDescriptionFileSidecarExtension(String)], which will be used to configure
 ///           [SiteDirResourceSet]. See that class for more details.
+/// @implSpec Any file preparer set using [#setFilePreparer(Consumer)] is likewise passed to the [SiteDirResourceSet].
 /// @see SiteDirResourceSet
 public class SiteRoot extends StandardRoot {
 
@@ -124,6 +127,23 @@ public void setDescriptionFileSidecarExtension(@NonNull final String extension)
 		descriptionFileSidecarExtension = requireNonNull(extension);
 	}
 
+	@Nullable
+	private Consumer<Path> filePreparer = null;
+
+	/// Returns the strategy for preparing a file before it is served, such as by generating it on demand.
+	/// @return The file preparer, or `null` if files are served as they are.
+	public Consumer<Path> getFilePreparer() {
+		return filePreparer;
+	}
+
+	/// Sets the strategy for preparing a file before it is served, such as by generating it on demand if it is missing or out of date.
+	/// @apiNote When files are generated on demand, caching should be turned off using [#setCachingAllowed(boolean)] so that generated files are not served
+	///          stale.
+	/// @param filePreparer The file preparer, or `null` if files should be served as they are.
+	public void setFilePreparer(@Nullable final Consumer<Path> filePreparer) {
+		this.filePreparer = filePreparer;
+	}
+
 	/// Creates the root using the context doc base as the directory for site resources descriptions.
 	public SiteRoot() {
 		this((String)null);
@@ -148,6 +168,7 @@ protected WebResourceSet createMainResourceSet() {
 						descriptionBaseFile.getAbsolutePath());
 				siteDirResourceSet.setDescriptionFileSidecarPrefix(getDescriptionFileSidecarPrefix());
 				siteDirResourceSet.setDescriptionFileSidecarExtension(getDescriptionFileSidecarExtension());
+				siteDirResourceSet.setFilePreparer(getFilePreparer());
 				return siteDirResourceSet;
 			});
 		}).orElseGet(super::createMainResourceSet);